@@ -0,0 +1,47 @@
+package done.advent2020;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import static util.BenchmarkSupport.grid;
+import static util.BenchmarkSupport.silenceStdout;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConwayCubesBenchmark {
+    @Param({"4", "8", "16"})
+    int size;
+
+    @Param({"3", "6"})
+    int generations;
+
+    String input;
+
+    @Setup(Level.Trial)
+    public void createInput() {
+        silenceStdout();
+        input = grid(size, size, 42, "#..");
+    }
+
+    @Benchmark
+    public long advanceCells() {
+        try (Scanner in = new Scanner(input)) {
+            ConwayCubes.load(in);
+        }
+        for (int gen = 1; gen <= generations; gen++) {
+            ConwayCubes.advanceCells(gen);
+        }
+        return ConwayCubes.cells.size();
+    }
+}
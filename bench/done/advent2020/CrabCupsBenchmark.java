@@ -0,0 +1,47 @@
+package done.advent2020;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static util.BenchmarkSupport.silenceStdout;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CrabCupsBenchmark {
+    private static final int MOVES = 100_000;
+
+    @Param({"1000", "100000", "1000000"})
+    int cups;
+
+    CrabCups.Game game;
+
+    @Setup(Level.Trial)
+    public void silence() {
+        silenceStdout();
+    }
+
+    @Setup(Level.Iteration)
+    public void createGame() {
+        game = new CrabCups.Game(CrabCups.INITIAL_CUPS_1, cups);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public int advance() {
+        for (int move = 0; move < MOVES; move++) {
+            game.advance(move);
+        }
+        return game.selected();
+    }
+}
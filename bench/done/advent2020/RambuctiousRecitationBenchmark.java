@@ -0,0 +1,43 @@
+package done.advent2020;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static util.BenchmarkSupport.silenceStdout;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RambuctiousRecitationBenchmark {
+    private static final long[] STARTING_NUMBERS = {0, 8, 15, 2, 12, 1, 4};
+
+    @Param({"2020", "300000", "3000000"})
+    int turns;
+
+    @Setup(Level.Trial)
+    public void silence() {
+        silenceStdout();
+    }
+
+    @Benchmark
+    public long sayNumber() {
+        RambuctiousRecitation.reset();
+
+        for (long number : STARTING_NUMBERS) {
+            RambuctiousRecitation.sayNumber(number);
+        }
+        while (RambuctiousRecitation.turnNumber <= turns) {
+            RambuctiousRecitation.sayNumber(RambuctiousRecitation.nextNumber());
+        }
+        return RambuctiousRecitation.lastNumber;
+    }
+}
@@ -0,0 +1,40 @@
+package done.advent2020;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static util.BenchmarkSupport.silenceStdout;
+import static util.Generators.seatingSystem;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SeatingSystemBenchmark {
+    @Param({"20", "50", "100"})
+    int size;
+
+    String input;
+
+    @Setup(Level.Trial)
+    public void createInput() {
+        silenceStdout();
+        input = seatingSystem(size, 42);
+    }
+
+    @Benchmark
+    public long rounds() {
+        SeatingSystem.load(input);
+        while (SeatingSystem.round()) {
+        }
+        return SeatingSystem.occupied();
+    }
+}
@@ -0,0 +1,38 @@
+package done.advent2021;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static util.BenchmarkSupport.silenceStdout;
+import static util.Generators.chiton;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChitonBenchmark {
+    @Param({"20", "50", "100"})
+    int size;
+
+    String input;
+
+    @Setup(Level.Trial)
+    public void createInput() {
+        silenceStdout();
+        input = chiton(size, 42);
+    }
+
+    @Benchmark
+    public long lowestRisk() {
+        Chiton.load(input);
+        return Chiton.lowestRisk();
+    }
+}
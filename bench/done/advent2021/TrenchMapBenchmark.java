@@ -0,0 +1,44 @@
+package done.advent2021;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import static util.BenchmarkSupport.grid;
+import static util.BenchmarkSupport.silenceStdout;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TrenchMapBenchmark {
+    @Param({"50", "100", "200"})
+    int size;
+
+    String input;
+
+    @Setup(Level.Trial)
+    public void createInput() {
+        silenceStdout();
+        String algorithm = "." + grid(511, 1, 7, "#.").trim();
+        input = algorithm + "\n\n" + grid(size, size, 42, "#.");
+    }
+
+    @Benchmark
+    public long enhance() {
+        try (Scanner in = new Scanner(input)) {
+            TrenchMap.load(in, 2);
+        }
+        TrenchMap.enhance();
+        TrenchMap.enhance();
+        return TrenchMap.countLight();
+    }
+}
@@ -0,0 +1,60 @@
+package done.advent2022;
+
+import done.advent2022.BeaconExclusionZone.Beacons;
+import done.advent2022.BeaconExclusionZone.Sensor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static util.BenchmarkSupport.silenceStdout;
+import static util.Generators.beaconExclusionZone;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BeaconExclusionZoneBenchmark {
+    private static final int SIZE = 4_000_000;
+    private static final int ROWS = 4_096;
+
+    @Param({"30", "300", "3000", "10000"})
+    int sensors;
+
+    Beacons beacons;
+    int[] rows;
+
+    @Setup(Level.Trial)
+    public void createSensors() {
+        silenceStdout();
+        beacons = new Beacons();
+        beaconExclusionZone(sensors, 42).lines()
+                                        .map(Sensor::create)
+                                        .forEach(beacons::addSensor);
+        rows = IntStream.range(0, ROWS).map(i -> i * (SIZE / ROWS)).toArray();
+    }
+
+    @Benchmark
+    public int ranges() {
+        return beacons.ranges(SIZE / 2).ranges().size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long[] coveredRows() {
+        return beacons.coverage().covered(rows);
+    }
+
+    @Benchmark
+    public Object distressBeacon() {
+        return beacons.distressBeacon(0, SIZE);
+    }
+}
@@ -0,0 +1,51 @@
+package done.advent2022;
+
+import done.advent2022.CampCleanup.Assignments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import util.LineSource;
+
+import java.util.concurrent.TimeUnit;
+
+import static util.Generators.campCleanup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CampCleanupBenchmark {
+    @Param({"1000", "100000", "4000000"})
+    int lines;
+
+    CampCleanup puzzle;
+    LineSource input;
+    Assignments assignments;
+
+    @Setup(Level.Trial)
+    public void createInput() {
+        puzzle = new CampCleanup();
+        input = LineSource.of(campCleanup(lines, 42));
+        assignments = puzzle.parse(input);
+    }
+
+    @Benchmark
+    public Assignments parse() {
+        return puzzle.parse(input);
+    }
+
+    @Benchmark
+    public long contained() {
+        return assignments.contained();
+    }
+
+    @Benchmark
+    public long overlapping() {
+        return assignments.overlapping();
+    }
+}
@@ -0,0 +1,41 @@
+package done.advent2022;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static util.BenchmarkSupport.grid;
+import static util.BenchmarkSupport.silenceStdout;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PyroclasticFlowBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    int steps;
+
+    String jets;
+
+    @Setup(Level.Trial)
+    public void createJets() {
+        silenceStdout();
+        jets = grid(10_091, 1, 42, "<>").trim();
+    }
+
+    @Benchmark
+    public long nextStep() {
+        PyroclasticFlow.Chamber chamber = new PyroclasticFlow.Chamber(jets);
+        for (int step = 0; step < steps; step++) {
+            chamber.nextStep();
+        }
+        return chamber.height();
+    }
+}
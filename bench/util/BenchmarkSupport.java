@@ -0,0 +1,26 @@
+package util;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+public final class BenchmarkSupport {
+    private BenchmarkSupport() {
+    }
+
+    public static void silenceStdout() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    public static String grid(int width, int height, long seed, String alphabet) {
+        Random random = new Random(seed);
+        StringBuilder grid = new StringBuilder((width + 1) * height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            grid.append('\n');
+        }
+        return grid.toString();
+    }
+}
@@ -0,0 +1,294 @@
+package util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static util.BenchmarkSupport.grid;
+
+// Seeded puzzle inputs of a chosen size, written in the -Dinputs.dir layout by main.
+public final class Generators {
+    public static final Map<String, Generator> FAMILIES = new LinkedHashMap<>();
+
+    static {
+        FAMILIES.put("2020/SeatingSystem", Generators::seatingSystem);
+        FAMILIES.put("2021/Chiton", Generators::chiton);
+        FAMILIES.put("2021/ReactorReboot", Generators::reactorReboot);
+        FAMILIES.put("2022/CampCleanup", Generators::campCleanup);
+        FAMILIES.put("2022/HillClimbingAlgorithm", Generators::hillClimbing);
+        FAMILIES.put("2022/TreetopTreeHouse", Generators::treetopTreeHouse);
+        FAMILIES.put("2022/BeaconExclusionZone", Generators::beaconExclusionZone);
+        FAMILIES.put("2022/MonkeyMath", Generators::monkeyMath);
+        FAMILIES.put("2022/ProboscideaVolcanium", Generators::proboscideaVolcanium);
+    }
+
+    private static final int BEACON_AREA = 4_000_000;
+    private static final int REACTOR_INIT = 50;
+    private static final int REACTOR_AREA = 100_000;
+    private static final int MAX_MONKEY_NUMBER = 1_000_000;
+    private static final int CAMP_SECTIONS = 99;
+
+    private Generators() {
+    }
+
+    @FunctionalInterface
+    public interface Generator {
+        String generate(int size, long seed);
+    }
+
+    // usage: Generators <dir> <size> [seed] [year/Name...]
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: Generators <dir> <size> [seed] [year/Name...]");
+        }
+        Path dir = Path.of(args[0]);
+        int size = Integer.parseInt(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        List<String> names = args.length > 3 ? List.of(args).subList(3, args.length) : List.copyOf(FAMILIES.keySet());
+        for (String name : names) {
+            Generator generator = FAMILIES.get(name);
+            if (generator == null) {
+                throw new IllegalArgumentException("Unknown puzzle: " + name + ", known are " + FAMILIES.keySet());
+            }
+            Path file = dir.resolve(name + ".txt");
+            try {
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, generator.generate(size, seed));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            System.out.println(file);
+        }
+    }
+
+    public static String seatingSystem(int size, long seed) {
+        return grid(size, size, seed, "LLLLLLL..");
+    }
+
+    public static String chiton(int size, long seed) {
+        return grid(size, size, seed, "123456789");
+    }
+
+    public static String treetopTreeHouse(int size, long seed) {
+        return grid(size, size, seed, "0123456789");
+    }
+
+    public static String campCleanup(int size, long seed) {
+        Random random = new Random(seed);
+        StringBuilder pairs = new StringBuilder(16 * size);
+        for (int i = 0; i < size; i++) {
+            for (int elf = 0; elf < 2; elf++) {
+                int low = 1 + random.nextInt(CAMP_SECTIONS);
+                int high = low + random.nextInt(CAMP_SECTIONS - low + 1);
+                pairs.append(elf == 0 ? "" : ",").append(low).append('-').append(high);
+            }
+            pairs.append('\n');
+        }
+        return pairs.toString();
+    }
+
+    // the top row climbs from S to E one letter at a time, so a route always exists
+    public static String hillClimbing(int size, long seed) {
+        if (size < 26) {
+            throw new IllegalArgumentException("Height map needs room for the whole alphabet: size = " + size);
+        }
+        StringBuilder rows = new StringBuilder(grid(size, size, seed, "abcdefghijklmnopqrstuvwxyz"));
+        for (int x = 0; x < size; x++) {
+            rows.setCharAt(x, (char) ('a' + 25 * x / (size - 1)));
+        }
+        rows.setCharAt(0, 'S');
+        rows.setCharAt(size - 1, 'E');
+        return rows.toString();
+    }
+
+    // no sensor reaches the hidden distress beacon
+    public static String beaconExclusionZone(int size, long seed) {
+        Random random = new Random(seed);
+        int hiddenX = random.nextInt(BEACON_AREA + 1);
+        int hiddenY = random.nextInt(BEACON_AREA + 1);
+        StringBuilder sensors = new StringBuilder();
+        for (int i = 0; i < size; ) {
+            int x = random.nextInt(BEACON_AREA + 1);
+            int y = random.nextInt(BEACON_AREA + 1);
+            int distance = Math.abs(x - hiddenX) + Math.abs(y - hiddenY);
+            if (distance < 2) {
+                continue;
+            }
+            i++;
+            int reach = 1 + random.nextInt(distance - 1);
+            int dx = random.nextInt(reach + 1);
+            int beaconX = x + (random.nextBoolean() ? dx : -dx);
+            int beaconY = y + (random.nextBoolean() ? reach - dx : dx - reach);
+            sensors.append("Sensor at x=").append(x).append(", y=").append(y)
+                   .append(": closest beacon is at x=").append(beaconX).append(", y=").append(beaconY)
+                   .append('\n');
+        }
+        return sensors.toString();
+    }
+
+    // the first steps stay inside the -50..50 initialization region
+    public static String reactorReboot(int size, long seed) {
+        Random random = new Random(seed);
+        StringBuilder steps = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            int area = i < size / 2 ? REACTOR_INIT : REACTOR_AREA;
+            steps.append(i == 0 || random.nextInt(3) > 0 ? "on" : "off");
+            for (char axis = 'x'; axis <= 'z'; axis++) {
+                int from = random.nextInt(2 * area + 1) - area;
+                int to = Math.min(area, from + random.nextInt(area / 2 + 1));
+                steps.append(axis == 'x' ? " " : ",").append(axis).append('=').append(from).append("..").append(to);
+            }
+            steps.append('\n');
+        }
+        return steps.toString();
+    }
+
+    // Both sides of root evaluate to the same number, so the humn leaf already holds the part two answer.
+    // Values are fixed top-down, which keeps every division exact; even sizes are rounded down.
+    public static String monkeyMath(int size, long seed) {
+        if (size < 3) {
+            throw new IllegalArgumentException("Monkey tree needs root and two operands: size = " + size);
+        }
+        Random random = new Random(seed);
+        Names names = new Names(random, 4, 'a');
+        List<String> monkeys = new ArrayList<>();
+        long value = 2 + random.nextInt(MAX_MONKEY_NUMBER);
+        int count = (size - 1) & ~1;
+        int left = (count / 2) | 1;
+        String first = left == 1 ? "humn" : names.next();
+        String second = names.next();
+        monkeys.add("root: " + first + " + " + second);
+        monkey(first, value, left, true, names, random, monkeys);
+        monkey(second, value, count - left, false, names, random, monkeys);
+        return String.join("\n", monkeys) + "\n";
+    }
+
+    // count is odd: one monkey plus the two odd subtrees of its operands, humn is always on the first one
+    private static void monkey(String name, long value, int count, boolean human, Names names, Random random, List<String> monkeys) {
+        if (count == 1) {
+            monkeys.add(name + ": " + value);
+            return;
+        }
+        int factor = 2 + random.nextInt(8);
+        int choice = random.nextInt(4);
+        char op;
+        long first;
+        long second;
+        if (choice == 0 && value % factor == 0) {
+            op = '*';
+            first = value / factor;
+            second = factor;
+        } else if (choice == 1 && value < MAX_MONKEY_NUMBER) {
+            op = '/';
+            first = value * factor;
+            second = factor;
+        } else if (choice == 2 && value >= 2) {
+            op = '+';
+            first = 1 + random.nextLong(value - 1);
+            second = value - first;
+        } else {
+            op = '-';
+            second = 1 + random.nextInt(MAX_MONKEY_NUMBER);
+            first = value + second;
+        }
+        int firstCount = 1 + 2 * random.nextInt((count - 1) / 2);
+        String firstName = human && firstCount == 1 ? "humn" : names.next();
+        String secondName = names.next();
+        monkeys.add(name + ": " + firstName + " " + op + " " + secondName);
+        monkey(firstName, first, firstCount, human, names, random, monkeys);
+        monkey(secondName, second, count - 1 - firstCount, false, names, random, monkeys);
+    }
+
+    // every valve hangs off an earlier one, a quarter of them have a positive flow rate
+    public static String proboscideaVolcanium(int size, long seed) {
+        if (size < 2 || size > 26 * 26) {
+            throw new IllegalArgumentException("Valve count must be in 2..676: size = " + size);
+        }
+        Random random = new Random(seed);
+        Names names = new Names(random, 2, 'A');
+        List<String> valves = new ArrayList<>();
+        valves.add("AA");
+        while (valves.size() < size) {
+            String name = names.next();
+            if (!name.equals("AA")) {
+                valves.add(name);
+            }
+        }
+        List<List<String>> tunnels = new ArrayList<>();
+        valves.forEach(valve -> tunnels.add(new ArrayList<>()));
+        for (int i = 1; i < size; i++) {
+            connect(tunnels, valves, i, random.nextInt(i));
+        }
+        for (int extra = 0; extra < size / 2; extra++) {
+            int a = random.nextInt(size);
+            int b = random.nextInt(size);
+            if (a != b && !tunnels.get(a).contains(valves.get(b))) {
+                connect(tunnels, valves, a, b);
+            }
+        }
+        StringBuilder scan = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            int rate = i > 0 && random.nextInt(4) == 0 ? 1 + random.nextInt(25) : 0;
+            List<String> next = tunnels.get(i);
+            scan.append("Valve ").append(valves.get(i)).append(" has flow rate=").append(rate)
+                .append(next.size() == 1 ? "; tunnel leads to valve " : "; tunnels lead to valves ")
+                .append(String.join(", ", next))
+                .append('\n');
+        }
+        return scan.toString();
+    }
+
+    private static void connect(List<List<String>> tunnels, List<String> valves, int a, int b) {
+        tunnels.get(a).add(valves.get(b));
+        tunnels.get(b).add(valves.get(a));
+    }
+
+    // distinct fixed-length names in a seeded order, skipping the ones puzzles reserve
+    private static final class Names {
+        private final int length;
+        private final char first;
+        private final long count;
+        private final long step;
+        private long next;
+        private long issued;
+
+        Names(Random random, int length, char first) {
+            this.length = length;
+            this.first = first;
+            this.count = (long) Math.pow(26, length);
+            long step;
+            do {
+                step = 1 + random.nextLong(count - 1);
+            } while (step % 2 == 0 || step % 13 == 0);
+            this.step = step;
+            this.next = random.nextLong(count);
+        }
+
+        String next() {
+            while (issued < count) {
+                issued++;
+                next = (next + step) % count;
+                String name = name(next);
+                if (!name.equals("root") && !name.equals("humn")) {
+                    return name;
+                }
+            }
+            throw new IllegalStateException("Names are exhausted: length = " + length);
+        }
+
+        private String name(long index) {
+            char[] name = new char[length];
+            for (int i = length - 1; i >= 0; i--) {
+                name[i] = (char) (first + index % 26);
+                index /= 26;
+            }
+            return new String(name);
+        }
+    }
+}
@@ -2,24 +2,20 @@ package active;
 
 import org.junit.jupiter.api.Test;
 
-import java.util.Scanner;
-
-import static util.LineSupplier.lines;
+import static util.LineSource.lines;
 
 public class Template {
 
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT1)) {
-            lines(in)
-                    .mapToInt(Integer::parseInt)
-                    .forEach(n -> {
+        lines(INPUT1)
+                .mapToInt(Integer::parseInt)
+                .forEach(n -> {
 
-                    });
+                });
 
-            long result = 1L;
+        long result = 1L;
 
-            System.out.println("Result: " + result);
-        }
+        System.out.println("Result: " + result);
     }
 
     @SuppressWarnings("unused")
@@ -1,218 +1,101 @@
 package done.advent2020;
 
-import done.advent2020.ConwayCubes.Cell.State;
 import org.junit.jupiter.api.Test;
 import util.LineSupplier;
+import util.SparseAutomaton;
+import util.SparseAutomaton.Neighbourhood;
 import util.Utils.IntIndex;
-import util.VectorAlgebra.R;
-import util.VectorAlgebra.V;
+import util.VectorAlgebra.Packing;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Scanner;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
-import static done.advent2020.ConwayCubes.Cell.State.ACTIVE;
-import static done.advent2020.ConwayCubes.Cell.State.EMPTY;
 import static java.util.function.Predicate.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SuppressWarnings("unused")
 public class ConwayCubes {
 
-    static final Map<Key, Cell> cells = new HashMap<>();
-    static int minX, minY, minZ, maxX, maxY, maxZ, minW, maxW;
+    static final Packing PACKING = Packing.of(4);
+    static final SparseAutomaton.Rule RULE = (active, neighbours) -> neighbours == 3 || active && neighbours == 2;
 
-    static class Cell {
-        final Key key;
-        State state;
-        int activeNeighbours;
-
-        Cell(Key key, State state) {
-            this.key = key;
-            this.state = state;
-        }
-
-        @Override
-        public String toString() {
-            return state == ACTIVE ? "#" : ".";
-        }
-
-        public String print() {
-            return (state == ACTIVE ? "#" : ".") + "[ x=" + key.x() + ", y=" + key.y() + ", z=" + key.z() + " ]";
-        }
-
-        void incNeighbours() {
-//            System.out.println("--------------------------------------------------");
-//            System.out.println("inc neighbours: " + print());
-            R.of(V.of(-1,-1,-1,-1), V.of(1,1,1,1))
-             .members()
-             .filter(v -> !v.equals(V.of(0,0,0,0)))
-             .forEach(v -> getCell(key, v.x(1), v.x(2), v.x(3), v.x(4)).inc());
-//            for (int dx = -1; dx <= 1; dx++) {
-//                for (int dy = -1; dy <= 1; dy++) {
-//                    for (int dz = -1; dz <= 1; dz++) {
-//                        for (int dw = -1; dw <= 1; dw++) {
-//                            if (dx == 0 && dy == 0 && dz == 0 && dw == 0) {
-//                                continue;
-//                            }
-////                        System.out.print("inc: x=" + (key.x() + dx) + ", y=" + (key.y() + dy) + ", z=" + (key.z() + dz));
-//                            Cell cell = getCell(key, dx, dy, dz, dw);
-//                            cell.inc();
-////                        System.out.println(", neighbours: " + cell.activeNeighbours);
-//                        }
-//                    }
-//                }
-//            }
-        }
-
-        private void inc() {
-            activeNeighbours++;
-        }
-
-        private void reset() {
-            activeNeighbours = 0;
-        }
-
-        public boolean isActive() {
-            return state == ACTIVE;
-        }
-
-        public void update() {
-            switch (state) {
-                case ACTIVE -> updateActive();
-                case EMPTY -> updateEmpty();
-            }
-        }
-
-        public void updateEmpty() {
-            state = activeNeighbours == 3
-                    ? ACTIVE
-                    : EMPTY;
-        }
-
-        public void updateActive() {
-            state = switch (activeNeighbours) {
-                case 2, 3 -> ACTIVE;
-                default -> EMPTY;
-            };
-        }
-
-        enum State {EMPTY, ACTIVE}
-    }
-
-    record Key(int x, int y, int z, int w) {
-        Key(int x, int y) {
-            this(x, y, 0, 0);
-        }
-    }
+    static SparseAutomaton cells = newCells();
 
     public static void main(String[] args) {
         try (Scanner in = new Scanner(INPUT2)) {
-            IntIndex row = new IntIndex();
-            Stream.generate(new LineSupplier(in))
-                    .takeWhile(Objects::nonNull)
-                    .filter(not(String::isBlank))
-                    .forEach(line -> parseRow(row.getAsInt(), line));
+            load(in);
 
             printCells(0);
 
-            IntStream.range(1, 6)
+            IntStream.rangeClosed(1, 6)
                     .forEach(ConwayCubes::advanceCells);
 
-            long result = cells.values().stream()
-                    .filter(Cell::isActive)
-                    .count();
+            long result = cells.size();
 
             System.out.println("Result: " + result);
         }
     }
 
-    private static void advanceCells(int gen) {
-        new ArrayList<>(cells.values()).stream()
-                .filter(Cell::isActive)
-                .forEach(Cell::incNeighbours);
+    static void load(Scanner in) {
+        cells = newCells();
+        IntIndex row = new IntIndex();
+        Stream.generate(new LineSupplier(in))
+                .takeWhile(Objects::nonNull)
+                .filter(not(String::isBlank))
+                .forEach(line -> parseRow(row.getAsInt(), line));
+    }
 
-        cells.values().forEach(Cell::update);
-        cells.values().forEach(Cell::reset);
+    static void advanceCells(int gen) {
+        cells.step();
 
         printCells(gen);
     }
 
+    private static SparseAutomaton newCells() {
+        return new SparseAutomaton(Neighbourhood.moore(PACKING), RULE);
+    }
+
     private static void printCells(int gen) {
-        long count = cells.values().stream()
-                .filter(Cell::isActive)
-                .count();
-
-        System.out.println("Generation: " + gen + ", count = " + count);
-
-        minX = cells.keySet().stream().mapToInt(Key::x).min().orElse(0);
-        maxX = cells.keySet().stream().mapToInt(Key::x).max().orElse(0);
-        minY = cells.keySet().stream().mapToInt(Key::y).min().orElse(0);
-        maxY = cells.keySet().stream().mapToInt(Key::y).max().orElse(0);
-        minZ = cells.keySet().stream().mapToInt(Key::z).min().orElse(0);
-        maxZ = cells.keySet().stream().mapToInt(Key::z).max().orElse(0);
-        minW = cells.keySet().stream().mapToInt(Key::w).min().orElse(0);
-        maxW = cells.keySet().stream().mapToInt(Key::w).max().orElse(0);
-
-        for (int w = minZ; w <= maxZ; w++) {
-            for (int z = minZ; z <= maxZ; z++) {
+        System.out.println("Generation: " + gen + ", count = " + cells.size());
+
+        long[] active = cells.toArray();
+        long minX = min(active, 1), maxX = max(active, 1);
+        long minY = min(active, 2), maxY = max(active, 2);
+        long minZ = min(active, 3), maxZ = max(active, 3);
+        long minW = min(active, 4), maxW = max(active, 4);
+
+        for (long w = minW; w <= maxW; w++) {
+            for (long z = minZ; z <= maxZ; z++) {
                 System.out.println("w="+w+", z=" + z);
-                for (int y = minY; y <= maxY; y++) {
-                    for (int x = minX; x <= maxX; x++) {
-                        Cell cell = cells.get(new Key(x, y, z, w));
-                        String ch = cell != null
-                                ? cell.toString()
-                                : ".";
-                        System.out.print(ch);
+                for (long y = minY; y <= maxY; y++) {
+                    StringBuilder line = new StringBuilder();
+                    for (long x = minX; x <= maxX; x++) {
+                        line.append(cells.contains(PACKING.pack(x, y, z, w)) ? '#' : '.');
                     }
-                    System.out.println();
+                    System.out.println(line);
                 }
                 System.out.println();
             }
         }
     }
 
-    private static Cell getCell(Key key, long dx, long dy, long dz, long dw) {
-        return getCell(key, (int)dx, (int)dy, (int)dz, (int)dw);
-    }
-
-    private static Cell getCell(Key key, int dx, int dy, int dz, int dw) {
-        return getCell(new Key(
-                key.x() + dx,
-                key.y() + dy,
-                key.z() + dz,
-                key.w() + dw
-        ));
+    private static long min(long[] cells, int pos) {
+        return LongStream.of(cells).map(cell -> PACKING.x(cell, pos)).min().orElse(0);
     }
 
-    private static Cell getCell(Key key) {
-        return cells.computeIfAbsent(key, ConwayCubes::newCell);
-    }
-
-    private static Cell newCell(Key key) {
-        return new Cell(key, EMPTY);
+    private static long max(long[] cells, int pos) {
+        return LongStream.of(cells).map(cell -> PACKING.x(cell, pos)).max().orElse(0);
     }
 
     private static void parseRow(int row, String line) {
-        IntIndex col = new IntIndex();
-        line.chars()
-                .mapToObj(ConwayCubes::toState)
-                .map(state -> new Cell(newKey(col, row), state))
-                .forEach(cell -> cells.put(cell.key, cell));
-
-    }
-
-    private static Key newKey(IntIndex col, int row) {
-        return new Key(col.getAsInt(), row);
-    }
-
-    private static State toState(int ch) {
-        return ch == '#'
-                ? ACTIVE
-                : EMPTY;
+        for (int col = 0; col < line.length(); col++) {
+            if (line.charAt(col) == '#') {
+                cells.add(PACKING.pack(col, row, 0, 0));
+            }
+        }
     }
 
     private static final String INPUT = """
@@ -234,6 +117,11 @@ public class ConwayCubes {
 
     @Test
     public void test() {
-
+        try (Scanner in = new Scanner(INPUT)) {
+            load(in);
+        }
+        assertEquals(5, cells.size());
+        cells.run(6);
+        assertEquals(848, cells.size());
     }
 }
\ No newline at end of file
@@ -2,10 +2,9 @@ package done.advent2020;
 
 import org.junit.jupiter.api.Test;
 import util.BatchSupplier;
+import util.Trace;
 import util.Utils.IntIndex;
 
-import java.io.IOException;
-import java.io.PrintStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -23,19 +22,13 @@ import static java.util.function.Predicate.not;
 
 @SuppressWarnings("unused")
 public class CrabCombat {
+    private static final Trace TRACE = Trace.of(CrabCombat.class);
 
     static final IntIndex gameCounter = new IntIndex(1);
     static Player[] players;
 
-    public static void main(String[] args) throws IOException {
-        PrintStream OUT = System.out;
-
-        try {
-            //System.setOut(new PrintStream(Files.newOutputStream(Path.of("C:/temp/crab.txt"))));
-            playCrabGame();
-        } finally {
-            System.setOut(OUT);
-        }
+    public static void main(String[] args) {
+        playCrabGame();
     }
 
     private static void playCrabGame() {
@@ -80,13 +73,13 @@ public class CrabCombat {
 
         void playCards() {
             int round = roundCounter.getAsInt();
-            System.out.println("-- Round " + round + " (Game " + gameNumber + ") --");
+            TRACE.debug(() -> "-- Round " + round + " (Game " + gameNumber + ") --");
 
             player1.printDeck();
             player2.printDeck();
 
             if (player1.deckWasPlayed() || player2.deckWasPlayed()) {
-                System.out.println("Preventing infinite loop winner is player 1\n");
+                TRACE.debug(() -> "Preventing infinite loop winner is player 1");
                 winner = player1;
                 finished = true;
                 return;
@@ -96,7 +89,7 @@ public class CrabCombat {
             int c2 = player2.playCard();
 
             if (player1.shouldPlaySubGame(c1) && player2.shouldPlaySubGame(c2)) {
-                System.out.println("Playing a sub-game to determine the winner...\n");
+                TRACE.debug(() -> "Playing a sub-game to determine the winner...");
                 Game subgame = new Game(player1.copyWithCardCount(c1), player2.copyWithCardCount(c2));
                 subgame.playGame();
                 winner = subgame.winnerIsPlayer1() ? player1 : player2;
@@ -106,7 +99,7 @@ public class CrabCombat {
 
             addCards(c1, c2);
 
-            System.out.println(winner.name + " wins the round of game " + gameNumber + "!\n");
+            TRACE.debug(() -> winner.name + " wins the round of game " + gameNumber + "!");
         }
 
         private void addCards(int c1, int c2) {
@@ -130,7 +123,7 @@ public class CrabCombat {
         }
 
         void playGame() {
-            System.out.println("=== Game " + gameNumber + " ===");
+            TRACE.debug(() -> "=== Game " + gameNumber + " ===");
             while (canPlay()) {
                 playCards();
             }
@@ -164,7 +157,7 @@ public class CrabCombat {
             playedDecks.add(String.valueOf(cards));
 
             Integer card = cards.pop();
-            System.out.println(name + " plays: " + card);
+            TRACE.trace(() -> name + " plays: " + card);
             return card;
         }
 
@@ -177,7 +170,7 @@ public class CrabCombat {
         }
 
         void printDeck() {
-            System.out.println(name + "'s deck: " + cards);
+            TRACE.trace(() -> name + "'s deck: " + cards);
         }
 
         void addCards(int c1, int c2) {
@@ -1,30 +1,27 @@
 package done.advent2020;
 
 import org.junit.jupiter.api.Test;
+import util.Trace;
+import util.collections.IntIntMap;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
 import java.util.stream.IntStream;
 
-import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SuppressWarnings("unused")
 public class CrabCups {
+    private static final Trace TRACE = Trace.of(CrabCups.class);
 
     static final int[] INITIAL_CUPS_1 = {3, 8, 9, 1, 2, 5, 4, 6, 7};
     static final int[] INITIAL_CUPS_2 = {1, 9, 3, 4, 6, 7, 2, 5, 8};
 
     static class Game {
-        final Set<Integer> pickUp = new LinkedHashSet<>();
-        final List<CyclicList.Entry> pickUpEntries = new ArrayList<>();
+        final int[] pickUp = new int[3];
         final CyclicList cups = new CyclicList();
         final int max;
-        CyclicList.Entry pos;
+        int pos;
 
         Game(int[] cups, int max) {
             for (int cup : cups) {
@@ -37,18 +34,18 @@ public class CrabCups {
         }
 
         int selected() {
-            return cups.first.value;
+            return cups.first;
         }
 
         void advance(int moveNum) {
-            System.out.println("-- move " + (moveNum + 1) + " --");
-            //printCups();
+            TRACE.debug(() -> "-- move " + (moveNum + 1) + " --");
+            TRACE.trace(this::printCups);
 
             pickUp3();
-            //System.out.println("pick up: " + pickUp);
+            TRACE.trace(() -> "pick up: " + Arrays.toString(pickUp));
 
             int dest = destination();
-            //System.out.println("destination: " + dest);
+            TRACE.trace(() -> "destination: " + dest);
 
             move3(dest);
 
@@ -63,27 +60,17 @@ public class CrabCups {
         void move3(int dest) {
             cups.moveTo(dest);
 
-            final CyclicList.Entry pickup1 = pickUpEntries.get(0);
-            final CyclicList.Entry pickup2 = pickUpEntries.get(1);
-            final CyclicList.Entry pickup3 = pickUpEntries.get(2);
-
-            cups.insert(pickup1);
-            pickup1.addAfter(pickup2);
-            pickup2.addAfter(pickup3);
+            cups.insert(pickUp[0]);
+            cups.insertAfter(pickUp[0], pickUp[1]);
+            cups.insertAfter(pickUp[1], pickUp[2]);
 
             cups.moveTo(pos);
         }
 
         void pickUp3() {
-            pickUpEntries.clear();
-            pickUpEntries.add(cups.removeNext());
-            pickUpEntries.add(cups.removeNext());
-            pickUpEntries.add(cups.removeNext());
-
-            pickUp.clear();
-            pickUp.add(pickUpEntries.get(0).value);
-            pickUp.add(pickUpEntries.get(1).value);
-            pickUp.add(pickUpEntries.get(2).value);
+            pickUp[0] = cups.removeNext();
+            pickUp[1] = cups.removeNext();
+            pickUp[2] = cups.removeNext();
         }
 
         int destination() {
@@ -100,38 +87,36 @@ public class CrabCups {
         }
 
         boolean isPickedUp(int num) {
-            return num == 0 || pickUp.contains(num);
+            return num == 0 || num == pickUp[0] || num == pickUp[1] || num == pickUp[2];
         }
 
-        private void printCups() {
-            System.out.print("cups:");
+        private String printCups() {
+            StringBuilder out = new StringBuilder("cups:");
             int sel = selected();
-            final CyclicList.Entry first = cups.first;
+            final int first = cups.first;
             do {
-                int cup = cups.first.value;
-                System.out.print(' ');
+                int cup = cups.first;
+                out.append(' ');
                 if (cup == sel) {
-                    System.out.print('(');
-                    System.out.print(cup);
-                    System.out.print(')');
+                    out.append('(').append(cup).append(')');
                 } else {
-                    System.out.print(cup);
+                    out.append(cup);
                 }
                 cups.moveForward();
             } while(cups.first != first);
 
-            System.out.println();
+            return out.toString();
         }
 
         void printAfterOne() {
             System.out.print("final: ");
             cups.moveTo(1);
             cups.moveForward();
-            final long first = cups.first.value;
+            final long first = cups.first;
             System.out.print(first);
             cups.moveForward();
             System.out.print(" * ");
-            final long second = cups.first.value;
+            final long second = cups.first;
             System.out.print(second);
             System.out.print(" = ");
             System.out.print(first * second);
@@ -139,69 +124,45 @@ public class CrabCups {
     }
 
     static class CyclicList {
-        private final Map<Integer, Entry> entryMap = new HashMap<>();
-
-        Entry first = null;
-        Entry last = null;
-
-        int size = 0;
+        private final IntIntMap next = new IntIntMap();
 
-        Entry position(int value) {
-            return entryMap.get(value);
-        }
+        int first = 0;
+        int last = 0;
 
         void add(int value) {
-            final Entry newEntry = new Entry(value);
-            if (last == null) {
-                first = last = newEntry;
+            if (last == 0) {
+                first = last = value;
+                next.put(value, value);
             } else {
-                last.addAfter(newEntry);
-                last = newEntry;
+                insertAfter(last, value);
+                last = value;
             }
-            entryMap.put(value, newEntry);
         }
 
-        void insert(Entry entry) {
-            first.addAfter(entry);
+        void insert(int value) {
+            insertAfter(first, value);
         }
 
-        Entry removeNext() {
-            Entry removed = first.next;
-            first.next = removed.next;
-            first.next.prev = first;
-            return removed;
+        void insertAfter(int position, int value) {
+            next.put(value, next.get(position));
+            next.put(position, value);
         }
 
-        void moveTo(int value) {
-            Entry entry = entryMap.get(value);
-            moveTo(entry);
+        int removeNext() {
+            int removed = next.get(first);
+            next.put(first, next.get(removed));
+            return removed;
         }
 
-        void moveTo(Entry entry) {
-            first = requireNonNull(entry);
-            last = first.prev;
+        void moveTo(int value) {
+            if (!next.containsKey(value)) {
+                throw new NoSuchElementException("Cup not found: " + value);
+            }
+            first = value;
         }
 
         void moveForward() {
-            moveTo(first.next);
-        }
-
-        private static class Entry {
-            int value;
-            Entry prev;
-            Entry next;
-
-            private Entry(int value) {
-                this.value = value;
-                this.prev = this;
-                this.next = this;
-            }
-
-            private void addAfter(Entry newEntry) {
-                newEntry.next = next;
-                newEntry.prev = this;
-                next = newEntry;
-            }
+            first = next.get(first);
         }
     }
 
@@ -2,6 +2,7 @@ package done.advent2020;
 
 import org.junit.jupiter.api.Test;
 import util.LineSupplier;
+import util.Trace;
 
 import java.math.BigInteger;
 import java.util.HashMap;
@@ -14,6 +15,7 @@ import java.util.stream.Stream;
 
 @SuppressWarnings("unused")
 public class DockingData {
+    private static final Trace TRACE = Trace.of(DockingData.class);
 
     static Supplier<MemoryMaskFunction> mask;
     static Map<BigInteger, Long> mem = new HashMap<>();
@@ -36,7 +38,7 @@ public class DockingData {
             mask = parseMask(line);
         } else {
             final Update update = Update.toUpdate(line);
-            System.out.println("Update: " + update);
+            TRACE.debug(() -> "Update: " + update);
             update.updateMem();
         }
     }
@@ -45,7 +47,7 @@ public class DockingData {
         int eq = line.indexOf('=') + 1;
         String maskLine = line.substring(eq).trim();
 
-        System.out.println("mask: " + maskLine);
+        TRACE.debug(() -> "mask: " + maskLine);
         return () -> addr -> {
             Stream<BigInteger> result = Stream.of(addr);
             for (int i = 0; i < maskLine.length(); i++) {
@@ -74,7 +76,7 @@ public class DockingData {
 
         void updateMem() {
             mask.get().apply(addr).forEach(memAddr -> {
-                System.out.println("update: mem[" + memAddr + "] = " + value);
+                TRACE.trace(() -> "update: mem[" + memAddr + "] = " + value);
                 mem.put(memAddr, value);
             });
         }
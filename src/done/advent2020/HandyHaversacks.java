@@ -1,6 +1,7 @@
 package done.advent2020;
 
 import org.junit.jupiter.api.Test;
+import util.Memo;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -21,17 +22,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 public class HandyHaversacks {
 
     static final Map<String, Bag> bags = new HashMap<>();
-    static final Set<String> visited = new HashSet<>();
-    static int sum = 0;
+    static final List<Bag> bagsById = new ArrayList<>();
+    static final Memo contained = new Memo(1 << 10);
 
     static class Bag {
+        final int id;
         final String type;
         final Set<String> parents = new HashSet<>();
         final List<BagEntry> contain = new ArrayList<>();
-        int sum = 0;
 
         Bag(String type) {
+            this.id = bagsById.size();
             this.type = type;
+            bagsById.add(this);
         }
 
         void addParent(String parent) {
@@ -61,21 +64,15 @@ public class HandyHaversacks {
                     .forEach(bag -> bags.put(bag.type, bag));
 
             Bag shinyGoldBag = bags.get("shiny gold");
-            int sum = visit(1, shinyGoldBag);
-            int result = sum - 1;
+            long result = contained(shinyGoldBag.id);
             System.out.println("Result: " + result);
         }
     }
 
-    private static int visit(int count, Bag bag) {
-        if (!visited.contains(bag.type)) {
-            bag.sum = bag.contain.stream()
-                    .mapToInt(entry -> visit(entry.count, toBag(entry.type)))
-                    .sum();
-
-            visited.add(bag.type);
-        }
-        return count + count * bag.sum;
+    private static long contained(long id) {
+        return contained.get(id, key -> bagsById.get((int) key).contain.stream()
+                                                .mapToLong(entry -> entry.count * (1 + contained(toBag(entry.type).id)))
+                                                .sum());
     }
 
     private static Bag toBag(String type) {
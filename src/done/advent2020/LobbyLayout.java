@@ -2,92 +2,28 @@ package done.advent2020;
 
 import org.junit.jupiter.api.Test;
 import util.LineSupplier;
+import util.SparseAutomaton;
+import util.SparseAutomaton.Neighbourhood;
+import util.VectorAlgebra.Packing;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Scanner;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.function.Predicate.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SuppressWarnings("unused")
 public class LobbyLayout {
 
-    static final Map<Coord, Tile> tiles = new HashMap<>();
+    static final Packing PACKING = Packing.of(2);
+    static final SparseAutomaton.Rule RULE = (black, neighbours) -> neighbours == 2 || black && neighbours == 1;
 
-    static class Tile {
-        private final Coord coord;
-        private Color color;
-        private long blackNeighbours;
-
-        Tile(Coord coord) {
-            this.coord = coord;
-            this.color = Color.WHITE;
-        }
-
-        void addBlackNeighbour() {
-            blackNeighbours++;
-        }
-
-        void reset() {
-            blackNeighbours = 0;
-        }
-
-        void updateColor() {
-            switch(color) {
-                case WHITE -> updateWhite();
-                case BLACK -> updateBlack();
-            };
-        }
-
-        void findNeigbours() {
-            blackNeighbours = neighhbours().filter(Tile::isBlack).count();
-        }
-
-        private void updateWhite() {
-            if (blackNeighbours == 2) {
-                color = Color.BLACK;
-            }
-        }
-
-        private void updateBlack() {
-            if (blackNeighbours < 1 || blackNeighbours > 2) {
-                color = Color.WHITE;
-            }
-        }
-
-        void flip() {
-            color = (color == Color.WHITE)
-                    ? Color.BLACK
-                    : Color.WHITE;
-        }
-
-        boolean isBlack() {
-            return color == Color.BLACK;
-        }
-
-        Stream<Tile> neighhbours() {
-            return coord.adjacent().map(Tile::fromCoord);
-        }
-
-        static Tile fromCoord(Coord coord) {
-            return tiles.computeIfAbsent(coord, c -> new Tile(coord));
-        }
-    }
+    static SparseAutomaton tiles = newTiles();
 
     record Coord(int x, int y) {
-        Stream<Coord> adjacent() {
-            return Stream.of(
-                    new Coord(x + 1, y), // e
-                    new Coord(x - 1, y), // w
-                    new Coord(x, y + 1), // ne
-                    new Coord(x - 1, y + 1), // nw
-                    new Coord(x, y - 1), // sw
-                    new Coord(x + 1, y - 1)  // se
-            );
+        long key() {
+            return PACKING.pack(x, y);
         }
 
         static Coord fromDirections(String directions) {
@@ -119,40 +55,33 @@ public class LobbyLayout {
         }
     }
 
-    enum Color {
-        BLACK,
-        WHITE
-    }
-
     static void flipTile(String directions) {
-        Coord coord = Coord.fromDirections(directions);
-        Tile.fromCoord(coord).flip();
+        tiles.flip(Coord.fromDirections(directions).key());
     }
 
-    public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT2)) {
+    static void load(String input) {
+        tiles = newTiles();
+        try (Scanner in = new Scanner(input)) {
             Stream.generate(new LineSupplier(in))
                   .takeWhile(Objects::nonNull)
+                  .map(String::strip)
                   .filter(not(String::isBlank))
                   .forEach(LobbyLayout::flipTile);
+        }
+    }
+
+    private static SparseAutomaton newTiles() {
+        return new SparseAutomaton(Neighbourhood.hexAxial(PACKING), RULE);
+    }
 
-            IntStream.range(0, 100).forEach(round -> {
-                // this adds all tiles adjacent to black
-                new HashSet<>(tiles.values())
-                        .stream()
-                        .filter(Tile::isBlack)
-                        .flatMap(Tile::neighhbours)
-                        .forEach(Tile::reset);
+    public static void main(String[] args) {
+        load(INPUT2);
 
-                new HashSet<>(tiles.values()).forEach(Tile::findNeigbours);
-                tiles.values().forEach(Tile::updateColor);
-                tiles.values().forEach(Tile::reset);
-            });
+        tiles.run(100);
 
-            long result = tiles.values().stream().filter(Tile::isBlack).count();
+        long result = tiles.size();
 
-            System.out.println("Result: " + result);
-        }
+        System.out.println("Result: " + result);
     }
 
     private static final String INPUT = """
@@ -527,6 +456,9 @@ public class LobbyLayout {
 
     @Test
     public void test() {
-
+        load(INPUT);
+        assertEquals(10, tiles.size());
+        tiles.run(100);
+        assertEquals(2208, tiles.size());
     }
 }
\ No newline at end of file
@@ -3,12 +3,10 @@ package done.advent2020;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Scanner;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
+import static util.BatchSource.batchLines;
 
 public class Passports {
 
@@ -144,19 +142,17 @@ public class Passports {
     }
 
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT)) {
-            List<Passport> passports = Stream.generate(new BatchSupplier(in))
-                    .takeWhile(Objects::nonNull)
-                    .map(batch -> batch.split("[\\s]"))
-                    .map(Passport::new)
-                    .collect(toList());
+        List<Passport> passports = batchLines(INPUT)
+                .parallel()
+                .map(batch -> batch.split("[\\s]"))
+                .map(Passport::new)
+                .collect(toList());
 
-            passports.forEach(System.out::println);
+        passports.forEach(System.out::println);
 
-            long validPasswports = passports.stream().filter(Passport::valid).count();
+        long validPasswports = passports.stream().filter(Passport::valid).count();
 
-            System.out.println("Result: " + validPasswports);
-        }
+        System.out.println("Result: " + validPasswports);
     }
 
     private static final String INPUT2 = "" +
@@ -1293,41 +1289,4 @@ public class Passports {
             return false;
         }
     }
-
-    private static class LineSupplier implements Supplier<String> {
-        final Scanner in;
-
-        public LineSupplier(Scanner in) {
-            this.in = in;
-        }
-
-        @Override
-        public String get() {
-            return in.hasNext()
-                    ? in.nextLine()
-                    : null;
-        }
-    }
-
-    private static class BatchSupplier implements Supplier<String> {
-        final Scanner in;
-
-        public BatchSupplier(Scanner in) {
-            this.in = in;
-        }
-
-        @Override
-        public String get() {
-            StringBuilder buffer = new StringBuilder();
-            while (in.hasNext()) {
-                String line = in.nextLine();
-                if (line.isBlank()) {
-                    break;
-                }
-                buffer.append(' ').append(line);
-            }
-            String res = buffer.toString();
-            return res.isBlank() ? null : res.trim();
-        }
-    }
 }
@@ -1,19 +1,20 @@
 package done.advent2020;
 
 import org.junit.jupiter.api.Test;
+import util.Trace;
+import util.collections.LongLongMap;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Scanner;
 import java.util.stream.Stream;
 
 @SuppressWarnings("unused")
 public class RambuctiousRecitation {
+    private static final Trace TRACE = Trace.of(RambuctiousRecitation.class);
 
     static long turnNumber = 1;
     static long lastNumber = 0;
-    static final Map<Long, List<Long>> spokenNumbers = new HashMap<>();
+    static long previousTurn = 0;
+    static final LongLongMap spokenNumbers = new LongLongMap();
 
     public static void main(String[] args) {
         try (Scanner in = new Scanner(INPUT)) {
@@ -29,29 +30,27 @@ public class RambuctiousRecitation {
         }
     }
 
-    private static void sayNumber(long number) {
-        System.out.println("Turn " + turnNumber + ": Say: " + number);
-        List<Long> turns = spokenNumbers.getOrDefault(number, List.of());
-        if (turns.size() == 2) {
-            spokenNumbers.put(number, List.of(turns.get(1), turnNumber));
-        } else if (turns.size() == 1) {
-            spokenNumbers.put(number, List.of(turns.get(0), turnNumber));
-        } else {
-            spokenNumbers.put(number, List.of(turnNumber));
-        }
+    static void sayNumber(long number) {
+        TRACE.trace(() -> "Turn " + turnNumber + ": Say: " + number);
+        previousTurn = spokenNumbers.getOrDefault(number, 0);
+        spokenNumbers.put(number, turnNumber);
 
         turnNumber++;
         lastNumber = number;
     }
 
     static long nextNumber() {
-        List<Long> turns = spokenNumbers.getOrDefault(lastNumber, List.of());
-        if (turns.size() == 1) {
-            return 0;
-        } else if (turns.size() == 2) {
-            return turns.get(1) - turns.get(0);
+        if (turnNumber == 1) {
+            throw new IllegalStateException("Invalid number of previous turns!");
         }
-        throw new IllegalStateException("Invalid number of previous turns!");
+        return previousTurn == 0 ? 0 : turnNumber - 1 - previousTurn;
+    }
+
+    static void reset() {
+        spokenNumbers.clear();
+        turnNumber = 1;
+        lastNumber = 0;
+        previousTurn = 0;
     }
 
     private static final String INPUT1 = "1,3,2" +
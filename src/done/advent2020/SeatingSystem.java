@@ -1,254 +1,119 @@
 package done.advent2020;
 
 import org.junit.jupiter.api.Test;
-import util.LineSupplier;
+import util.Automaton;
+import util.Grid2D;
 
-import java.util.Objects;
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static util.LineSource.lines;
 
 @SuppressWarnings("unused")
 public class SeatingSystem {
 
-    static Seat[][] seats;
-
-    public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT2)) {
-            seats = Stream.generate(new LineSupplier(in))
-                    .takeWhile(Objects::nonNull)
-                    .map(String::getBytes)
-                    .map(SeatingSystem::toSeats)
-                    .toArray(Seat[][]::new);
+    static final byte EMPTY = 'L';
+    static final byte OCCUPIED = '#';
+    static final byte FLOOR = '.';
 
-            long result;
-            boolean changed;
-            int round = 1;
-            do {
-//                printSeats();
+    static Automaton seats;
+    static int[] visible;
 
-                Stream.of(seats).flatMap(Stream::of).forEach(Seat::update);
+    public static void main(String[] args) {
+        load(INPUT2);
 
-                changed = Stream.of(seats)
-                        .flatMap(Stream::of)
-                        .anyMatch(Seat::isChanged);
+        long result;
+        boolean changed;
+        int round = 1;
+        do {
+//            printSeats();
 
-                Stream.of(seats).flatMap(Stream::of).forEach(Seat::reset);
+            changed = round();
 
-                result = Stream.of(seats)
-                        .flatMap(Stream::of)
-                        .filter(Seat::isOccupied)
-                        .count();
+            result = occupied();
 
-                System.out.println("Round[ "+round+" ]: " + result);
-                round++;
-            } while(changed);
+            System.out.println("Round[ "+round+" ]: " + result);
+            round++;
+        } while(changed);
 
-            result = Stream.of(seats)
-                    .flatMap(Stream::of)
-                    .filter(Seat::isOccupied)
-                    .count();
+        result = occupied();
 
-            System.out.println("Result: " + result);
-        }
+        System.out.println("Result: " + result);
     }
 
-    private static void printSeats() {
-        Stream.of(seats).forEach(row -> {
-                    Stream.of(row).map(Seat::print).forEach(System.out::print);
-                    System.out.println();
-                });
-        System.out.println();
+    static void load(String input) {
+        List<String> rows = lines(input).toList();
+        // the border is an empty seat, so every line of sight ends inside the grid
+        Grid2D grid = Grid2D.padded(rows.get(0).length(), rows.size(), 1, EMPTY).load(rows);
+        visible = visibleSeats(grid);
+        seats = new Automaton(grid, SeatingSystem::forEachVisible, SeatingSystem::next);
     }
 
-    static int rows = 0;
-
-    private static Seat[] toSeats(byte[] line) {
-        Seat[] seats = new Seat[line.length];
-        for (int i=0;i< line.length;i++) {
-            seats[i] = new Seat(rows, i, Seat.State.of(line[i]));
-        }
-        rows++;
-        return seats;
+    static boolean round() {
+        return seats.step() > 0;
     }
 
-    static class Seat {
-        final int row;
-        final int col;
-        State state;
-        State newState;
-        boolean changed = false;
-
-        Seat(int row, int col, State state) {
-            this.row = row;
-            this.col = col;
-            this.state = state;
-        }
-
-        String print() {
-            return switch (state) {
-                case OCCUPIED -> "#";
-                case EMPTY -> "L";
-                case FLOOR -> ".";
-            };
-        }
-
-        void update() {
-            newState = switch (state) {
-                case EMPTY -> updateEmpty();
-                case OCCUPIED -> updateOccupied();
-                case FLOOR -> State.FLOOR;
-            };
-            changed = newState != state;
-        }
-
-        private State updateEmpty() {
-            boolean allEmpty = Stream
-                    .of(top(), bottom(), left(), right(), topleft(), topright(), bottomleft(), bottomright())
-                    .noneMatch(State::isOccupied);
-            if (allEmpty) {
-                return State.OCCUPIED;
-            }
-            return State.EMPTY;
-        }
-
-        private State updateOccupied() {
-            long occupied = Stream
-                    .of(top(), bottom(), left(), right(), topleft(), topright(), bottomleft(), bottomright())
-                    .filter(State::isOccupied)
-                    .count();
-            return occupied >= 5
-                    ? State.EMPTY
-                    : State.OCCUPIED;
-        }
-
-        private State top() {
-            int curRow = row;
-            while (curRow > 0) {
-                curRow--;
-                if (seats[curRow][col].state != State.FLOOR) {
-                    return seats[curRow][col].state;
-                }
-            }
-            return State.FLOOR;
-        }
-
-        private State bottom() {
-            int curRow = row;
-            while (curRow < seats.length - 1) {
-                curRow++;
-                if (seats[curRow][col].state != State.FLOOR) {
-                    return seats[curRow][col].state;
-                }
-            }
-            return State.FLOOR;
-        }
+    static long occupied() {
+        return seats.grid().count(OCCUPIED);
+    }
 
-        private State left() {
-            int curCol = col;
-            while (curCol > 0) {
-                curCol--;
-                if (seats[row][curCol].state != State.FLOOR) {
-                    return seats[row][curCol].state;
-                }
-            }
-            return State.FLOOR;
-        }
+    private static byte next(Grid2D grid, int idx) {
+        byte state = grid.get(idx);
+        return switch (state) {
+            case EMPTY -> visibleOccupied(grid, idx) == 0 ? OCCUPIED : EMPTY;
+            case OCCUPIED -> visibleOccupied(grid, idx) >= 5 ? EMPTY : OCCUPIED;
+            default -> state;
+        };
+    }
 
-        private State right() {
-            int curCol = col;
-            while (curCol < seats[row].length - 1) {
-                curCol++;
-                if (seats[row][curCol].state != State.FLOOR) {
-                    return seats[row][curCol].state;
-                }
+    private static int visibleOccupied(Grid2D grid, int idx) {
+        int occupied = 0;
+        for (int i = idx * Grid2D.DIRECTIONS, end = i + Grid2D.DIRECTIONS; i < end; i++) {
+            int seat = visible[i];
+            if (seat >= 0 && grid.get(seat) == OCCUPIED) {
+                occupied++;
             }
-            return State.FLOOR;
         }
+        return occupied;
+    }
 
-        private State topleft() {
-            int curRow = row;
-            int curCol = col;
-            while (curRow > 0 && curCol > 0) {
-                curRow--;
-                curCol--;
-                if (seats[curRow][curCol].state != State.FLOOR) {
-                    return seats[curRow][curCol].state;
-                }
+    private static void forEachVisible(Grid2D grid, int idx, IntConsumer action) {
+        for (int i = idx * Grid2D.DIRECTIONS, end = i + Grid2D.DIRECTIONS; i < end; i++) {
+            if (visible[i] >= 0) {
+                action.accept(visible[i]);
             }
-            return State.FLOOR;
         }
+    }
 
-        private State topright() {
-            int curRow = row;
-            int curCol = col;
-            while (curRow > 0 && curCol < seats[row].length - 1) {
-                curRow--;
-                curCol++;
-                if (seats[curRow][curCol].state != State.FLOOR) {
-                    return seats[curRow][curCol].state;
-                }
+    // floor never changes, so the first seat along each line of sight is fixed
+    private static int[] visibleSeats(Grid2D grid) {
+        int[] visible = new int[grid.capacity() * Grid2D.DIRECTIONS];
+        Arrays.fill(visible, -1);
+        grid.forEach(idx -> {
+            if (grid.get(idx) == FLOOR) {
+                return;
             }
-            return State.FLOOR;
-        }
-
-        private State bottomleft() {
-            int curRow = row;
-            int curCol = col;
-            while (curRow < seats.length - 1 && curCol > 0) {
-                curRow++;
-                curCol--;
-                if (seats[curRow][curCol].state != State.FLOOR) {
-                    return seats[curRow][curCol].state;
+            for (int dir = 0; dir < Grid2D.DIRECTIONS; dir++) {
+                int offset = grid.offset(dir);
+                int seat = idx + offset;
+                while (grid.get(seat) == FLOOR) {
+                    seat += offset;
                 }
-            }
-            return State.FLOOR;
-        }
-
-        private State bottomright() {
-            int curRow = row;
-            int curCol = col;
-            while (curRow < seats.length - 1 && curCol < seats[row].length - 1) {
-                curRow++;
-                curCol++;
-                if (seats[curRow][curCol].state != State.FLOOR) {
-                    return seats[curRow][curCol].state;
+                if (grid.contains(grid.x(seat), grid.y(seat))) {
+                    visible[idx * Grid2D.DIRECTIONS + dir] = seat;
                 }
             }
-            return State.FLOOR;
-        }
-
-        void reset() {
-            changed = false;
-            state = newState;
-        }
-
-        boolean isChanged() {
-            return changed;
-        }
-
-        boolean isOccupied() {
-            return state.isOccupied();
-        }
-
-        enum State {
-            EMPTY,
-            OCCUPIED,
-            FLOOR,
-            ;
-
-            public static State of(byte b) {
-                return switch(b) {
-                    case 'L' -> EMPTY;
-                    case '#' -> OCCUPIED;
-                    default -> FLOOR;
-                };
-            }
+        });
+        return visible;
+    }
 
-            boolean isOccupied() {
-                return this == OCCUPIED;
-            }
-        }
+    private static void printSeats() {
+        System.out.println(seats.grid());
+        System.out.println();
     }
 
     private static final String INPUT = "" +
@@ -380,6 +245,10 @@ public class SeatingSystem {
 
     @Test
     public void test() {
-
+        load(INPUT);
+        while (round()) {
+            assertTrue(seats.generation() < 10);
+        }
+        assertEquals(26, occupied());
     }
 }
\ No newline at end of file
@@ -1,352 +1,263 @@
 package done.advent2021;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+import util.ShortestPath;
+import util.Trace;
+
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 
 import static java.lang.Math.abs;
 import static java.lang.System.lineSeparator;
-import static java.util.Comparator.comparing;
-import static java.util.function.Predicate.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class Amphipod {
-
-    private static final Pods pods = Pods.create().init(PODS_3());
+    private static final Trace TRACE = Trace.of(Amphipod.class);
 
     public static void main(String[] args) {
-        long result = pods.findMinSolution().orElseThrow().energy();
-        System.out.println("Result: " + result);
+        Burrow burrow = Burrow.of(PODS_3());
+        ShortestPath.Result result = burrow.search().trackPaths().run(burrow.start());
+        for (long state : result.path()) {
+            TRACE.debug(() -> burrow.toString(state));
+        }
+        System.out.println("Result: " + result.cost());
     }
 
     static Node home(int row, int col, Pod pod) {
-        return new Node(new Position(row, col), pod, 0);
+        return new Node(new Position(row, col), pod);
     }
 
     static Node transit(int col) {
-        return new Node(new Position(0, col), Pod.EMPTY, 0);
+        return new Node(new Position(0, col), Pod.EMPTY);
     }
 
-    record Pods(List<Node> nodes, Map<Position, Node> positions, int energy, int additionalEnergy, int level) {
-        static final AtomicInteger minEnergy = new AtomicInteger(Integer.MAX_VALUE);
-        static final AtomicInteger minAdditional = new AtomicInteger(Integer.MAX_VALUE);
-        static final AtomicReference<Pods> best = new AtomicReference<>();
-
-        Pods init(List<Node> nodes) {
-            this.nodes.addAll(nodes);
-            this.nodes.forEach(node -> positions.put(node.pos, node));
-            return this;
-        }
-
-        Optional<Pods> findMinSolution() {
-            System.out.println(this);
-
-            if (homes().allMatch(Node::atHome)) {
-                System.out.println("-> All home");
-                return Optional.of(this);
+    record Position(int row, int col) {}
+
+    record Node(Position pos, Pod pod) {}
+
+    // a state packs every hallway stop and room slot as one base-5 digit
+    static final class Burrow {
+        static final int[] HALL = {0, 1, 3, 5, 7, 9, 10};
+        static final int ROOMS = 4;
+        static final Pod[] PODS = Pod.values();
+
+        private final int depth;
+        private final long start;
+        private final long solved;
+        private final long[] power;
+        private final int[] cells;
+        // the heuristic runs while moves are still being listed from cells
+        private final int[] estimate;
+
+        private Burrow(int depth, int[] start) {
+            this.depth = depth;
+            this.power = new long[HALL.length + ROOMS * depth];
+            for (int slot = 0; slot < power.length; slot++) {
+                power[slot] = slot == 0 ? 1 : 5 * power[slot - 1];
             }
-
-            List<Pods> moves = candidates()
-                    .flatMap(this::createMoves)
-                    .map(this::move)
-                    .filter(p -> p.energy < minEnergy.get())
-                    .filter(p -> p.additionalEnergy < minAdditional.get())
-                    .sorted(comparing(Pods::energy))
-                    .toList();
-
-
-            System.out.println("============ level "+level+" ============");
-            System.out.println("Trying " + moves.size() + " possible moves:");
-
-            for (Pods pods : moves) {
-                pods.findMinSolution()
-                    .filter(p -> p.energy < minEnergy.get())
-                    .filter(p -> p.additionalEnergy < minAdditional.get())
-                    .ifPresent(p -> {
-                        best.set(p);
-                        minEnergy.updateAndGet(min -> Math.min(p.energy, min));
-                        minAdditional.updateAndGet(min -> Math.min(p.additionalEnergy, min));
-                });
+            this.cells = new int[power.length];
+            this.estimate = new int[power.length];
+            this.start = encode(start);
+            int[] solved = new int[power.length];
+            for (int room = 0; room < ROOMS; room++) {
+                for (int row = 1; row <= depth; row++) {
+                    solved[slot(room, row)] = room + 1;
+                }
             }
-
-            System.out.println("Min energy: " + minEnergy + ", Min additional: " + minAdditional);
-            System.out.println("============ level "+level+" ============");
-
-            return Optional.ofNullable(best.get());
+            this.solved = encode(solved);
         }
 
-        Stream<Node> transit() {
-            return nodes.stream().filter(Node::isTransit);
-        }
-
-        Stream<Node> homes() {
-            return nodes.stream().filter(not(Node::isTransit)).filter(Node::isHome);
-        }
-
-        Stream<Node> candidates() {
-            return nodes.stream().filter(n -> n.isCandidate(this));
+        static Burrow of(List<Node> nodes) {
+            int depth = nodes.stream().mapToInt(node -> node.pos().row()).max().orElseThrow();
+            Burrow layout = new Burrow(depth, new int[HALL.length + ROOMS * depth]);
+            int[] start = new int[layout.power.length];
+            for (Node node : nodes) {
+                if (node.pod() != Pod.EMPTY) {
+                    start[layout.slot(node.pos())] = node.pod().ordinal();
+                }
+            }
+            return new Burrow(depth, start);
         }
 
-        Pods move(Node node, Node target) {
-            int delta = node.energy(target, node.pod);
-            int additional = node.additional(target, node.pod);
-            Pods pods = Pods.create(energy + delta, additionalEnergy + additional, level + 1);
-            List<Node> newNodes = new ArrayList<>();
-            newNodes.add(node.move(target));
-            newNodes.add(node.clear());
-            nodes.stream()
-                 .filter(n -> n != node)
-                 .filter(n -> n != target)
-                 .forEach(newNodes::add);
-            return pods.init(newNodes);
+        long start() {
+            return start;
         }
 
-        private Stream<Move> createMoves(Node node) {
-            return node.targets(this).map(target -> new Move(node, target));
+        ShortestPath search() {
+            return ShortestPath.dijkstra(this::moves)
+                               .heuristic(this::lowerBound)
+                               .goal(state -> state == solved);
         }
 
-        private Pods move(Move m) {
-            return move(m.node, m.target);
+        long minEnergy() {
+            return search().run(start).cost();
         }
 
-        private Node node(int row, int col) {
-            var pos = new Position(row, col);
-            if (pos.isTransit() && (col < 0 || col > 10)) {
-                throw new IllegalArgumentException("Illegal position: " + row + ", " + col);
+        private void moves(long state, ShortestPath.Edge edge) {
+            decode(state, cells);
+            for (int room = 0; room < ROOMS; room++) {
+                if (settled(room)) {
+                    continue;
+                }
+                int row = top(room);
+                int slot = slot(room, row);
+                Pod pod = PODS[cells[slot]];
+                for (int hall = 0; hall < HALL.length; hall++) {
+                    if (cells[hall] == 0 && clear(column(room), HALL[hall], -1)) {
+                        long steps = row + abs(column(room) - HALL[hall]);
+                        edge.accept(state - cells[slot] * power[slot] + cells[slot] * power[hall], steps * pod.multiplier);
+                    }
+                }
             }
-            if (!pos.isTransit()
-                    && row != 1 && row != 2 && row != 3 && row != 4
-                    && col != 2 && col != 4 && col != 6 && col != 8) {
-                throw new IllegalArgumentException("Illegal position: " + row + ", " + col);
+            for (int hall = 0; hall < HALL.length; hall++) {
+                if (cells[hall] == 0) {
+                    continue;
+                }
+                Pod pod = PODS[cells[hall]];
+                int room = cells[hall] - 1;
+                if (settled(room) && clear(HALL[hall], column(room), hall)) {
+                    int row = top(room) - 1;
+                    long steps = row + abs(column(room) - HALL[hall]);
+                    int slot = slot(room, row);
+                    edge.accept(state - cells[hall] * power[hall] + cells[hall] * power[slot], steps * pod.multiplier);
+                }
             }
-            return positions.get(pos);
         }
 
-        @Override
-        public String toString() {
-            return " --- energy " + energy + " / additional " + additionalEnergy + " ---" + lineSeparator() +
-                    "#############" + lineSeparator() +
-                    printLine(0, "#...........#") + lineSeparator() +
-                    printLine(1, "###.#.#.#.###") + lineSeparator() +
-                    printLine(2, "  #.#.#.#.#") + lineSeparator() +
-                    printLine(3, "  #.#.#.#.#") + lineSeparator() +
-                    printLine(4, "  #.#.#.#.#") + lineSeparator() +
-                    "  #########";
-        }
-
-        private String printLine(int row, String line) {
-            StringBuilder builder = new StringBuilder(line);
-            nodes.stream().filter(not(Node::isEmpty))
-                     .filter(n -> n.pos.row == row)
-                     .forEach(n -> builder.replace(n.pos.col + 1, n.pos.col + 2, n.pod.name()));
-            return builder.toString();
-        }
-
-        static Pods create() {
-            return create(0, 0, 0);
-        }
-
-        static Pods create(int energy, int additional, int level) {
-            return new Pods(new ArrayList<>(), new HashMap<>(), energy, additional, level);
-        }
-    }
-
-    record Move(Node node, Node target) {}
-
-    record Position(int row, int col) {
-        int distance(Position target) {
-            return row + target.row + abs(col - target.col);
-        }
-
-        int additional(Position target, Pod pod) {
-            if (target.col < pod.col && pod.col < col
-                    || target.col > pod.col && pod.col > col) {
-                return abs(pod.col - target.col) * 2;
+        // every pod still has to walk to the top of its own room
+        private long lowerBound(long state) {
+            int[] cells = estimate;
+            decode(state, cells);
+            long energy = 0;
+            for (int hall = 0; hall < HALL.length; hall++) {
+                if (cells[hall] != 0) {
+                    energy += (abs(HALL[hall] - column(cells[hall] - 1)) + 1L) * PODS[cells[hall]].multiplier;
+                }
             }
-            if (target.col < col && col < pod.col
-                    || target.col > col && col > pod.col) {
-                return abs(col - target.col) * 2;
+            for (int room = 0; room < ROOMS; room++) {
+                boolean blocking = false;
+                for (int row = depth; row >= 1; row--) {
+                    int pod = cells[slot(room, row)];
+                    if (pod == 0) {
+                        break;
+                    }
+                    blocking |= pod != room + 1;
+                    if (blocking) {
+                        int detour = pod == room + 1 ? 2 : abs(column(room) - column(pod - 1));
+                        energy += (row + detour + 1L) * PODS[pod].multiplier;
+                    }
+                }
             }
-            return 0;
+            return energy;
         }
 
-        boolean isTransit() {
-            return row == 0
-                    && col != Pod.A.col
-                    && col != Pod.B.col
-                    && col != Pod.C.col
-                    && col != Pod.D.col;
-        }
-
-        boolean isHome() {
-            return row > 0;
-        }
-    }
-
-    record Node(Position pos, Pod pod, int moved) {
-        private static final Comparator<Node> COMPARE_BY_ROW_DESC =
-                Comparator.<Node>comparingInt(n -> n.pos.row).reversed();
-
-        int energy(Node target, Pod pod) {
-            return pod.multiplier * distance(target);
-        }
-
-        int additional(Node target, Pod pod) {
-            if (target.isTransit()) {
-                return pos.additional(target.pos, pod) * pod.multiplier;
+        private boolean settled(int room) {
+            for (int row = 1; row <= depth; row++) {
+                int pod = cells[slot(room, row)];
+                if (pod != 0 && pod != room + 1) {
+                    return false;
+                }
             }
-            return 0;
-        }
-
-        int distance(Node target) {
-            return pos.distance(target.pos);
-        }
-
-        boolean isEmpty() {
-            return pod == Pod.EMPTY;
+            return true;
         }
 
-        boolean isTransit() {
-            return pos.isTransit();
-        }
-
-        boolean isHome() {
-            return pos.isHome();
-        }
-
-        boolean atHome() {
-            return pod.atHome(pos);
+        private int top(int room) {
+            int row = 1;
+            while (row <= depth && cells[slot(room, row)] == 0) {
+                row++;
+            }
+            return row;
         }
 
-        boolean isFrozen(Pods pods) {
-            return atHome() && switch(pos.row) {
-                case 1 -> pods.node(2, pos.col).atHome()
-                        && pods.node(3, pos.col).atHome()
-                        && pods.node(4, pos.col).atHome();
-                case 2 -> pods.node(3, pos.col).atHome()
-                        && pods.node(4, pos.col).atHome();
-                case 3 -> pods.node(4, pos.col).atHome();
-                case 4 -> true;
-                default -> false;
-            };
+        private boolean clear(int from, int to, int skip) {
+            int low = Math.min(from, to);
+            int high = Math.max(from, to);
+            for (int hall = 0; hall < HALL.length; hall++) {
+                if (hall != skip && HALL[hall] >= low && HALL[hall] <= high && cells[hall] != 0) {
+                    return false;
+                }
+            }
+            return true;
         }
 
-        boolean isCandidate(Pods pods) {
-            return !isEmpty() && !isFrozen(pods);
+        private static int column(int room) {
+            return 2 + 2 * room;
         }
 
-        Node move(Node target) {
-            return new Node(target.pos, pod, moved + 1);
+        private int slot(int room, int row) {
+            return HALL.length + room * depth + row - 1;
         }
 
-        Node clear() {
-            return new Node(pos, Pod.EMPTY, 0);
+        private int slot(Position pos) {
+            if (pos.row() == 0) {
+                for (int hall = 0; hall < HALL.length; hall++) {
+                    if (HALL[hall] == pos.col()) {
+                        return hall;
+                    }
+                }
+                throw new IllegalArgumentException("Illegal position: " + pos.row() + ", " + pos.col());
+            }
+            return slot(pos.col() / 2 - 1, pos.row());
         }
 
-        Stream<Node> targets(Pods pods) {
-            if (moved >= 1) {
-                return homes(pods);
+        private long encode(int[] cells) {
+            long state = 0;
+            for (int slot = cells.length - 1; slot >= 0; slot--) {
+                state = 5 * state + cells[slot];
             }
-            return Stream.concat(
-                    homes(pods),
-                    pods.transit()
-                        .filter(Node::isEmpty)
-                        .filter(n -> canMove(pods, n))
-            );
+            return state;
         }
 
-        private Stream<Node> homes(Pods pods) {
-            return pods.homes()
-                       .filter(Node::isEmpty)
-                       .filter(n -> pod.atHome(n.pos))
-                       .filter(n -> canMove(pods, n))
-                       .sorted(Node.COMPARE_BY_ROW_DESC)
-                       .limit(1);
+        private void decode(long state, int[] cells) {
+            for (int slot = 0; slot < cells.length; slot++) {
+                cells[slot] = (int) (state % 5);
+                state /= 5;
+            }
         }
 
-        private boolean canMove(Pods pods, Node target) {
-            if (target.pos.col < pod.minCol || target.pos.col > pod.maxCol) {
-                return false;
+        String toString(long state) {
+            decode(state, cells);
+            StringBuilder hallway = new StringBuilder("#...........#");
+            for (int hall = 0; hall < HALL.length; hall++) {
+                if (cells[hall] != 0) {
+                    hallway.setCharAt(HALL[hall] + 1, PODS[cells[hall]].name().charAt(0));
+                }
             }
-            int minCol = Math.min(pos.col, target.pos.col);
-            int maxCol = Math.max(pos.col, target.pos.col);
-            boolean transitIsEmpty = pods.transit()
-                                         .filter(n -> n.pos.col > minCol)
-                                         .filter(n -> n.pos.col < maxCol)
-                                         .allMatch(Node::isEmpty);
-            boolean startColNotBlocked = switch(pos.row) {
-                case 0,1 -> true;
-                case 2 -> pods.node(1, pos.col).isEmpty();
-                case 3 -> pods.node(1, pos.col).isEmpty()
-                        && pods.node(2, pos.col).isEmpty();
-                case 4 -> pods.node(1, pos.col).isEmpty()
-                        && pods.node(2, pos.col).isEmpty()
-                        && pods.node(3, pos.col).isEmpty();
-                default -> false;
-            };
-            boolean targetColNotBlocked = switch(target.pos.row) {
-                case 0 -> target.isEmpty();
-                case 1 -> target.isEmpty()
-                        && pods.node(2, target.pos.col).atHome()
-                        && pods.node(3, target.pos.col).atHome()
-                        && pods.node(4, target.pos.col).atHome();
-                case 2 -> target.isEmpty()
-                        && pods.node(1, target.pos.col).isEmpty()
-                        && pods.node(3, target.pos.col).atHome()
-                        && pods.node(4, target.pos.col).atHome();
-                case 3 -> target.isEmpty()
-                        && pods.node(1, target.pos.col).isEmpty()
-                        && pods.node(2, target.pos.col).isEmpty()
-                        && pods.node(4, target.pos.col).atHome();
-                case 4 -> target.isEmpty()
-                        && pods.node(1, target.pos.col).isEmpty()
-                        && pods.node(2, target.pos.col).isEmpty()
-                        && pods.node(3, target.pos.col).isEmpty();
-                default -> false;
-            };
-            return transitIsEmpty && startColNotBlocked && targetColNotBlocked;
+            StringBuilder burrow = new StringBuilder("#############").append(lineSeparator()).append(hallway);
+            for (int row = 1; row <= depth; row++) {
+                StringBuilder line = new StringBuilder(row == 1 ? "###.#.#.#.###" : "  #.#.#.#.#");
+                for (int room = 0; room < ROOMS; room++) {
+                    int pod = cells[slot(room, row)];
+                    if (pod != 0) {
+                        line.setCharAt(column(room) + 1, PODS[pod].name().charAt(0));
+                    }
+                }
+                burrow.append(lineSeparator()).append(line);
+            }
+            return burrow.append(lineSeparator()).append("  #########").toString();
         }
     }
 
     enum Pod {
-        EMPTY,
-        A(1, 2),
-        B(10, 4),
-        C(100, 6, 1, 9),
-        D(1000, 8, 2, 8),
+        EMPTY(0),
+        A(1),
+        B(10),
+        C(100),
+        D(1000),
         ;
 
         private final int multiplier;
-        private final int col;
-        private final int minCol;
-        private final int maxCol;
 
-        Pod() {
-            this(0, -1);
-        }
-
-        Pod(int multiplier, int col) {
-            this(multiplier, col, 0, 10);
-        }
-
-        Pod(int multiplier, int col, int minCol, int maxCol) {
+        Pod(int multiplier) {
             this.multiplier = multiplier;
-            this.col = col;
-            this.minCol = minCol;
-            this.maxCol = maxCol;
         }
+    }
 
-        public boolean atHome(Position pos) {
-            return this != EMPTY && pos.row != 0 && pos.col == col;
-        }
+    @Test
+    public void testMinEnergy() {
+        assertEquals(12521L, Burrow.of(PODS_1()).minEnergy());
+        assertEquals(44169L, Burrow.of(PODS_1_UNFOLDED()).minEnergy());
     }
 
-    @SuppressWarnings("unused")
     static List<Node> PODS_1() {
         return List.of(
                 transit(0),
@@ -375,6 +286,30 @@ public class Amphipod {
         );
     }
 
+    static List<Node> PODS_1_UNFOLDED() {
+        return List.of(
+                home(1, 2, Pod.B),
+                home(2, 2, Pod.D),
+                home(3, 2, Pod.D),
+                home(4, 2, Pod.A),
+
+                home(1, 4, Pod.C),
+                home(2, 4, Pod.C),
+                home(3, 4, Pod.B),
+                home(4, 4, Pod.D),
+
+                home(1, 6, Pod.B),
+                home(2, 6, Pod.B),
+                home(3, 6, Pod.A),
+                home(4, 6, Pod.C),
+
+                home(1, 8, Pod.D),
+                home(2, 8, Pod.A),
+                home(3, 8, Pod.C),
+                home(4, 8, Pod.A)
+        );
+    }
+
     @SuppressWarnings("unused")
     static List<Node> PODS_2() {
         return List.of(
@@ -404,7 +339,6 @@ public class Amphipod {
         );
     }
 
-    @SuppressWarnings("unused")
     static List<Node> PODS_3() {
         return List.of(
                 transit(0),
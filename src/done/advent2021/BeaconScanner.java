@@ -1,13 +1,10 @@
 package done.advent2021;
 
-import util.BatchSupplier;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.IntStream;
@@ -18,6 +15,7 @@ import static java.lang.System.lineSeparator;
 import static java.util.Comparator.comparing;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.joining;
+import static util.BatchSource.batchLines;
 
 public class BeaconScanner {
 
@@ -88,14 +86,12 @@ public class BeaconScanner {
     }
 
     static scanner[] scanners(String input) {
-        try (Scanner in = new Scanner(input)) {
-            return Stream.generate(new BatchSupplier(in))
-                             .takeWhile(Objects::nonNull)
-                             .map(scanner::from)
-                             .map(scanner::sort)
-                             .peek(System.out::println)
-                             .toArray(scanner[]::new);
-        }
+        return batchLines(input)
+                .parallel()
+                .map(scanner::from)
+                .map(scanner::sort)
+                .peek(System.out::println)
+                .toArray(scanner[]::new);
     }
 
     static Stream<scanner_pair> scannerPairs(List<scanner> scanners) {
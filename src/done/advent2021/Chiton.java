@@ -1,181 +1,78 @@
 package done.advent2021;
 
 import org.junit.jupiter.api.Test;
-import util.LineSupplier;
+import util.Grid2D;
+import util.ShortestPath;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Scanner;
-import java.util.Set;
-import java.util.stream.Stream;
 
-import static java.util.Comparator.comparing;
-import static java.util.function.Function.identity;
-import static java.util.function.Predicate.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static util.LineSource.lines;
 
 public class Chiton {
 
-    static Points points;
-    static Map<Point, Path> bestRisk = new HashMap<>();
+    static final int MAX_RISK = 9;
 
-    public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT2)) {
-            points = new Points(createLines(in));
-            points.enlarge();
-
-            Path candidate = Path.start();
-            List<Path> paths = List.of(candidate);
+    static Grid2D risks;
+    static int koef = 1;
 
-            while (!candidate.isEnd()) {
-                paths = Stream.concat(paths.stream().skip(1), candidate.advance())
-                              .sorted(comparing(Path::risk))
-                              .toList();
-                paths.forEach(path -> bestRisk.put(path.last, path));
-                candidate = paths.get(0);
-            }
+    public static void main(String[] args) {
+        load(INPUT2);
+        enlarge();
 
-            long result = candidate.risk();
+        long result = lowestRisk();
 
-            System.out.println("Result: " + result);
-        }
+        System.out.println("Result: " + result);
     }
 
-    private static Line[] createLines(Scanner in) {
-        return Stream.generate(new LineSupplier(in))
-                     .takeWhile(Objects::nonNull)
-                     .map(Line::create)
-                     .toArray(Line[]::new);
+    static void load(String input) {
+        koef = 1;
+        List<String> rows = lines(input).toList();
+        risks = Grid2D.parse(rows);
     }
 
-    record Points(Line[] lines) {
-        private static int lastRow = -1;
-        private static int lastIdx = -1;
-        private static int koef = 1;
-
-        Point start() {
-            return point(0, 0);
-        }
-
-        Point end() {
-            return point(lastIdx(), lastRow());
-        }
-
-        void enlarge() {
-            koef = 5;
-        }
-
-        static int height() {
-            return lastRow + 1;
-        }
-
-        static int width() {
-            return lastIdx + 1;
-        }
-
-        static int lastRow() {
-            return koef * lastRow + koef - 1;
-        }
-
-        static int lastIdx() {
-            return koef * lastIdx + koef - 1;
-        }
-
-        static int nextRow() {
-            lastIdx = -1;
-            return ++lastRow;
-        }
-
-        static int nextIdx() {
-            return ++lastIdx;
-        }
-
-        Point point(int x, int y) {
-            if (x < width() && y < height()) {
-                return lines[y].points[x];
-            }
-            Point point = lines[y % height()].points[x % width()];
-            int k = (x / width()) + (y / height());
-            int risk = point.risk() + k;
-            if (risk > 9) {
-                risk -= 9;
-            }
-            return new Point(x, y, risk);
-        }
+    static void enlarge() {
+        koef = 5;
     }
 
-    record Path(Set<Point> visited, Point last, int risk) {
-        static final Path MAX = new Path(null, null, Integer.MAX_VALUE);
-
-        boolean isEnd() {
-            Point end = points.end();
-            return last.x() == end.x() && last.y() == end.y();
-        }
-
-        Stream<Path> advance() {
-            return last.neighbours()
-                       .filter(not(visited::contains))
-                       .map(this::add)
-                       .filter(Path::hasBestRisk);
-        }
-
-        boolean hasBestRisk() {
-            Path best = bestRisk.getOrDefault(last, MAX);
-            return risk < best.risk;
-        }
-
-        Path add(Point point) {
-            return new Path(append(point), point, this.risk() + point.risk());
-        }
-
-        private Set<Point> append(Point point) {
-            Set<Point> visited = new HashSet<>(this.visited);
-            visited.add(point);
-            return visited;
-        }
-
-        static Path start() {
-            Point start = points.start();
-            return new Path(Set.of(start), start, 0);
-        }
+    static long lowestRisk() {
+        int width = width();
+        int end = width * height() - 1;
+        return ShortestPath.dial(Chiton::neighbours, MAX_RISK)
+                           .dense(end + 1)
+                           .goal(state -> state == end)
+                           .run(0)
+                           .cost();
     }
 
-    record Line(int row, Point[] points) {
-        public static Line create(String line) {
-            return new Line(Points.nextRow(), createPoints(line));
-        }
-
-        private static Point[] createPoints(String line) {
-            return line.chars().mapToObj(Point::create).toArray(Point[]::new);
-        }
+    static int width() {
+        return koef * risks.width();
     }
 
-    record Point(int x, int y, int risk) {
-        Stream<Point> neighbours() {
-            return Stream.of(lower(), right(), upper(), left())
-                         .flatMap(identity());
-        }
+    static int height() {
+        return koef * risks.height();
+    }
 
-        Stream<Point> left() {
-            return x > 0 ? Stream.of(points.point(x - 1 , y)) : Stream.empty();
-        }
+    static int risk(int x, int y) {
+        int risk = risks.get(x % risks.width(), y % risks.height()) - '0' + x / risks.width() + y / risks.height();
+        return (risk - 1) % MAX_RISK + 1;
+    }
 
-        Stream<Point> right() {
-            return x < Points.lastIdx() ? Stream.of(points.point(x + 1 , y)) : Stream.empty();
+    private static void neighbours(long state, ShortestPath.Edge edge) {
+        int width = width();
+        int x = (int) (state % width);
+        int y = (int) (state / width);
+        if (y + 1 < height()) {
+            edge.accept(state + width, risk(x, y + 1));
         }
-
-        Stream<Point> upper() {
-            return y > 0 ? Stream.of(points.point(x , y - 1)) : Stream.empty();
+        if (x + 1 < width) {
+            edge.accept(state + 1, risk(x + 1, y));
         }
-
-        Stream<Point> lower() {
-            return y < Points.lastRow() ? Stream.of(points.point(x , y + 1)) : Stream.empty();
+        if (y > 0) {
+            edge.accept(state - width, risk(x, y - 1));
         }
-
-        static Point create(int c) {
-            return new Point(Points.nextIdx(), Points.lastRow, c - '0');
+        if (x > 0) {
+            edge.accept(state - 1, risk(x - 1, y));
         }
     }
 
@@ -323,6 +220,12 @@ public class Chiton {
 
     @Test
     public void test() {
+        load(INPUT1);
+        assertEquals(40, lowestRisk());
+        enlarge();
+        assertEquals(315, lowestRisk());
 
+        load(SIMPLE_INPUT2);
+        assertEquals(12, lowestRisk());
     }
 }
\ No newline at end of file
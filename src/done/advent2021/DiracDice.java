@@ -1,23 +1,18 @@
 package done.advent2021;
 
 import org.junit.jupiter.api.Test;
+import util.Memo;
 
-import java.util.EnumMap;
-import java.util.Map;
 import java.util.Scanner;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.LongAdder;
-import java.util.stream.Stream;
 
-import static done.advent2021.DiracDice.QuantumDice.quantumRoll;
-import static java.util.function.Predicate.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class DiracDice {
 
     private static final int WINNING_SCORE = 1000;
     private static final int QUANTUM_WINNING_SCORE = 21;
-
-    private static final Map<Game, LongAdder> games = new ConcurrentHashMap<>();
+    // universes per sum of three rolls of the three-sided dice
+    private static final int[] QUANTUM_ROLLS = {0, 0, 0, 1, 3, 6, 7, 6, 3, 1};
 
     public static void main(String[] args) {
         try (Scanner in = new Scanner(INPUT)) {
@@ -27,60 +22,14 @@ public class DiracDice {
             long result = playSimple(player1, player2);
             System.out.println("Result: " + result);
 
-            Game game = new Game(player1, player2);
-            gameAdder(game).increment();
-
-            while (anyGameNotFinished()) {
-                gamesTurn();
-                System.out.println("Games: " + games.values().stream().mapToLong(LongAdder::longValue).sum());
-            }
-
-            Map<Winner, LongAdder> results = createResults();
-            long p1Score = results.get(Winner.P1).longValue();
-            long p2Score = results.get(Winner.P2).longValue();
-
-            long noneScore = results.get(Winner.NONE).longValue();
-            System.out.println("none: " + noneScore);
-
-            long result2 = Math.max(p1Score, p2Score);
+            long result2 = playQuantum(player1, player2);
             System.out.println("Result2: " + result2);
         }
     }
 
-    private static Map<Winner, LongAdder> createResults() {
-        Map<Winner, LongAdder> results = new EnumMap<>(Winner.class);
-        results.put(Winner.P1, new LongAdder());
-        results.put(Winner.P2, new LongAdder());
-        results.put(Winner.NONE, new LongAdder());
-        games.forEach((state, count) -> results.get(state.winner()).add(count.longValue()));
-        return results;
-    }
-
-    private static boolean anyGameNotFinished() {
-        return games.keySet().stream().anyMatch(not(Game::isFinished));
-    }
-
-    private static void gamesTurn() {
-        Map<Game, LongAdder> nextState = new ConcurrentHashMap<>();
-        games.keySet().stream()
-             .filter(not(Game::isFinished))
-             .forEach(g -> gameTurn(nextState, g));
-        games.keySet().removeIf(not(Game::isFinished));
-        nextState.forEach((state, count) -> gameAdder(state).add(count.longValue()));
-    }
-
-    private static void gameTurn(Map<Game, LongAdder> nextState, Game game) {
-        long count = gameAdder(game).longValue();
-        game.turn().forEach(g -> gameAdder(nextState, g).add(count));
-        gameAdder(game).reset();
-    }
-
-    private static LongAdder gameAdder(Game g) {
-        return gameAdder(games, g);
-    }
-
-    private static LongAdder gameAdder(Map<Game, LongAdder> games, Game g) {
-        return games.computeIfAbsent(g, k -> new LongAdder());
+    private static long playQuantum(Player player1, Player player2) {
+        QuantumGame game = new QuantumGame(new Memo(2 * 10 * QUANTUM_WINNING_SCORE * 10 * QUANTUM_WINNING_SCORE));
+        return Math.max(game.wins(player1, player2, true), game.wins(player1, player2, false));
     }
 
     private static long playSimple(Player player1, Player player2) {
@@ -101,50 +50,25 @@ public class DiracDice {
         return dice.rolled() * loosingScore;
     }
 
-    enum Winner {
-        P1, P2, NONE
-    }
-
-    record Game(Player p1, Player p2) {
-        Stream<Game> turn() {
-            if (isFinished()) {
-                return Stream.of(this);
-            }
-            return quantumRoll()
-                    .map(this::play1)
-                    .flatMap(g1 -> g1.isFinished()
-                                   ? Stream.of(g1)
-                                   : quantumRoll().map(g1::play2));
-        }
-
-        Game play1(QuantumTripple tripple) {
-            if (isFinished()) {
-                return this;
-            }
-            return new Game(p1.move(tripple.roll()), p2);
-        }
-
-        Game play2(QuantumTripple tripple) {
-            if (isFinished()) {
-                return this;
-            }
-            return new Game(p1, p2.move(tripple.roll()));
-        }
-
-        boolean isFinished() {
-            return player1Wins() || player2Wins();
-        }
-
-        boolean player1Wins() {
-            return p1.score() >= QUANTUM_WINNING_SCORE;
-        }
-
-        boolean player2Wins() {
-            return p2.score() >= QUANTUM_WINNING_SCORE;
-        }
-
-        Winner winner() {
-            return player1Wins() ? Winner.P1 : player2Wins() ? Winner.P2 : Winner.NONE;
+    record QuantumGame(Memo memo) {
+        long wins(Player current, Player other, boolean countCurrent) {
+            return wins(current.position(), current.score(), other.position(), other.score(), countCurrent);
+        }
+
+        // universes won by the player to move (countCurrent) or by the other one
+        private long wins(int position, int score, int otherPosition, int otherScore, boolean countCurrent) {
+            long state = (((position * 32L + score) * 10 + otherPosition) * 32 + otherScore) * 2 + (countCurrent ? 1 : 0);
+            return memo.get(state, key -> {
+                long wins = 0;
+                for (int roll = 3; roll < QUANTUM_ROLLS.length; roll++) {
+                    int next = (position + roll) % 10;
+                    int total = score + next + 1;
+                    wins += QUANTUM_ROLLS[roll] * (total >= QUANTUM_WINNING_SCORE
+                                                   ? (countCurrent ? 1 : 0)
+                                                   : wins(otherPosition, otherScore, next, total, !countCurrent));
+                }
+                return wins;
+            });
         }
     }
 
@@ -187,32 +111,6 @@ public class DiracDice {
         }
     }
 
-    record QuantumTripple(QuantumDice d1, QuantumDice d2, QuantumDice d3) {
-        int roll() {
-            return d1.roll() + d2.roll() + d3.roll();
-        }
-    }
-
-    enum QuantumDice {
-        ONE,
-        TWO,
-        THREE,
-        ;
-        int roll() {
-            return ordinal() + 1;
-        }
-
-        static Stream<QuantumDice> all() {
-            return Stream.of(ONE, TWO, THREE);
-        }
-
-        static Stream<QuantumTripple> quantumRoll() {
-            return all().flatMap(d1 ->
-                    all().flatMap(d2 ->
-                            all().map(d3 -> new QuantumTripple(d1, d2, d3))));
-        }
-    }
-
     @SuppressWarnings("unused")
     private static final String INPUT1 = """
             Player 1 starting position: 4
@@ -225,6 +123,11 @@ public class DiracDice {
 
     @Test
     public void test() {
-
+        try (Scanner in = new Scanner(INPUT1)) {
+            Player player1 = Player.from(in.nextLine());
+            Player player2 = Player.from(in.nextLine());
+            assertEquals(739785L, playSimple(player1, player2));
+            assertEquals(444356092776315L, playQuantum(player1, player2));
+        }
     }
 }
\ No newline at end of file
@@ -1,187 +1,106 @@
 package done.advent2021;
 
+import org.junit.jupiter.api.Test;
 import util.LineSupplier;
+import util.Memo;
+import util.Trace;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Scanner;
-import java.util.Set;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 public class PassagePathing {
+    private static final Trace TRACE = Trace.of(PassagePathing.class);
 
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(FINAL_INPUT)) {
-            Stream.generate(new LineSupplier(in))
-                    .takeWhile(Objects::nonNull)
-                    .map(NodePair::from)
-                    .forEach(NodePair::init);
-
-            long result = 0L;
-
-            int count = 100;
-            List<Path> paths = Path.start();
-            while (paths.stream().anyMatch(Path::canAdvance)) {
-                result += paths.stream().filter(Path::terminal).count();
-
-                paths = paths.stream()
-                             .filter(Path::canAdvance)
-                             .flatMap(Path::advance)
-                             .toList();
-
-                System.out.println("Paths: " + paths);
-                if (count-- == 0) {
-                    break;
-                }
-            }
+        Caves caves = Caves.parse(FINAL_INPUT);
 
-            result += paths.stream().filter(Path::terminal).count();
-
-            System.out.println("Result: " + result);
-        }
+        System.out.println("Result: " + caves.paths(false));
+        System.out.println("Result2: " + caves.paths(true));
     }
 
-    record NodePair(Node start, Node end) {
-        void init() {
-            start.add(end);
-            end.add(start);
-        }
-
-        static NodePair from(String line) {
-            String[] parts = line.trim().split("[-]");
-            return new NodePair(Node.of(parts[0]), Node.of(parts[1]));
-        }
+    @Test
+    public void test() {
+        assertEquals(10L, Caves.parse(INPUT1).paths(false));
+        assertEquals(36L, Caves.parse(INPUT1).paths(true));
+        assertEquals(226L, Caves.parse(INPUT3).paths(false));
+        assertEquals(3509L, Caves.parse(INPUT3).paths(true));
     }
 
-    record Path(Set<Node> visited, Node last, Node twice) {
-        Path {
-            System.out.println("\t" + last.name());
-        }
-        /**
-         * Returns all possible paths based on this path
-         */
-        Stream<Path> advance() {
-            System.out.println("Advance from " + last.name() + " -> ");
-            return last.adjacent()
-                       .filter(this::notVisited)
-                       .map(this::create);
-        }
-
-        boolean terminal() {
-            return last == Node.END;
-        }
-
-        boolean notVisited(Node node) {
-            return (twice == null && node != Node.START)
-                    || !visited.contains(node) && node != twice;
-        }
-
-        boolean canAdvance() {
-            return !terminal() && last.adjacent().anyMatch(this::notVisited);
-        }
-
-        static List<Path> start() {
-            return List.of(new Path(Set.of(Node.START), Node.START, null));
-        }
-
-        Path create(Node node) {
-            if (this.visited.contains(node) && node != Node.START && node != Node.END) {
-                if (twice != null) {
-                    throw new IllegalStateException("Already contains twice node: " + twice);
-                }
-                return new Path(visited, node, node);
+    // small caves are bits of the visited mask, a path state is (cave, visited, twice) packed into a long
+    static final class Caves {
+        private static final int CAVE_BITS = 5;
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<List<Integer>> adjacent = new ArrayList<>();
+        private final Memo memo = new Memo(1 << 16);
+        private boolean twice;
+
+        static Caves parse(String input) {
+            Caves caves = new Caves();
+            try (Scanner in = new Scanner(input)) {
+                Stream.generate(new LineSupplier(in))
+                      .takeWhile(Objects::nonNull)
+                      .map(line -> line.trim().split("[-]"))
+                      .forEach(pair -> caves.connect(caves.id(pair[0]), caves.id(pair[1])));
             }
-            Set<Node> visited = new HashSet<>(this.visited);
-            node.visited().forEach(visited::add);
-            return new Path(visited, node, twice);
+            return caves;
         }
 
-        @Override
-        public String toString() {
-            return last.name();
+        long paths(boolean allowTwice) {
+            twice = allowTwice;
+            int start = id("start");
+            return paths(state(start, 1L << start, false));
         }
-    }
-
-    interface Node {
-        Node END = Stream::empty;
-        Node START = new Start();
-
-        Map<String,Node> nodes = new HashMap<>();
 
-        /**
-         * Returns adjacent nodes.
-         */
-        Stream<Node> adjacent();
-
-        /**
-         * Add adjacent node.
-         */
-        default void add(Node node) {}
-
-        /**
-         * Returns true if node was visited.
-         */
-        default Stream<Node> visited() { return Stream.of(this); }
-
-        default String name() { return "end"; }
-
-        static Node of(String name) {
-            return switch (name) {
-                case "start" -> START;
-                case "end" -> END;
-                default -> nodes.computeIfAbsent(name, n -> isUpperCase(name) ? new BigNode(name) : new SmallNode(name));
-            };
-        }
-
-        private static boolean isUpperCase(String name) {
-            return Character.isUpperCase(name.charAt(0));
-        }
-
-        class Start extends AbstractNode {
-            public Start() {
-                super("start");
-            }
+        private long paths(long state) {
+            return memo.get(state * 2 + (twice ? 1 : 0), key -> {
+                int cave = (int) (state & ((1 << CAVE_BITS) - 1));
+                long visited = state >>> (CAVE_BITS + 1);
+                boolean usedTwice = (state & (1 << CAVE_BITS)) != 0;
+                TRACE.trace(() -> "Advance from " + names.get(cave));
+                if (names.get(cave).equals("end")) {
+                    return 1;
+                }
+                long paths = 0;
+                for (int next : adjacent.get(cave)) {
+                    boolean small = Character.isLowerCase(names.get(next).charAt(0));
+                    boolean seen = small && (visited & (1L << next)) != 0;
+                    if (!seen) {
+                        paths += paths(state(next, small ? visited | 1L << next : visited, usedTwice));
+                    } else if (twice && !usedTwice && !names.get(next).equals("start")) {
+                        paths += paths(state(next, visited, true));
+                    }
+                }
+                return paths;
+            });
         }
 
-        class BigNode extends AbstractNode {
-            public BigNode(String name) {
-                super(name);
-            }
-
-            @Override
-            public Stream<Node> visited() { return Stream.empty(); }
+        private static long state(int cave, long visited, boolean usedTwice) {
+            return visited << (CAVE_BITS + 1) | (usedTwice ? 1L << CAVE_BITS : 0) | cave;
         }
 
-        class SmallNode extends AbstractNode {
-            public SmallNode(String name) {
-                super(name);
-            }
+        private int id(String name) {
+            return ids.computeIfAbsent(name, n -> {
+                if (names.size() == 1 << CAVE_BITS) {
+                    throw new IllegalArgumentException("Too many caves: " + names.size());
+                }
+                names.add(n);
+                adjacent.add(new ArrayList<>());
+                return names.size() - 1;
+            });
         }
 
-        class AbstractNode implements Node {
-            protected final String name;
-            protected final List<Node> nodes = new ArrayList<>();
-
-            public AbstractNode(String name) {
-                this.name = name;
-            }
-
-            @Override
-            public Stream<Node> adjacent() {
-                return nodes.stream();
-            }
-
-            @Override
-            public void add(Node node) {
-                nodes.add(node);
-            }
-
-            @Override
-            public String name() { return name; }
+        private void connect(int a, int b) {
+            adjacent.get(a).add(b);
+            adjacent.get(b).add(a);
         }
     }
 
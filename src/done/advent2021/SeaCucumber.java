@@ -1,201 +1,88 @@
 package done.advent2021;
 
-import util.LineSupplier;
+import util.Automaton;
+import util.Grid2D;
 
-import java.util.Objects;
-import java.util.Scanner;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.List;
 
 import static java.lang.System.lineSeparator;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.joining;
+import static util.LineSource.lines;
 
 public class SeaCucumber {
 
+    static final byte EAST = '>';
+    static final byte SOUTH = 'v';
+    static final byte EMPTY = '.';
+
     static Cucumbers cucumbers;
 
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT)) {
-            System.out.println();
+        System.out.println();
 
-            cucumbers = new Cucumbers(
-                    Stream.generate(new LineSupplier(in))
-                          .takeWhile(Objects::nonNull)
-                          .map(Cucumbers::row)
-                          .toArray(Cucumber[][]::new));
+        cucumbers = new Cucumbers(lines(INPUT).toList());
 
+        System.out.println(cucumbers);
+        System.out.println();
+
+        while (cucumbers.step()) {
             System.out.println(cucumbers);
             System.out.println();
-
-            while (cucumbers.canMove()) {
-                cucumbers.step();
-                System.out.println(cucumbers);
-                System.out.println();
-            }
-
-            long result = cucumbers.steps + 1;
-
-            System.out.println("Result: " + result);
-        }
-    }
-
-    static class Cucumbers {
-        private final Cucumber[][] cucumbers;
-        private long steps = 0L;
-
-        private Cucumbers(Cucumber[][] cucumbers) {
-            this.cucumbers = cucumbers;
-        }
-
-        void step() {
-            moveEast();
-            moveSouth();
-            steps++;
         }
 
-        static Cucumber[] row(String line) {
-            int row = Cucumber.nextRow();
-            return line.chars()
-                       .mapToObj(c -> Cucumber.create(row, c))
-                       .toArray(Cucumber[]::new);
-        }
-
-        public boolean canMove() {
-            return canMoveEast() || canMoveSouth();
-        }
-
-        private boolean canMoveEast() {
-            return cucumbers().filter(Cucumber::isEast)
-                              .anyMatch(Cucumber::canMove);
-        }
-
-        private boolean canMoveSouth() {
-            return cucumbers().filter(Cucumber::isSouth)
-                              .anyMatch(Cucumber::canMove);
-        }
+        long result = cucumbers.steps();
 
-        private Cucumber get(int row, int col) {
-            return cucumbers[row][col];
-        }
-
-        private void set(Cucumber cucumber) {
-            cucumbers[cucumber.row][cucumber.col] = cucumber;
-        }
-
-        private void clear(int row, int col) {
-            cucumbers[row][col] = new Cucumber(row, col, Direction.EMPTY);
-        }
-
-        private void moveEast() {
-            cucumbers().filter(Cucumber::isEast)
-                       .filter(Cucumber::canMove)
-                       .toList().stream()
-                       .map(Cucumber::move)
-                       .forEach(this::set);
-        }
-
-        private void moveSouth() {
-            cucumbers().filter(Cucumber::isSouth)
-                       .filter(Cucumber::canMove)
-                       .toList().stream()
-                       .map(Cucumber::move)
-                       .forEach(this::set);
-        }
-
-        private Stream<Cucumber> cucumbers() {
-            return rows().mapToObj(row -> cols().mapToObj(col -> get(row, col)))
-                         .flatMap(identity());
-        }
-
-        private IntStream rows() {
-            return IntStream.range(0, Cucumber.rows);
-        }
-
-        private IntStream cols() {
-            return IntStream.range(0, Cucumber.cols);
-        }
-
-        @Override
-        public String toString() {
-            return "--- step " + steps + " ---" + lineSeparator() +
-                    Stream.of(cucumbers)
-                          .map(row -> Stream.of(row)
-                                            .map(Cucumber::direction)
-                                            .map(Direction::toString)
-                                            .collect(joining()))
-                          .collect(joining(lineSeparator()));
-        }
+        System.out.println("Result: " + result);
     }
 
-    record Cucumber(int row, int col, Direction direction) {
-        static int rows = 0;
-        static int cols = 0;
-
-        static int nextRow() {
-            cols = 0;
-            return rows++;
-        }
-
-        static int nextCol() {
-            return cols++;
-        }
-
-        public static Cucumber create(int row, int c) {
-            return new Cucumber(row, Cucumber.nextCol(), Direction.valueOf(c));
-        }
-
-        Cucumber move() {
-            cucumbers.clear(row, col);
-            return switch (direction) {
-                case EAST -> new Cucumber(row, (col + 1) % cols, direction);
-                case SOUTH -> new Cucumber((row + 1) % rows, col, direction);
-                case EMPTY -> this;
-            };
-        }
+    static class Cucumbers {
+        private final Automaton cucumbers;
 
-        boolean canMove() {
-            return switch (direction) {
-                case EAST -> cucumbers.get(row, (col + 1) % cols).isEmpty();
-                case SOUTH -> cucumbers.get((row + 1) % rows, col).isEmpty();
-                case EMPTY -> false;
-            };
+        Cucumbers(List<String> rows) {
+            Grid2D grid = Grid2D.toroidal(rows.get(0).length(), rows.size()).load(rows);
+            this.cucumbers = Automaton.of(grid, Cucumbers::next);
         }
 
-        private boolean isEast() {
-            return direction == Direction.EAST;
+        boolean step() {
+            return cucumbers.step() > 0;
         }
 
-        private boolean isSouth() {
-            return direction == Direction.SOUTH;
+        long steps() {
+            return cucumbers.generation();
         }
 
-        private boolean isEmpty() {
-            return direction == Direction.EMPTY;
+        // a whole step only looks one cell around, so it runs as a single generation
+        private static byte next(Grid2D grid, int idx) {
+            int stride = grid.stride();
+            int x = idx % stride;
+            int row = idx - x;
+            int west = x == 0 ? grid.width() - 1 : x - 1;
+            int east = x == grid.width() - 1 ? 0 : x + 1;
+            byte state = afterEast(grid, row, x, west, east);
+            if (state == SOUTH) {
+                int below = row + stride == grid.capacity() ? 0 : row + stride;
+                return afterEast(grid, below, x, west, east) == EMPTY ? EMPTY : SOUTH;
+            }
+            if (state == EMPTY) {
+                int above = row == 0 ? grid.capacity() - stride : row - stride;
+                return afterEast(grid, above, x, west, east) == SOUTH ? SOUTH : EMPTY;
+            }
+            return state;
         }
-    }
 
-    enum Direction {
-        EAST,
-        SOUTH,
-        EMPTY,
-        ;
-
-        public static Direction valueOf(int c) {
-            return switch(c) {
-                case '>' -> EAST;
-                case 'v' -> SOUTH;
-                default -> EMPTY;
-            };
+        private static byte afterEast(Grid2D grid, int row, int x, int west, int east) {
+            byte state = grid.get(row + x);
+            if (state == EAST) {
+                return grid.get(row + east) == EMPTY ? EMPTY : EAST;
+            }
+            if (state == EMPTY) {
+                return grid.get(row + west) == EAST ? EAST : EMPTY;
+            }
+            return state;
         }
 
         @Override
         public String toString() {
-            return switch(this) {
-                case EAST -> ">";
-                case SOUTH -> "v";
-                case EMPTY -> ".";
-            };
+            return "--- step " + steps() + " ---" + lineSeparator() + cucumbers.grid();
         }
     }
 
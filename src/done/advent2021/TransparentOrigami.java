@@ -1,30 +1,31 @@
 package done.advent2021;
 
 import util.LineSupplier;
+import util.collections.LongSet;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
-import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.function.Predicate.not;
-import static java.util.stream.Collectors.toSet;
 
 public class TransparentOrigami {
 
-    static Set<Point> points;
+    static LongSet points;
     static List<Instruction> instructions;
 
     public static void main(String[] args) {
         try (Scanner in = new Scanner(INPUT2)) {
-            points = Stream.generate(new LineSupplier(in))
-                           .dropWhile(String::isBlank)
-                           .takeWhile(not(String::isBlank))
-                           .map(Point::from)
-                           .collect(toSet());
+            points = new LongSet();
+            Stream.generate(new LineSupplier(in))
+                  .dropWhile(String::isBlank)
+                  .takeWhile(not(String::isBlank))
+                  .map(Point::from)
+                  .mapToLong(Point::key)
+                  .forEach(points::add);
 
             instructions = Stream.generate(new LineSupplier(in))
                                  .dropWhile(String::isBlank)
@@ -47,12 +48,12 @@ public class TransparentOrigami {
     }
 
     private static IntStream rows() {
-        int lastRow = points.stream().mapToInt(Point::y).max().orElse(0);
+        int lastRow = points.stream().mapToObj(Point::of).mapToInt(Point::y).max().orElse(0);
         return IntStream.rangeClosed(0, lastRow);
     }
 
     private static IntStream cols() {
-        int lastIdx = points.stream().mapToInt(Point::x).max().orElse(0);
+        int lastIdx = points.stream().mapToObj(Point::of).mapToInt(Point::x).max().orElse(0);
         return IntStream.rangeClosed(0, lastIdx);
     }
 
@@ -64,16 +65,19 @@ public class TransparentOrigami {
         }
 
         public void fold() {
-            Set<Point> unaffected = points.stream()
-                                          .filter(this::unaffected)
-                                          .collect(toSet());
-            Set<Point> folded = points.stream()
-                                      .filter(this::folded)
-                                      .map(this::fold)
-                                      .filter(Point::valid)
-                                      .collect(toSet());
-            points = unaffected;
-            points.addAll(folded);
+            LongSet folded = new LongSet(points.size());
+            points.forEach(key -> {
+                Point point = Point.of(key);
+                if (unaffected(point)) {
+                    folded.add(key);
+                } else if (folded(point)) {
+                    Point image = fold(point);
+                    if (image.valid()) {
+                        folded.add(image.key());
+                    }
+                }
+            });
+            points = folded;
         }
 
         private boolean unaffected(Point point) {
@@ -114,7 +118,15 @@ public class TransparentOrigami {
         }
 
         String print() {
-            return points.contains(this) ? "#" : ".";
+            return points.contains(key()) ? "#" : ".";
+        }
+
+        long key() {
+            return ((long) y << 32) | (x & 0xFFFFFFFFL);
+        }
+
+        static Point of(long key) {
+            return new Point((int) key, (int) (key >> 32));
         }
 
         static Point from(String line) {
@@ -1,30 +1,33 @@
 package done.advent2021;
 
+import util.Automaton;
+import util.Grid2D;
 import util.LineSupplier;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.joining;
 import static util.Utils.Repeat.repeat;
 
 public class TrenchMap {
 
-    static String algorithm;
-    static ImageLine[] image;
+    static final byte LIGHT = '#';
+    static final byte DARK = '.';
+
+    static byte[] algorithm;
+    static int[] window;
+    static Automaton image;
+    static int margin;
+    static int width;
+    static int height;
+    static byte background;
     static int round = 0;
 
     public static void main(String[] args) {
         try (Scanner in = new Scanner(INPUT)) {
-            algorithm = in.nextLine();
-            in.nextLine();
-
-            image = Stream.generate(new LineSupplier(in))
-                    .takeWhile(Objects::nonNull)
-                    .map(ImageLine::from)
-                    .toArray(ImageLine[]::new);
+            load(in, 50);
 
             printImage();
 
@@ -32,130 +35,88 @@ public class TrenchMap {
 
             printImage();
 
-            long result = Stream.of(image)
-                                .mapToLong(ImageLine::countLight)
-                                .sum();
+            long result = countLight();
 
             System.out.println("Result: " + result);
         }
     }
 
-    private static void enhance() {
-        ImageLine.update();
-
-        ImageLine[] newImage = new ImageLine[image.length + 2];
-        newImage[0] = upperLine().enhance();
-        newImage[image.length + 1] = lowerLine().enhance();
-        IntStream.range(0, image.length).forEach(row ->
-                newImage[row + 1] = image[row].enhance());
-        image = newImage;
-        round++;
-    }
-
-    private static void printImage() {
-        Stream.of(image).map(ImageLine::line).forEach(System.out::println);
-        System.out.println();
-    }
-
-    static ImageLine upperLine() {
-        return new ImageLine(-1, "");
-    }
+    // the grid is sized up front for the given number of enhancements
+    static void load(Scanner in, int generations) {
+        round = 0;
+        margin = generations;
+        background = DARK;
 
-    static ImageLine lowerLine() {
-        return new ImageLine(ImageLine.lastRow + 1, "");
-    }
-
-    record ImageLine(int row, String line) {
-        static final char ONE = '1';
-        static final char ZERO = '0';
-        static final char LIGHT = '#';
-        static final char DARK = '.';
-
-        static final String TRIPLE_ZERO = "000";
-        static final String TRIPLE_ONE = "111";
-
-        static String blankTriple() {
-            if (algorithm.charAt(0) == DARK) {
-                return TRIPLE_ZERO;
-            }
-            return (round % 2) == 0 ? TRIPLE_ZERO : TRIPLE_ONE;
+        String line = in.nextLine();
+        algorithm = new byte[line.length()];
+        for (int i = 0; i < algorithm.length; i++) {
+            algorithm[i] = (byte) line.charAt(i);
         }
-
-        static char blankPixel() {
-            if (algorithm.charAt(0) == DARK) {
-                return ZERO;
+        in.nextLine();
+
+        List<String> rows = Stream.generate(new LineSupplier(in))
+                .takeWhile(Objects::nonNull)
+                .toList();
+        width = rows.get(0).length();
+        height = rows.size();
+
+        Grid2D grid = Grid2D.padded(width + 2 * margin, height + 2 * margin, 1, DARK);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid.set(margin + x, margin + y, (byte) rows.get(y).charAt(x));
             }
-            return (round % 2) == 0 ? ZERO : ONE;
-        }
-
-        static int lastRow = -1;
-        static int lastIdx = -1;
-
-        long countLight() {
-            return line.chars()
-                       .filter(c -> c == LIGHT)
-                       .count();
-        }
-
-        ImageLine enhance() {
-            char first = enhance(-1);
-            char last = enhance(lastIdx + 1);
-            String newLine = IntStream.rangeClosed(0, lastIdx)
-                                      .map(this::enhance)
-                                      .mapToObj(Character::toString)
-                                      .collect(joining());
-
-            return new ImageLine(row + 1, first + newLine + last);
-        }
-
-        char enhance(int idx) {
-            int pixelIndex = Integer.valueOf(neigbours(idx), 2);
-            return algorithm.charAt(pixelIndex);
-        }
-
-        String neigbours(int idx) {
-            return upperNeigbours(idx) + lineNeigbours(idx) + lowerNeigbours(idx);
-        }
-
-        private String lineNeigbours(int idx) {
-            if (row < 0 || row > lastRow) {
-                return blankTriple();
-            }
-            return "" + pixel(idx - 1) + pixel(idx) + pixel(idx + 1);
         }
+        window = new int[]{
+                grid.offset(Grid2D.NW), grid.offset(Grid2D.N), grid.offset(Grid2D.NE),
+                grid.offset(Grid2D.W), 0, grid.offset(Grid2D.E),
+                grid.offset(Grid2D.SW), grid.offset(Grid2D.S), grid.offset(Grid2D.SE)
+        };
+        image = Automaton.of(grid, TrenchMap::enhance);
+    }
 
-        private String upperNeigbours(int idx) {
-            if (row <= 0) {
-                return blankTriple();
-            }
-            return image[row - 1].lineNeigbours(idx);
+    static void enhance() {
+        if (round == margin) {
+            throw new IllegalStateException("Image was loaded for " + margin + " enhancements: round = " + round);
         }
+        image.step();
+        // the infinite rest of the image is uniform, so the border follows the algorithm as well
+        background = algorithm[background == LIGHT ? algorithm.length - 1 : 0];
+        image.grid().fillBorder(background);
+        round++;
+    }
 
-        private String lowerNeigbours(int idx) {
-            if (row >= lastRow) {
-                return blankTriple();
+    static long countLight() {
+        Grid2D grid = image.grid();
+        long count = 0;
+        for (int y = margin - round; y < margin + height + round; y++) {
+            for (int x = margin - round; x < margin + width + round; x++) {
+                if (grid.get(x, y) == LIGHT) {
+                    count++;
+                }
             }
-            return image[row + 1].lineNeigbours(idx);
         }
+        return count;
+    }
 
-        private char pixel(int idx) {
-            if (idx < 0 || idx > lastIdx) {
-                return blankPixel();
-            }
-            return line.charAt(idx) == LIGHT ? ONE : ZERO;
+    private static byte enhance(Grid2D grid, int idx) {
+        int pixelIndex = 0;
+        for (int offset : window) {
+            pixelIndex = pixelIndex << 1 | (grid.get(idx + offset) == LIGHT ? 1 : 0);
         }
+        return algorithm[pixelIndex];
+    }
 
-        static ImageLine from(String line) {
-            if (lastIdx == -1) {
-                lastIdx = line.length() - 1;
+    private static void printImage() {
+        Grid2D grid = image.grid();
+        StringBuilder line = new StringBuilder();
+        for (int y = margin - round; y < margin + height + round; y++) {
+            line.setLength(0);
+            for (int x = margin - round; x < margin + width + round; x++) {
+                line.append((char) grid.get(x, y));
             }
-            return new ImageLine(++lastRow, line);
-        }
-
-        static void update() {
-            lastRow = image.length - 1;
-            lastIdx = image[0].line.length() - 1;
+            System.out.println(line);
         }
+        System.out.println();
     }
 
     @SuppressWarnings("unused")
@@ -1,55 +1,69 @@
 package done.advent2022;
 
+import util.LineSource;
+import util.Puzzle;
+import util.Trace;
+
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.lang.System.lineSeparator;
+import static java.util.Comparator.comparingLong;
 import static java.util.stream.Collectors.joining;
-import static util.LineSupplier.lines;
 import static util.Utils.split;
 import static util.Utils.substring;
 
 @SuppressWarnings("unused")
-public class BeaconExclusionZone {
+public class BeaconExclusionZone implements Puzzle<BeaconExclusionZone.Beacons> {
+    private static final Trace TRACE = Trace.of(BeaconExclusionZone.class);
 
-    private static final int TARGET_ROW1 = 10;
+    static final int TARGET_ROW1 = 10;
     private static final int TARGET_ROW = 2_000_000;
-
-    private static final Beacons beacons = new Beacons();
+    private static final int SEARCH_SIZE = 4_000_000;
+    private static final int ROW_GRAIN = 64;
 
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT)) {
-            lines(in)
-                    .map(Sensor::create)
-                    .forEach(beacons::addSensor);
+        BeaconExclusionZone puzzle = new BeaconExclusionZone();
+        Beacons beacons = puzzle.parse(puzzle.input());
 
-            if (beacons.bounds.maxX - beacons.bounds.minX <= 1000) {
-                System.out.println(beacons);
-            }
+        if (beacons.bounds.maxX - beacons.bounds.minX <= 1000) {
+            System.out.println(beacons);
+        }
+
+        System.out.println(beacons.printSensors());
+        System.out.println(beacons.printRanges(TARGET_ROW));
 
-            System.out.println(beacons.printSensors());
-            System.out.println(beacons.printRanges(TARGET_ROW));
+        System.out.println("Result: " + puzzle.part1(beacons));
+        System.out.println("Rows with 2 and more: " + puzzle.part2(beacons));
+    }
 
-            System.out.println("Result: " + beacons.countNonBeaconPositions(TARGET_ROW));
+    @Override
+    public Beacons parse(LineSource input) {
+        Beacons beacons = new Beacons();
+        input.lines()
+             .map(Sensor::create)
+             .forEach(beacons::addSensor);
+        return beacons;
+    }
 
-            long result = IntStream.rangeClosed(0, 4_000_000)
-                                   .mapToObj(beacons::ranges)
-                                   .filter(Ranges::hasMoreRanges)
-                                   .map(r -> new Point(r.first().to + 1 , r.y))
-                                   .mapToLong(p -> p.x * 4_000_000L + p.y)
-                                   .findFirst()
-                                   .orElse(0);
-            System.out.println("Rows with 2 and more: " + result);
-        }
+    @Override
+    public Long part1(Beacons beacons) {
+        return beacons.countNonBeaconPositions(TARGET_ROW);
+    }
+
+    @Override
+    public Long part2(Beacons beacons) {
+        return beacons.distressBeacon(0, SEARCH_SIZE)
+                      .map(p -> p.x * 4_000_000L + p.y)
+                      .orElse(0L);
     }
 
     static class Beacons {
@@ -58,8 +72,10 @@ public class BeaconExclusionZone {
         private final Set<Point> beaconPositions = new HashSet<>();
 
         private final Bounds bounds = new Bounds();
+        private Coverage coverage;
 
         void addSensor(Sensor sensor) {
+            coverage = null;
             sensors.add(sensor);
             sensorPositions.add(sensor.position());
             beaconPositions.add(sensor.nearestBeacon());
@@ -69,17 +85,32 @@ public class BeaconExclusionZone {
 
         long countNonBeaconPositions(int y) {
             long beaconsInRow = beaconPositions.stream().filter(p -> p.y == y).count();
-            System.out.println("Becons in row: " + beaconsInRow);
-            return ranges(y).rangesSize() - beaconsInRow;
+            TRACE.debug(() -> "Beacons in row: " + beaconsInRow);
+            return coverage().covered(new int[]{y})[0] - beaconsInRow;
         }
 
         Ranges ranges(int y) {
-            return new Ranges(y,
-                    sensors.stream()
-                           .map(s -> s.range(y))
-                           .flatMap(Optional::stream)
-                           .toList()
-            ).normalize();
+            RowCoverage row = coverage().row();
+            return new Ranges(y, IntStream.range(0, row.merge(y))
+                                          .mapToObj(i -> new Range((int) row.from(i), (int) row.to(i)))
+                                          .toList());
+        }
+
+        // an uncovered point of the square: the distress beacon when, as the puzzle promises, there is just one
+        Optional<Point> distressBeacon(int min, int max) {
+            if (min > max) {
+                throw new IllegalArgumentException("Search square must not be empty: min = " + min + ", max = " + max);
+            }
+            Coverage coverage = coverage();
+            Optional<Point> candidate = coverage.perimeterSearch(min, max);
+            return candidate.isPresent() ? candidate : coverage.sweep(min, max);
+        }
+
+        Coverage coverage() {
+            if (coverage == null) {
+                coverage = Coverage.of(sensors);
+            }
+            return coverage;
         }
 
         @Override
@@ -160,10 +191,6 @@ public class BeaconExclusionZone {
     }
 
     record Ranges(int y, List<Range> ranges) {
-        Range first() {
-            return ranges.stream().findFirst().orElse(null);
-        }
-
         boolean isInRange(Point p) {
             return ranges.stream().anyMatch(p::isInRange);
         }
@@ -174,96 +201,258 @@ public class BeaconExclusionZone {
                          .sum();
         }
 
-        Ranges normalize() {
-            List<Range> prevRanges = ranges;
-            List<Range> mergedRanges = normalize(ranges);
-            while (mergedRanges.size() != prevRanges.size()) {
-                prevRanges = mergedRanges;
-                mergedRanges = normalize(mergedRanges);
+        Stream<Range> stream() {
+            return ranges.stream();
+        }
+    }
+
+    record Range(int from, int to) {
+        int size() {
+            return to - from + 1;
+        }
+
+    }
+
+    // In u = x + y and v = x - y every sensor diamond becomes an axis aligned square. A lone uncovered point
+    // sits on a gap line just past one square and just before another, in both directions.
+    record Coverage(int[] xs, int[] ys, int[] radii) {
+        static Coverage of(List<Sensor> sensors) {
+            int[] xs = new int[sensors.size()];
+            int[] ys = new int[sensors.size()];
+            int[] radii = new int[sensors.size()];
+            for (int i = 0; i < xs.length; i++) {
+                Sensor sensor = sensors.get(i);
+                xs[i] = sensor.position.x;
+                ys[i] = sensor.position.y;
+                radii[i] = sensor.radius();
             }
-            return new Ranges(y, mergedRanges);
+            return new Coverage(xs, ys, radii);
         }
 
-        boolean hasMoreRanges() {
-            return ranges.size() > 1;
+        RowCoverage row() {
+            return new RowCoverage(this);
         }
 
-        private static List<Range> normalize(Collection<Range> ranges) {
-            List<Range> mergedRanges = new ArrayList<>();
-            Deque<Range> rangesStack = new LinkedList<>(ranges);
-            while (rangesStack.peek() != null) {
-                Range range = rangesStack.pop();
-                Set<Range> removed = new HashSet<>();
-                for (Range other : rangesStack) {
-                    if (range.canMerge(other)) {
-                        range = range.merge(other);
-                        removed.add(other);
+        // covered positions of each row, big batches are split into bands on the common pool
+        long[] covered(int[] rows) {
+            long[] counts = new long[rows.length];
+            int bands = Math.min(4 * ForkJoinPool.getCommonPoolParallelism(), rows.length / ROW_GRAIN);
+            if (bands <= 1) {
+                row().count(rows, 0, rows.length, counts);
+                return counts;
+            }
+            IntStream.range(0, bands)
+                     .parallel()
+                     .forEach(b -> row().count(rows, b * rows.length / bands, (b + 1) * rows.length / bands, counts));
+            return counts;
+        }
+
+        boolean covers(long x, long y) {
+            for (int i = 0; i < xs.length; i++) {
+                if (Math.abs(x - xs[i]) + Math.abs(y - ys[i]) <= radii[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Optional<Point> perimeterSearch(int min, int max) {
+            long[] us = new long[xs.length];
+            long[] vs = new long[xs.length];
+            for (int i = 0; i < xs.length; i++) {
+                us[i] = (long) xs[i] + ys[i];
+                vs[i] = (long) xs[i] - ys[i];
+            }
+            long[] uLines = gapLines(us);
+            long[] vLines = gapLines(vs);
+            for (long u : uLines) {
+                for (long v : vLines) {
+                    long x = (u + v) / 2;
+                    long y = (u - v) / 2;
+                    if (((u + v) & 1) == 0 && x >= min && x <= max && y >= min && y <= max && !covers(x, y)) {
+                        return Optional.of(new Point((int) x, (int) y));
                     }
                 }
-                rangesStack.removeIf(removed::contains);
-                mergedRanges.add(range);
             }
-            return mergedRanges;
+            return Optional.empty();
         }
 
-        Stream<Range> stream() {
-            return ranges.stream();
+        // values one past the far edge of a sensor square that are also one before the near edge of another
+        private long[] gapLines(long[] centers) {
+            long[] after = new long[centers.length];
+            long[] before = new long[centers.length];
+            for (int i = 0; i < centers.length; i++) {
+                after[i] = centers[i] + radii[i] + 1;
+                before[i] = centers[i] - radii[i] - 1;
+            }
+            Arrays.sort(after);
+            Arrays.sort(before);
+            long[] lines = new long[centers.length];
+            int count = 0;
+            for (int a = 0, b = 0; a < after.length && b < before.length; ) {
+                if (after[a] < before[b]) {
+                    a++;
+                } else if (after[a] > before[b]) {
+                    b++;
+                } else {
+                    if (count == 0 || lines[count - 1] != after[a]) {
+                        lines[count++] = after[a];
+                    }
+                    a++;
+                    b++;
+                }
+            }
+            return Arrays.copyOf(lines, count);
+        }
+
+        // Sweeps along u: the covered v intervals only change where a sensor square starts or ends,
+        // so every stretch between two such events needs a single merge of the active intervals.
+        Optional<Point> sweep(int min, int max) {
+            int n = xs.length;
+            long[] starts = new long[n];
+            long[] ends = new long[n];
+            long[] lows = new long[n];
+            long[] highs = new long[n];
+            for (int i = 0; i < n; i++) {
+                long u = (long) xs[i] + ys[i];
+                long v = (long) xs[i] - ys[i];
+                starts[i] = u - radii[i];
+                ends[i] = u + radii[i] + 1;
+                lows[i] = v - radii[i];
+                highs[i] = v + radii[i];
+            }
+            int[] byStart = sortedBy(starts);
+            int[] byEnd = sortedBy(ends);
+            int[] byLow = sortedBy(lows);
+            long first = 2L * min;
+            long last = 2L * max;
+            long[] events = LongStream.concat(LongStream.of(starts), LongStream.of(ends))
+                                      .filter(u -> u > first && u <= last)
+                                      .sorted()
+                                      .distinct()
+                                      .toArray();
+
+            boolean[] active = new boolean[n];
+            Point best = null;
+            for (int e = -1, started = 0, ended = 0; e < events.length; e++) {
+                long from = e < 0 ? first : events[e];
+                long to = e + 1 < events.length ? events[e + 1] - 1 : last;
+                for (; started < n && starts[byStart[started]] <= from; started++) {
+                    active[byStart[started]] = true;
+                }
+                for (; ended < n && ends[byEnd[ended]] <= from; ended++) {
+                    active[byEnd[ended]] = false;
+                }
+                long uncovered = (long) min - max;
+                for (int i : byLow) {
+                    if (uncovered > (long) max - min) {
+                        break;
+                    }
+                    if (active[i]) {
+                        if (lows[i] > uncovered) {
+                            best = earlier(best, firstPoint(from, to, uncovered, lows[i] - 1, min, max));
+                        }
+                        uncovered = Math.max(uncovered, highs[i] + 1);
+                    }
+                }
+                best = earlier(best, firstPoint(from, to, uncovered, (long) max - min, min, max));
+            }
+            return Optional.ofNullable(best);
         }
-    }
 
-    record Range(int from, int to) {
-        int size() {
-            return to - from + 1;
+        private static int[] sortedBy(long[] keys) {
+            return IntStream.range(0, keys.length)
+                            .boxed()
+                            .sorted(comparingLong(i -> keys[i]))
+                            .mapToInt(Integer::intValue)
+                            .toArray();
         }
 
-        boolean canMerge(Range other) {
-            //      <======>
-            // <=================>
-            // OR
-            // <=================>
-            //      <======>
-            // OR
-            //      <======>
-            // <=======>
-            // OR
-            // <=========>
-            //        <=========>
-            return from >= other.from && to <= other.to
-                    || other.from >= from && other.to <= to
-                    || from >= other.from && from <= other.to
-                    || to >= other.from && to <= other.to;
-        }
-
-        Range merge(Range other) {
-            if (from >= other.from && to <= other.to) {
-                return other;
+        // the smallest y, then x, in the square with u = x + y in [uFrom, uTo] and v = x - y in [vFrom, vTo]
+        private static Point firstPoint(long uFrom, long uTo, long vFrom, long vTo, int min, int max) {
+            if (vFrom > vTo) {
+                return null;
             }
-            if (other.from >= from && other.to <= to) {
-                return this;
+            long y = Math.max(Math.max(min, -Math.floorDiv(vTo - uFrom, 2)), Math.max(uFrom - max, min - vTo));
+            long yLimit = Math.min(Math.min(max, Math.floorDiv(uTo - vFrom, 2)), Math.min(max - vFrom, uTo - min));
+            if (y > yLimit) {
+                return null;
             }
-            return new Range(Math.min(from, other.from), Math.max(to, other.to));
+            long x = Math.max(Math.max(min, uFrom - y), vFrom + y);
+            return new Point((int) x, (int) y);
+        }
+
+        private static Point earlier(Point best, Point candidate) {
+            if (candidate == null) {
+                return best;
+            }
+            if (best == null || candidate.y < best.y || candidate.y == best.y && candidate.x < best.x) {
+                return candidate;
+            }
+            return best;
         }
     }
 
-    record Sensor(Point position, Point nearestBeacon) {
-        Optional<Range> range(int y) {
-            int sensorY = position.y;
-            int radius = radius();
-            int deltaY = Math.abs(y - sensorY);
-            if (deltaY > radius) {
-                return Optional.empty();
+    // reusable buffers of one thread: sensor intervals packed as from << 32 | (to - from) are sorted by start
+    static final class RowCoverage {
+        private final Coverage coverage;
+        private final long[] intervals;
+        private final long[] froms;
+        private final long[] tos;
+
+        RowCoverage(Coverage coverage) {
+            this.coverage = coverage;
+            this.intervals = new long[coverage.xs.length];
+            this.froms = new long[coverage.xs.length];
+            this.tos = new long[coverage.xs.length];
+        }
+
+        int merge(int y) {
+            int[] xs = coverage.xs;
+            int[] ys = coverage.ys;
+            int[] radii = coverage.radii;
+            int n = 0;
+            for (int i = 0; i < xs.length; i++) {
+                int dx = radii[i] - Math.abs(y - ys[i]);
+                if (dx >= 0) {
+                    intervals[n++] = (long) Math.subtractExact(xs[i], dx) << 32 | 2L * dx;
+                }
+            }
+            Arrays.sort(intervals, 0, n);
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                long from = intervals[i] >> 32;
+                long to = from + (intervals[i] & 0xFFFF_FFFFL);
+                if (count > 0 && from <= tos[count - 1] + 1) {
+                    tos[count - 1] = Math.max(tos[count - 1], to);
+                } else {
+                    froms[count] = from;
+                    tos[count++] = to;
+                }
+            }
+            return count;
+        }
+
+        long from(int i) {
+            return froms[i];
+        }
+
+        long to(int i) {
+            return tos[i];
+        }
+
+        void count(int[] rows, int from, int to, long[] counts) {
+            for (int r = from; r < to; r++) {
+                long covered = 0;
+                for (int i = 0, merged = merge(rows[r]); i < merged; i++) {
+                    covered += tos[i] - froms[i] + 1;
+                }
+                counts[r] = covered;
             }
-            int deltaX = radius - deltaY;
-            /*
-                   3     9 => deltaX = 6, deltaY = 3 => radius = 9
-            7  ....######S
-            8  ....#......
-            9  ....#......
-            10 ....B......
-             */
-            return Optional.of(new Range(position.x - deltaX, position.x + deltaX));
         }
+    }
 
+    record Sensor(Point position, Point nearestBeacon) {
         boolean isInRange(Point p) {
             boolean inRange = position.distance(p) <= radius();
             if (inRange) {
@@ -310,7 +499,7 @@ public class BeaconExclusionZone {
         }
     }
 
-    private static final String INPUT1 = """
+    static final String INPUT1 = """
             Sensor at x=2, y=18: closest beacon is at x=-2, y=15
             Sensor at x=9, y=16: closest beacon is at x=10, y=16
             Sensor at x=13, y=2: closest beacon is at x=15, y=3
@@ -326,30 +515,4 @@ public class BeaconExclusionZone {
             Sensor at x=14, y=3: closest beacon is at x=15, y=3
             Sensor at x=20, y=1: closest beacon is at x=15, y=3
             """;
-
-    private static final String INPUT = """
-            Sensor at x=2692921, y=2988627: closest beacon is at x=2453611, y=3029623
-            Sensor at x=1557973, y=1620482: closest beacon is at x=1908435, y=2403457
-            Sensor at x=278431, y=3878878: closest beacon is at x=-1050422, y=3218536
-            Sensor at x=1432037, y=3317707: closest beacon is at x=2453611, y=3029623
-            Sensor at x=3191434, y=3564121: closest beacon is at x=3420256, y=2939344
-            Sensor at x=3080887, y=2781756: closest beacon is at x=3420256, y=2939344
-            Sensor at x=3543287, y=3060807: closest beacon is at x=3420256, y=2939344
-            Sensor at x=2476158, y=3949016: closest beacon is at x=2453611, y=3029623
-            Sensor at x=3999769, y=3985671: closest beacon is at x=3420256, y=2939344
-            Sensor at x=2435331, y=2200565: closest beacon is at x=1908435, y=2403457
-            Sensor at x=3970047, y=2036397: closest beacon is at x=3691788, y=1874066
-            Sensor at x=2232167, y=2750817: closest beacon is at x=2453611, y=3029623
-            Sensor at x=157988, y=333826: closest beacon is at x=-1236383, y=477990
-            Sensor at x=1035254, y=2261267: closest beacon is at x=1908435, y=2403457
-            Sensor at x=1154009, y=888885: closest beacon is at x=1070922, y=-543463
-            Sensor at x=2704724, y=257848: closest beacon is at x=3428489, y=-741777
-            Sensor at x=3672526, y=2651153: closest beacon is at x=3420256, y=2939344
-            Sensor at x=2030614, y=2603134: closest beacon is at x=1908435, y=2403457
-            Sensor at x=2550448, y=2781018: closest beacon is at x=2453611, y=3029623
-            Sensor at x=3162759, y=2196461: closest beacon is at x=3691788, y=1874066
-            Sensor at x=463834, y=1709480: closest beacon is at x=-208427, y=2000000
-            Sensor at x=217427, y=2725325: closest beacon is at x=-208427, y=2000000
-            Sensor at x=3903198, y=945190: closest beacon is at x=3691788, y=1874066
-            """;
 }
\ No newline at end of file
@@ -1,101 +1,120 @@
 package done.advent2022;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Scanner;
+import util.LineSource;
+import util.Parse;
+import util.Puzzle;
+import util.Trace;
+
+import java.util.Arrays;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import static java.lang.System.lineSeparator;
-import static util.LineSupplier.lines;
+import static java.util.stream.Collectors.joining;
 
-public class CathodeRayTube {
+public class CathodeRayTube implements Puzzle<CathodeRayTube.Command[]> {
+    private static final Trace TRACE = Trace.of(CathodeRayTube.class);
+    private static final int[] SIGNAL_CYCLES = {20, 60, 100, 140, 180, 220};
+    private static final int CRT_WIDTH = 40;
 
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT)) {
-            CPU cpu = new CPU(
-                    lines(in)
-                            .map(Command::create)
-                            .toArray(Command[]::new)
-            );
+        CathodeRayTube puzzle = new CathodeRayTube();
+        Command[] instructions = puzzle.parse(puzzle.input());
 
-            cpu.run();
+        System.out.println("Result: " + puzzle.part1(instructions));
+        System.out.println();
+        System.out.println(puzzle.part2(instructions));
+    }
 
-            System.out.println("Result: " + cpu.signalStrength());
-            System.out.println();
-            System.out.println(cpu.printCRT());
-        }
+    @Override
+    public Command[] parse(LineSource input) {
+        return input.lines()
+                    .map(Command::create)
+                    .toArray(Command[]::new);
     }
 
-    static class CPU {
-        private final Command[] instructions;
-        private int cycle = 0;
-        private int X = 1;
-        private final List<Integer> signals = new ArrayList<>();
-        private final StringBuilder CRT = new StringBuilder();
+    @Override
+    public Integer part1(Command[] instructions) {
+        return Math.toIntExact(Timeline.compile(instructions).signalStrength(SIGNAL_CYCLES));
+    }
 
-        CPU(Command[] instructions) {
-            this.instructions = instructions;
-        }
+    @Override
+    public String part2(Command[] instructions) {
+        return Timeline.compile(instructions).render(CRT_WIDTH);
+    }
+
+    // X during every cycle of the program and after its last one, compiled once so that every query is a lookup
+    record Timeline(int[] xs, int finalX) {
+        private static final int PARALLEL_ROWS = 256;
 
-        void execute(Command cmd) {
-            cmd.increments().forEach(inc -> {
-                cycle++;
-                updateSignal(cmd);
-                updateCRT();
-                X += inc;
-            });
+        static Timeline compile(Command[] program) {
+            int cycles = 0;
+            for (Command command : program) {
+                cycles = Math.addExact(cycles, command.cycles());
+            }
+            int[] xs = new int[cycles];
+            int x = 1;
+            int cycle = 0;
+            for (Command command : program) {
+                Arrays.fill(xs, cycle, cycle + command.cycles(), x);
+                cycle += command.cycles();
+                x += command.delta();
+            }
+            return new Timeline(xs, x);
         }
 
-        void run() {
-            Stream.of(instructions).forEach(this::execute);
+        int cycles() {
+            return xs.length;
         }
 
-        private void updateSignal(Command cmd) {
-            if (cycle == 20
-                    || cycle == 60
-                    || cycle == 100
-                    || cycle == 140
-                    || cycle == 180
-                    || cycle == 220) {
-                signals.add(cycle * X);
-                System.out.println("cycle: " + cycle + ", X: " + X + " (" + cmd + ")");
+        int x(int cycle) {
+            if (cycle < 1 || cycle > xs.length) {
+                throw new IllegalArgumentException("Cycle must be in 1.." + xs.length + ": cycle = " + cycle);
             }
+            return xs[cycle - 1];
         }
 
-        private void updateCRT() {
-            int pos = (cycle - 1) % 40;
-            if (cycle > 1 && pos == 0) {
-                CRT.append(lineSeparator());
-            }
-            if (pos == X - 1 || pos == X || pos == X + 1) {
-                CRT.append('#');
-            } else {
-                CRT.append('.');
+        long signalStrength(int... cycles) {
+            long strength = 0;
+            for (int cycle : cycles) {
+                TRACE.debug(() -> "cycle: " + cycle + ", X: " + x(cycle));
+                strength += (long) cycle * x(cycle);
             }
+            return strength;
         }
 
-        String printCRT() {
-            return CRT.toString();
+        // one row per width cycles, a pixel is lit when the sprite around X covers its column
+        String render(int width) {
+            if (width <= 0) {
+                throw new IllegalArgumentException("Width must be positive: width = " + width);
+            }
+            int rows = (xs.length + width - 1) / width;
+            IntStream slices = IntStream.range(0, rows);
+            return (rows >= PARALLEL_ROWS ? slices.parallel() : slices)
+                    .mapToObj(row -> row(row, width))
+                    .collect(joining(lineSeparator()));
         }
 
-        int signalStrength() {
-            return signals.stream()
-                          .mapToInt(Integer::intValue)
-                          .sum();
+        private String row(int row, int width) {
+            int from = row * width;
+            char[] pixels = new char[Math.min(width, xs.length - from)];
+            for (int column = 0; column < pixels.length; column++) {
+                pixels[column] = Math.abs(xs[from + column] - column) <= 1 ? '#' : '.';
+            }
+            return new String(pixels);
         }
     }
 
     sealed interface Command {
         Command NOOP = new Noop();
 
-        IntStream increments();
+        int cycles();
+
+        int delta();
 
         static Command create(String line) {
-            String[] tokens = line.split(" ");
-            return switch(tokens[0]) {
+            return switch(line.substring(0, 4)) {
                 case "noop" -> NOOP;
-                case "addx" -> new Addx(Integer.parseInt(tokens[1]));
+                case "addx" -> new Addx(Parse.parseInt(line, 5, line.length()));
                 default -> throw new IllegalArgumentException("Unsupported instruction: " + line);
             };
         }
@@ -103,8 +122,13 @@ public class CathodeRayTube {
 
     record Addx(int num) implements Command {
         @Override
-        public IntStream increments() {
-            return IntStream.of(0, num);
+        public int cycles() {
+            return 2;
+        }
+
+        @Override
+        public int delta() {
+            return num;
         }
 
         @Override
@@ -113,8 +137,14 @@ public class CathodeRayTube {
         }
     }
     record Noop() implements Command {
-        public IntStream increments() {
-            return IntStream.of(0);
+        @Override
+        public int cycles() {
+            return 1;
+        }
+
+        @Override
+        public int delta() {
+            return 0;
         }
 
         @Override
@@ -123,15 +153,13 @@ public class CathodeRayTube {
         }
     }
 
-    @SuppressWarnings("unused")
-    private static final String INPUT1 = """
+    static final String INPUT1 = """
             noop
             addx 3
             addx -5
             """;
 
-    @SuppressWarnings("unused")
-    private static final String INPUT2 = """
+    static final String INPUT2 = """
             addx 15
             addx -11
             addx 6
@@ -279,150 +307,4 @@ public class CathodeRayTube {
             noop
             noop
             """;
-
-    @SuppressWarnings("unused")
-    private static final String INPUT = """
-            noop
-            noop
-            noop
-            addx 3
-            addx 20
-            noop
-            addx -12
-            noop
-            addx 4
-            noop
-            noop
-            noop
-            addx 1
-            addx 2
-            addx 5
-            addx 16
-            addx -14
-            addx -25
-            addx 30
-            addx 1
-            noop
-            addx 5
-            noop
-            addx -38
-            noop
-            noop
-            noop
-            addx 3
-            addx 2
-            noop
-            noop
-            noop
-            addx 5
-            addx 5
-            addx 2
-            addx 13
-            addx 6
-            addx -16
-            addx 2
-            addx 5
-            addx -15
-            addx 16
-            addx 7
-            noop
-            addx -2
-            addx 2
-            addx 5
-            addx -39
-            addx 4
-            addx -2
-            addx 2
-            addx 7
-            noop
-            addx -2
-            addx 17
-            addx -10
-            noop
-            noop
-            addx 5
-            addx -1
-            addx 6
-            noop
-            addx -2
-            addx 5
-            addx -8
-            addx 12
-            addx 3
-            addx -2
-            addx -19
-            addx -16
-            addx 2
-            addx 5
-            noop
-            addx 25
-            addx 7
-            addx -29
-            addx 3
-            addx 4
-            addx -4
-            addx 9
-            noop
-            addx 2
-            addx -20
-            addx 23
-            addx 1
-            noop
-            addx 5
-            addx -10
-            addx 14
-            addx 2
-            addx -1
-            addx -38
-            noop
-            addx 20
-            addx -15
-            noop
-            addx 7
-            noop
-            addx 26
-            addx -25
-            addx 2
-            addx 7
-            noop
-            noop
-            addx 2
-            addx -5
-            addx 6
-            addx 5
-            addx 2
-            addx 8
-            addx -3
-            noop
-            addx 3
-            addx -2
-            addx -38
-            addx 13
-            addx -6
-            noop
-            addx 1
-            addx 5
-            noop
-            noop
-            noop
-            noop
-            addx 2
-            noop
-            noop
-            addx 7
-            addx 3
-            addx -2
-            addx 2
-            addx 5
-            addx 2
-            noop
-            addx 1
-            addx 5
-            noop
-            noop
-            noop
-            noop
-            noop
-            noop
-            """;
 }
\ No newline at end of file
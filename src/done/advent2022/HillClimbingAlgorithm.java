@@ -1,351 +1,161 @@
 package done.advent2022;
 
-import org.junit.jupiter.api.Test;
+import util.Grid2D;
+import util.LineSource;
+import util.Puzzle;
+import util.Trace;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.Scanner;
-import java.util.Set;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
-import static done.advent2022.HillClimbingAlgorithm.Cells.columnCount;
-import static done.advent2022.HillClimbingAlgorithm.Cells.rowCount;
-import static java.util.function.Function.identity;
-import static java.util.function.Predicate.not;
-import static java.util.stream.Collectors.toSet;
-import static util.LineSupplier.lines;
+public class HillClimbingAlgorithm implements Puzzle<HillClimbingAlgorithm.HeightMap> {
+    private static final Trace TRACE = Trace.of(HillClimbingAlgorithm.class);
 
-public class HillClimbingAlgorithm {
-
-    static boolean debugEnabled = false;
-    static HeightMap heightMap;
+    static final byte START = 'S';
+    static final byte END = 'E';
+    static final byte BOTTOM = 'a';
+    static final byte TOP = 'z';
+    static final int UNREACHABLE = Integer.MAX_VALUE;
 
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT)) {
-            heightMap = new HeightMap(createCells(in));
+        HillClimbingAlgorithm puzzle = new HillClimbingAlgorithm();
+        HeightMap heightMap = puzzle.parse(puzzle.input());
 
-            List<Cell> route = heightMap.findRoute();
-            debug(() -> route.forEach(System.out::println));
+        int[] distances = heightMap.distances();
+        IntStream.of(heightMap.route(distances, heightMap.start()))
+                 .forEach(idx -> TRACE.debug(() -> heightMap.describe(idx)));
 
-            System.out.println("Result: " + route.size());
-        }
+        System.out.println("Result: " + puzzle.part1(heightMap));
+        System.out.println("Result2: " + puzzle.part2(heightMap));
     }
 
-    static void debug(Runnable log) {
-        if (debugEnabled) {
-            log.run();
-        }
+    @Override
+    public HeightMap parse(LineSource input) {
+        return HeightMap.parse(input.lines().toList());
     }
 
-    private static Cell[][] createCells(Scanner in) {
-        return lines(in)
-                .map(Cells::createRow)
-                .toArray(Cell[][]::new);
+    @Override
+    public Integer part1(HeightMap heightMap) {
+        return heightMap.distances()[heightMap.start()];
     }
 
-    static class HeightMap {
-        private final Cell[][] cells;
-        private final Set<Cell> visited = new HashSet<>();
-
-        HeightMap(Cell[][] cells) {
-            this.cells = cells;
-        }
+    @Override
+    public Integer part2(HeightMap heightMap) {
+        return heightMap.fromBottom(heightMap.distances());
+    }
 
-        List<Cell> findRoute() {
-            Collection<Visit> current = higingStart();
-            Visit end = null;
-            while (end == null) {
-                current = findNeighbours(current);
-                if (current.isEmpty()) {
-                    throw new IllegalStateException();
+    // Heights live in a grid padded with a border nobody can step onto, so neighbours need no bounds checks.
+    // Immutable once parsed, so independent maps and queries can run on any number of threads.
+    record HeightMap(Grid2D heights, int start, int end) {
+        private static final byte BORDER = Byte.MIN_VALUE;
+        private static final int[] DIRECTIONS = {Grid2D.N, Grid2D.E, Grid2D.S, Grid2D.W};
+
+        static HeightMap parse(List<? extends CharSequence> rows) {
+            Grid2D heights = Grid2D.padded(rows.get(0).length(), rows.size(), 1, BORDER).load(rows);
+            int start = -1;
+            int end = -1;
+            for (int y = 0; y < heights.height(); y++) {
+                for (int x = 0; x < heights.width(); x++) {
+                    int idx = heights.index(x, y);
+                    byte elevation = heights.get(idx);
+                    if (elevation == START) {
+                        start = idx;
+                    } else if (elevation == END) {
+                        end = idx;
+                    } else if (elevation < BOTTOM || elevation > TOP) {
+                        throw new IllegalArgumentException("Invalid elevation: " + (char) elevation + " at (" + x + ", " + y + ")");
+                    }
+                    heights.set(idx, (byte) height(elevation));
                 }
-                end = findEnd(current);
             }
-            return route(end);
-        }
-
-        private static Visit findEnd(Collection<Visit> current) {
-            return current.stream()
-                          .filter(Visit::isEnd)
-                          .findAny()
-                          .orElse(null);
-        }
-
-        private static List<Cell> route(Visit end) {
-            List<Cell> route = new ArrayList<>();
-            while (end.prev != null) {
-                route.add(end.cell);
-                end = end.prev;
+            if (start < 0 || end < 0) {
+                throw new IllegalArgumentException("Height map must contain both S and E: start = " + start + ", end = " + end);
             }
-            Collections.reverse(route);
-            return route;
-        }
-
-        private Collection<Visit> findNeighbours(Collection<Visit> cells) {
-            cells.stream().map(Visit::cell).forEach(visited::add);
-            return cells.stream()
-                        .flatMap(this::neighbours)
-                        .collect(toSet());
-        }
-
-        private Stream<Visit> neighbours(Visit current) {
-            return Stream.of(up(current), down(current), left(current), right(current))
-                         .flatMap(identity())
-                         .filter(not(visited::contains))
-                         .filter(current::canGo)
-                         .map(current::visit);
-        }
-
-        @SuppressWarnings("unused")
-        private Collection<Visit> start() {
-            return Stream.of(Cells.start).map(Visit::start).toList();
-        }
-
-        private Collection<Visit> higingStart() {
-            return Stream.of(cells)
-                         .flatMap(Stream::of)
-                         .filter(Cell::isHikingStart)
-                         .map(Visit::start)
-                         .toList();
-        }
-
-        private Stream<Cell> up(Visit visit) {
-            return up(visit.cell());
-        }
-
-        private Stream<Cell> up(Cell cell) {
-            return cell(cell.x, cell.y - 1);
-        }
-
-        private Stream<Cell> down(Visit visit) {
-            return down(visit.cell());
-        }
-
-        private Stream<Cell> down(Cell cell) {
-            return cell(cell.x, cell.y + 1);
-        }
-
-        private Stream<Cell> left(Visit visit) {
-            return left(visit.cell());
-        }
-
-        private Stream<Cell> left(Cell cell) {
-            return cell(cell.x - 1, cell.y);
-        }
-
-        private Stream<Cell> right(Visit visit) {
-            return right(visit.cell());
-        }
-
-        private Stream<Cell> right(Cell cell) {
-            return cell(cell.x + 1, cell.y);
-        }
-
-        private Stream<Cell> cell(int x, int y) {
-            if (x >= 0 && x < columnCount() && y >= 0 && y < rowCount()) {
-                return Stream.of(cells[y][x]);
+            return new HeightMap(heights, start, end);
+        }
+
+        // steps from every cell to E, or UNREACHABLE; a reverse step may go down any amount but up at most one
+        int[] distances() {
+            int[] distances = new int[heights.capacity()];
+            Arrays.fill(distances, UNREACHABLE);
+            int[] offsets = offsets();
+            int[] queue = new int[heights.width() * heights.height()];
+            int head = 0;
+            int tail = 0;
+            distances[end] = 0;
+            queue[tail++] = end;
+            while (head < tail) {
+                int cell = queue[head++];
+                int lowest = heights.get(cell) - 1;
+                for (int offset : offsets) {
+                    int next = cell + offset;
+                    if (distances[next] == UNREACHABLE && heights.get(next) >= lowest) {
+                        distances[next] = distances[cell] + 1;
+                        queue[tail++] = next;
+                    }
+                }
             }
-            return Stream.empty();
-        }
-    }
-
-    record Visit(Cell cell, Visit prev) {
-        Visit visit(Cell cell) {
-            return new Visit(cell, this);
-        }
-
-        boolean canGo(Cell target) {
-            return cell.elevation().canClimb(target.elevation());
-        }
-
-        boolean isEnd() {
-            return cell.isEnd();
-        }
-
-        static Visit start(Cell start) {
-            return new Visit(start, null);
+            return distances;
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+        int fromBottom(int[] distances) {
+            int best = UNREACHABLE;
+            for (int y = 0; y < heights.height(); y++) {
+                for (int idx = heights.index(0, y), end = idx + heights.width(); idx < end; idx++) {
+                    if (heights.get(idx) == 0) {
+                        best = Math.min(best, distances[idx]);
+                    }
+                }
             }
-            Visit visit = (Visit) o;
-            return cell.equals(visit.cell);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(cell);
-        }
-    }
-
-    record Cell(int x, int y, Elevation elevation) {
-        boolean isEnd() {
-            return elevation.isEnd();
-        }
-
-        boolean isHikingStart() {
-            return elevation.height() == Elevation.START_HEIGHT;
-        }
-    }
-
-    record Cells() {
-        static int currentX = -1;
-        static int currentY = -1;
-        static Cell start;
-        static Cell end;
-
-        static int rowCount() {
-            return currentY + 1;
-        }
-
-        static int columnCount() {
-            return currentX + 1;
-        }
-
-        static Cell[] createRow(String line) {
-            resetColumn();
-            nextRow();
-            return line.chars()
-                       .mapToObj(Cells::createCell)
-                       .toArray(Cell[]::new);
-        }
-
-        private static void nextRow() {
-            currentY++;
+            return best;
         }
 
-        private static void resetColumn() {
-            currentX = -1;
-        }
-
-        static Cell createCell(int ch) {
-            nextColumn();
-            Elevation elevation = height(ch);
-            Cell cell = cell(elevation);
-            if (elevation.isStart()) {
-                start = cell;
-            } else if (elevation.isEnd()) {
-                end = cell;
+        // follows the distances downhill, every step is one the climber could take
+        int[] route(int[] distances, int from) {
+            if (distances[from] == UNREACHABLE) {
+                return new int[0];
             }
-            return cell;
-        }
-
-        private static Cell cell(Elevation elevation) {
-            return new Cell(currentX, currentY, elevation);
-        }
-
-        private static Elevation height(int ch) {
-            return new Elevation((char) ch);
-        }
-
-        private static void nextColumn() {
-            currentX++;
-        }
-    }
-
-    record Elevation(char name) {
-        private static final char START_ELEVATION = 'S';
-        private static final char END_ELEVATION = 'E';
-        private static final char TOP_ELEVATION = 'z';
-        private static final char BOTTOM_ELEVATION = 'a';
-
-        private static final int START_HEIGHT = 0;
-        private static final int END_HEIGHT = TOP_ELEVATION - BOTTOM_ELEVATION;
-
-        boolean isStart() {
-            return name == START_ELEVATION;
+            int[] offsets = offsets();
+            int[] route = new int[distances[from] + 1];
+            route[0] = from;
+            for (int step = 1; step < route.length; step++) {
+                int cell = route[step - 1];
+                int highest = heights.get(cell) + 1;
+                for (int offset : offsets) {
+                    int next = cell + offset;
+                    if (distances[next] == distances[cell] - 1 && heights.get(next) <= highest) {
+                        route[step] = next;
+                        break;
+                    }
+                }
+            }
+            return route;
         }
 
-        boolean isEnd() {
-            return name == END_ELEVATION;
+        String describe(int idx) {
+            char elevation = idx == start ? (char) START : idx == end ? (char) END : (char) (BOTTOM + heights.get(idx));
+            return "(" + heights.x(idx) + ", " + heights.y(idx) + ") " + elevation;
         }
 
-        int height() {
-            if (isStart()) {
-                return START_HEIGHT;
-            } else if (isEnd()) {
-                return END_HEIGHT;
-            }
-            return name - BOTTOM_ELEVATION;
+        private int[] offsets() {
+            return IntStream.of(DIRECTIONS).map(heights::offset).toArray();
         }
 
-        boolean canClimb(Elevation target) {
-            int h = height();
-            int th = target.height();
-            boolean canClimb = th <= h + 1;
-            debug(() -> System.out.printf("'%s'(%d) -> '%s'(%d) : canClimb = %b%n",
-                                          name, h, target.name, th, canClimb)
-            );
-            return canClimb;
+        static int height(byte elevation) {
+            return switch (elevation) {
+                case START -> 0;
+                case END -> TOP - BOTTOM;
+                default -> elevation - BOTTOM;
+            };
         }
     }
 
-    @SuppressWarnings("unused")
-    private static final String INPUT1 = """
+    static final String INPUT1 = """
             Sabqponm
             abcryxxl
             accszExk
             acctuvwj
             abdefghi
             """;
-
-    @SuppressWarnings("unused")
-    private static final String INPUT = """
-            abcccccccccccccccccccccccccccccccccccccaaaaaaacccccccaaaaaaaaaaaccccccccccccccccccccaaacaaaaaaaacccccccccccccccccccccccccccccccccccaaaaa
-            abccccccccccccccccccaaccaacccccccccccccaaaaaaaccccccccaaaaaaaaaaacccccccaaaaccccccccaaaaaaaaaaaaacccccccccccccccccccccccccccccccccaaaaaa
-            abccccccccccccccccccaaaaaaccccccccccaaaccaaaaaacccccccaaaaaaaaaaccccccccaaaaccccccaaaaaaaaaaaaaaacccccccccccccccccccaaacccccccccccaaaaaa
-            abcccccccccccccccccccaaaaacccccccccccaaccaacaaaccccccaaaaaaaaaaaccccccccaaaacccccaaaaaaaaacaaaaaaacccccccccccccccccaaaacccccccccccaaacaa
-            abccccccccccccccccccaaaaaaccccccccaacaaaaaacccccccccaaaaaaaaaaaaacaaaccccaaccccccaaaaaaaaacaacccccccccccccccccaaaccaaaacccccccccccccccaa
-            abcccccccccccccccccaaaaaaaacccccccaaaaaaaaccccccaaaaaaaacaaaacaaaaaaacccccccccaaccccaaaaaacaaacccccccccccccccaaaakkkaaccccccccccccccccaa
-            abcccccccccccccccccaaaaaaaaccccccccaaaaaccccaacccaaaaaaaaaaaacaaaaaaccccccccccaacccaaaaaaaaaaaacccccccccccccccakkkkkklcccccccccccccccccc
-            abaaacccccccccccaaccccaaccccccccccccaaaaaccaaacccaaaaaaaaaaaaaaaaaaaaccccccaaaaaaaacaacccaaaaaaccccccccccccccckkkkkkkllcccccccaaaccccccc
-            abaaaacccccccaacaaccccaacccccccccccaaacaaaaaaaccccaaaaaaaaaaaaaaaaaaaacccccaaaaaaaaaaaccccaaaaacccccccccccccckkkksssllllccccccaaaaaacccc
-            abaaaacccccccaaaaacccccccccccaaaccccaacaaaaaaccccaaaaaacaaaaaaaaaaaaaacccccccaaaaccccccccaaaaacccccccccccccckkkksssssllllcccccaaaaaacccc
-            abaaacccccccccaaaaaaccccccccaaaaccccccccaaaaaaaacaaaaaaaaaaaaacaaacaaacccccccaaaaacccccccaaaaacccccccccccccjkkkrssssssllllccccccaaaccccc
-            abccccccccccaaaaaaaaccccccccaaaacccccccaaaaaaaaacaacaaaaaaaaaacaaaccccccccccaaacaaccccccccccccccccccccccccjjkkrrsuuussslllllcccccaaccccc
-            abccaaacccccaaaaacccccccccccaaaaccccccaaaaaaaaaacccccaaaaaaaaaacaaccccccccccaacccacccccccccccccccccccccjjjjjjrrrsuuuussslllllmcccddacccc
-            abcccaaaccaccacaaaccccccccccccccccccccaaaaaaaccccccccccaaaaaaaaccccccaacccccccccccaaaaacccccccccccccccjjjjjjrrrruuuuuusssllmmmmmddddcccc
-            abccaaaaaaaacccaaaccccccccccccccccaaacccccaaaccccccccccccaaacccccccccaacccccccccccaaaaacccccccccccccjjjjjrrrrrruuuxuuussqqqqmmmmmdddcccc
-            abcaaaaaaaacccaaaaaacaaaaaccccccaaaaaaccccaaacccaaccccccccaaccccccaaaaaaaaccaaacccaaaaaaccccccccccccjjjjrrrrrruuuxxxuuuqqqqqqqmmmdddcccc
-            abaaaaaaaaaccccaaaaacaaaaaccccccaaaaaaaaccccccaaaaaaccccccccccccccaaaaaaaaccaaacaaaaaaaacccccccccccjjjjrrrtttuuuuxxxyvvvvvqqqqmmmdddcccc
-            abaaaaaaaaaccaaaaaaacaaaaaaccccccaaaaaaaacccccaaaaaaccccccccccccccccaaaaccaaaaaaaaaaaaaacccccccccaaiijqqqrttttuuuxxyyvvvvvvvqqmmmdddcccc
-            abcaaaaaaaaccaaaaaaaaaaaaaacccccaaaaaaaacccccccaaaacccccaaaaccccccccaaaaacaaaaaaaaccaaccccccccccaaaiiiqqqttttxxxxxxyyyyyyvvvqqmmmdddcccc
-            abcccaaaaaaacaaaaaaaaaaaaaacccccaaaaaaaaaaaccccaaaaccccaaaaacccccccaaaaaacaaaaaaacccccccccccccccaaaiiiqqqtttxxxxxxxyyyyyyvvqqqmmmdddcccc
-            SbcccaacccaccccaaacacccaaacccccccccaaaaaaaaacccaccaccccaaaaaaccccccaaccaacccaaaaaccccccccccccccccaaiiiiqqtttxxxxEzzzyyyyvvvqqqmmmddccccc
-            abccaaaccccccccaaccccccccccccccccccaaaaaaaaccccccccccccaaaaaaccccccccccccccaaacaaaccaacccccccccccccciiiqqqttttxxxyyyyyvvvvqqqmmmdddccccc
-            abccccccccccccccccccccccccccccccccaaaaaaaccccccccccccccaaaaaacccccccccccccccaacccccaaaaaaaccccccccccciiiqqqttttxxyyyyyvvvrrrnnneeecccccc
-            abcaaaaccccccccccccccccccccccccccaaaaaaaaccccccccccccccccaacccccccccccccccccccccccccaaaaacccccccccccciiiqqqqttxxyyyyyyyvvrrnnnneeecccccc
-            abcaaaaacccccccccccccccccccccccccaaaacaaacccaccaaacccccccccccccccccccccccccaaaccccaaaaaaaccccccccccccciiiqqqttwwyywwyyywwrrnnneeeccccccc
-            abaaaaaacccaccaccccccccccccccccccaaaaccaacccaaaaaaccccccccccccccccaaaccccaaaaaacccaaaaaaaacccccccccccciiiqqqtswwwwwwwwwwwrrnnneeeccccccc
-            abaaaaaacccaaaaccccccccaaaacccccccaaacccccccaaaaaacccccccccccccccaaaaaaccaaaaaacccaaaaaaaacaaccccccaaciiiqppsswwwwsswwwwwrrrnneeeccccccc
-            abcaaaaacccaaaaacccccccaaaacccccccccccccccccaaaaaaaccccccccccccccaaaaaaccaaaaaacccccaaaaaaaaaccccccaaaahhpppssswwsssswwwwrrrnneeeacccccc
-            abcaaaccccaaaaaacccccccaaaaccccccccccccccccaaaaaaaaccccccccccccccaaaaacccaaaaaccccccaacaaaaaaaaccaaaaaahhpppsssssssssrrrrrrnnneeeacccccc
-            abccccccccaaaaaaccccccccaacccccccccccccccccaaaaaaaaccccaacccccccccaaaaaccaaaaacccccccccaaaaaaaaccaaaaachhpppssssssoosrrrrrrnnneeeaaacccc
-            abccccccccccaaccccccccccccccccaaaaaccccccaacccaaacccaaaaacccccccccaacaacccccccccccccccccaaaaaaacccaaaaahhhppppssppooooorroonnffeaaaacccc
-            abaaccccccccccccccccccccccccccaaaaaccccccaacccaaaccccaaaaacccccccccccccccccccccccccccaacaaaaacccccaacaahhhppppppppoooooooooonfffaaaacccc
-            abaccccccccccccccccccccccccccaaaaaacccaaaaaaaacccccccaaaaaccccccccccccccccccccccccaaaaaaaaaaaccccccccccchhhpppppppgggoooooooffffaacccccc
-            abaccccccccccccccccccccccccccaaaaaacccaaaaaaaaccccccaaaaaccccccacccaacccccccccccccaaaaaccccaaccccccccccchhhhhhggggggggfffffffffaaacccccc
-            abaacccccccccccccccccccccccccaaaaaacccccaaaacccccccccaaaacccaacaacaaacccccccccccccaaaaaaacccccccccccccccchhhhgggggggggffffffffccaacccccc
-            abcccccccaacccccccccccccccccccaaaccccccaaaaaccccccccaaaaccaaaacaaaaacccccccccccccaaaaaaaaccccccccccccccccchhhggggaaaagffffffcccccccccccc
-            abcccccccaacccccccccccccaacccccccccccccaaaaaaccaaccccaaaaaaaaacaaaaaacccccccaaaacaaaaaaaacccccccccccaacccccccaaaacaaaacccccccccccccccccc
-            abccccaaaaaaaacccccccaacaaaccccccccccccaaccaacaaaacccaaaaaaaacaaaaaaaaccccccaaaaccacaaaccaaaccccaaaaaacccccccaacccaaaacccccccccccccaaaaa
-            abccccaaaaaaaacccccccaaaaaccccccccccccccccccccaaaaccccaaaaaaacaaaaaaaaccccccaaaaccccaaaccaaaaaccaaaaaaaacccccccccccaaaccccccccccccccaaaa
-            abccccccaaaaccccccccccaaaaaaccccccccccccccccccaaaacccaaaaaaaaaaccaaccccccccccaacccccccccaaaaacccaaaaaaaacccccccccccaaaccccccccccccccaaaa
-            abcccccaaaaaacccccccaaaaaaaacccccccccccccccccccccccaaaaaaaaaaaaaaaacccccccccccccccccccccaaaaaacccaaaaaaaccccccccccccccccccccccccccaaaaaa
-            """;
-
-    @Test
-    public void test() {
-
-    }
-}
\ No newline at end of file
+}
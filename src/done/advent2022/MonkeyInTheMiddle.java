@@ -4,12 +4,11 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Scanner;
 import java.util.function.LongToIntFunction;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
-import static util.BatchSupplier.batch;
+import static util.BatchSource.batch;
 import static util.Utils.Repeat.repeat;
 import static util.Utils.split;
 import static util.Utils.substring;
@@ -20,18 +19,16 @@ public class MonkeyInTheMiddle {
     static Monkeys monkeys;
 
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT)) {
+        monkeys = new Monkeys(
+                batch(INPUT).withDelimiter('|').lines()
+                         .parallel()
+                         .map(Monkey::create)
+                         .toArray(Monkey[]::new)
+        );
 
-            monkeys = new Monkeys(
-                    batch(in).withDelimiter('|').lines()
-                             .map(Monkey::create)
-                             .toArray(Monkey[]::new)
-            );
-
-            monkeys.executeRounds(10_000);
+        monkeys.executeRounds(10_000);
 
-            System.out.println("Result: " + monkeys.monkeyBusinessLevel());
-        }
+        System.out.println("Result: " + monkeys.monkeyBusinessLevel());
     }
 
     @SuppressWarnings("unused")
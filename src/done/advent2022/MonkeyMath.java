@@ -3,28 +3,25 @@ package done.advent2022;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
-import java.util.Scanner;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.stream.Stream;
 
-import static util.LineSupplier.lines;
+import static util.Inputs.input;
 
 public class MonkeyMath {
 
     private static final Map<String, Monkey> monkeys = new ConcurrentHashMap<>();
 
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT)) {
-            Command[] commands = lines(in).map(Command::create).toArray(Command[]::new);
+        Command[] commands = input(MonkeyMath.class).lines().map(Command::create).toArray(Command[]::new);
 
-            Stream.of(commands).forEach(Command::execute);
+        Stream.of(commands).forEach(Command::execute);
 
-            Monkey root = Monkey.get("root");
+        Monkey root = Monkey.get("root");
 
-            System.out.println("Result: " + root.loneNumber());
-            System.out.println("Result2: " + root.solve("humn"));
-        }
+        System.out.println("Result: " + root.loneNumber());
+        System.out.println("Result2: " + root.solve("humn"));
     }
 
     private static class Monkey {
@@ -297,2121 +294,6 @@ public class MonkeyMath {
             hmdt: 32
             """;
 
-    @SuppressWarnings("unused")
-    private static final String INPUT = """
-            nprq: 2
-            wvzt: 5
-            mlgg: 2
-            lnrg: msgc + slpg
-            dbmv: 5
-            zpmd: 6
-            qmvp: llms + rmjj
-            llsn: 11
-            dppq: 2
-            vnqj: 4
-            lpdz: jznp * rjft
-            pdmh: jscl * plbn
-            thvd: wzjp / dppq
-            stpf: 1
-            bmqc: hjbc - rfmb
-            dgjc: jzlg * sbzb
-            gfbb: 5
-            vrjz: 5
-            rmgd: 1
-            tfmm: rhwf * btbr
-            zhsf: chzv + nwrh
-            rnwc: hgmm + nrtw
-            bgsm: glsf + hcwp
-            vwqd: 4
-            qvvg: qhcg + stpf
-            cqpd: bhwg + stwf
-            wprl: 4
-            cvzv: lnbg * sstb
-            qdrz: dfdq * wcjn
-            dszj: jvfw * rwwz
-            lfnz: mfvg * vvbm
-            chzq: mrzl - zjnc
-            rmhv: zfgv + pqjl
-            hfsf: wshc / hwrw
-            tpmw: 17
-            fzgj: 3
-            jjjr: zdcm - rrbj
-            dbfh: bcmr + zgrc
-            hcfd: 4
-            hjwg: 4
-            fbbz: qpbw + phpl
-            gwzj: sngg * nttl
-            jvdc: vbwq * hqfz
-            thgv: 3
-            qlgm: jzlr + dqjc
-            pfzr: nqzq - qnlb
-            lljm: lbft * dtmz
-            ghdb: 5
-            scss: vvnj - hfsq
-            zmmp: 3
-            tgww: 10
-            csgb: vwwh + qbhv
-            vdms: 7
-            lmfg: 13
-            npjd: rdnt * bwwh
-            cvsl: 2
-            fjbm: 1
-            dfzr: 2
-            wbwz: 5
-            qstp: 16
-            jzjj: jnlc + zgsq
-            nzvh: nwdd + hlsq
-            qpcn: jggg + bttn
-            njhv: mvrm * zsmq
-            gjch: nctt + srbn
-            lzgm: 12
-            ddmh: 2
-            qttr: 15
-            jwlc: qfrj * tzgl
-            cjns: bhqn - rnhm
-            gcvd: flcm * phzv
-            vrht: fhph + csqs
-            jcfl: rwcf * hdtt
-            dvzw: 2
-            hfps: dncr + mdjs
-            sbhv: pzsq - dwvp
-            tfrb: gfwz * pjrt
-            cwsq: hnln * qbpc
-            srbn: llcm + jjth
-            rfdf: nwvb + cfgs
-            fvqc: 6
-            jzzq: 1
-            nfqw: 3
-            wwzn: 5
-            rprl: 3
-            mdvn: 2
-            vcpv: 2
-            pmqb: vfcv * bgcf
-            pzzf: pvcc * jrvm
-            dvmd: qtlb * vbwv
-            bcvw: trmr * hptb
-            bbsh: hghq + qmrl
-            cwlg: mghp - wprl
-            tqrw: zbtl * jhgl
-            hczn: 2
-            lvdv: 7
-            sfvv: 13
-            vbbm: 5
-            jfrl: 5
-            tbjj: 3
-            qqqq: 5
-            wrdb: 13
-            bbpv: gbdn * qjpw
-            ccwj: hznc * smfh
-            wwnf: nmcn + wjqq
-            htrq: 3
-            dpmz: tvvc + tswl
-            sgql: wdff * scss
-            vwzb: 2
-            gdmq: 7
-            wjfb: fcmm * ghqb
-            jhgl: 7
-            jrzm: nzvh - dzcc
-            lrph: 3
-            jfwb: 4
-            jzlg: 3
-            ctzp: lvvf * dbbq
-            cjfh: cjbs + bpsw
-            ngzt: 8
-            nrrd: vrnh + rcbr
-            pnbf: 13
-            gsjs: zdnf + qnft
-            wwzt: 3
-            gmgs: qqlz + jnjd
-            rgzt: 8
-            wbdq: 3
-            tgsj: wzvv + cnmz
-            dpwl: 4
-            jbbm: cslc * rjtn
-            nwrh: vhlm * hpmm
-            jgmj: 4
-            qwwl: 2
-            fcfd: ggtd * lnln
-            shfh: 4
-            vfnh: fmdq * qctz
-            rpst: pqmw + hpbz
-            drwl: rgzt + tpvg
-            tcjr: 2
-            cppz: tscr * dhpq
-            fmrv: drjj * tftr
-            cllv: zpbt - cnsw
-            rjcw: rdhh * zcvz
-            zrbz: 11
-            dfhw: 2
-            bvtf: 11
-            qmqb: bdht * hbmg
-            rqrh: 11
-            fjgs: fhsp * rjqq
-            nddc: djcd * gvzz
-            sznc: 2
-            jsft: rrcs / gpjj
-            pswm: rmcj * bndm
-            fhdh: mgrn * fnqt
-            ltdc: 3
-            mdtt: fvwh - ptcq
-            fcpd: 3
-            hnmz: 3
-            bhcs: ncnl + jrrg
-            mnqr: 3
-            pdnf: jbbm / dpbt
-            hqhr: 16
-            brgr: 3
-            hsqh: 4
-            dtsp: gcnn * cbbv
-            hnln: psct / vjsj
-            vvzw: 2
-            clgt: 5
-            ldlm: hfps + pvjd
-            qdmg: vpvz + vsrb
-            wmbz: 11
-            fnqt: 2
-            bjfr: 1
-            dqjw: 2
-            dprl: thvw + cmmf
-            tsmq: wwnf / lqnz
-            tgdw: 7
-            sdhs: ddqs + sjvq
-            msqm: 2
-            sfmq: 3
-            ngch: fhdh + zqnm
-            rpjn: vbwf + tlqn
-            wttd: hvss * dmpw
-            strj: zmzs + vqlc
-            zrjr: jrzm - dlwj
-            znbf: dngb * tvgl
-            pbcg: 5
-            lmgn: 9
-            zhhd: qdlt * vjct
-            zvrp: 7
-            pfrp: lnpn + ngnz
-            nvfl: 2
-            gzfv: 4
-            ctlr: gqvq * nnjh
-            mwfb: 2
-            vfmz: 2
-            sldq: 4
-            lvcf: 8
-            gzpd: 12
-            lnbg: bmcv + dbjm
-            wnsl: dhrb + lgsn
-            mgpp: 8
-            dsvn: pvtt * zscw
-            jvgp: 2
-            zdpt: 4
-            nttl: fgbh + vzzl
-            zhdc: 3
-            wdfb: 7
-            llcm: 1
-            jntg: 3
-            lnpn: dbtc * mgpp
-            cdlf: hdns + nsqz
-            ntcb: lcjs + llgf
-            tdrr: 10
-            lhfm: 9
-            qwbp: 4
-            tgbb: 3
-            ppnz: 3
-            jnfj: wzqw + scpp
-            fpfc: 3
-            jdcj: 2
-            mllp: qzhz * dgfm
-            dbsv: 4
-            dngb: bldq * pbcg
-            nnpw: 4
-            nhvb: gwpt * lmts
-            mqzg: ljhw + brss
-            vcfg: nnzl * gwzz
-            zphl: 1
-            tmnp: mhnw * lqpd
-            drgg: 5
-            fsll: tcvc + nnfj
-            qmfl: mflw / bbwc
-            rtdl: 6
-            tbzv: gsfv + hbmn
-            hjlz: 2
-            dlwm: tggn * pjqs
-            qpgs: 2
-            lzvq: dszj + jrdn
-            dbtp: 2
-            cmpb: 3
-            lrmd: flvp + wzfz
-            qpzb: rtlc * hzdw
-            tnrc: wcwc + shfh
-            pdhm: 1
-            jzvb: ggmj + mbpn
-            vdjv: zgvb * qdnl
-            zfgv: fznv * dhbh
-            cjll: 18
-            mwwq: 2
-            swzv: 5
-            fwgm: cztz * rgjs
-            jwrt: 3
-            vdcg: wwfm / qtqp
-            tncj: 2
-            fnpz: 3
-            zsdv: qwwl * bgsm
-            brcc: 3
-            ssrg: 5
-            plvj: 10
-            wtbn: tcjn + nchh
-            tmvj: 1
-            rdmc: zcjz + rnwc
-            fzqb: zscf / nmhw
-            gwjq: 3
-            qfgs: jmvz + lmgn
-            jmqt: qdrz * wmzl
-            clbz: jzhl * vrht
-            jwqj: 2
-            bvwd: 13
-            vpnr: dfzr * zrhr
-            gmcn: rbsz * lbgm
-            gzjp: 3
-            ftlc: 5
-            tcdf: 11
-            nhgm: lrqt + nlfz
-            qjzs: 16
-            lqvj: 2
-            tjdw: 5
-            vrvz: zbhb + pbzj
-            cqrm: rblq * hgnm
-            vhlm: 2
-            qjpw: hjwg + ftcz
-            ltnn: 7
-            mcqr: wvgb * pbcq
-            zpbt: dcpz + cjcw
-            wdwc: nvth * bqml
-            sprb: dlmb * cndq
-            nzzr: 3
-            lwpb: 3
-            hzzz: 2
-            twwp: fmmh - ccgr
-            lpzb: bdjh * rpzz
-            bhhr: dpbj / nvzq
-            dgvd: rtzw * fljw
-            smvr: 1
-            cmdd: 2
-            tcdp: 7
-            bttn: 4
-            gfwj: twtq + mjmc
-            gwpt: bzzw + zpmr
-            tltd: 7
-            mdjs: 5
-            tldp: bzpc + tdln
-            rwzw: 4
-            rqmh: cnbn * lnrp
-            nrgr: 3
-            cfgs: 13
-            dqjc: spbs + swnv
-            vhph: dttr + npcq
-            djcs: 3
-            tltr: 7
-            clzb: 2
-            fvhw: 13
-            psrd: qlgm * vdqf
-            tdlb: brjh + twtz
-            jpnn: 8
-            chtj: 3
-            wdqh: tldp + lzpl
-            shqt: ttgf + vlpn
-            mjsn: 16
-            qfwb: tpvf + cmnd
-            plcd: mfjg + nlhw
-            vszj: cdgz * rhll
-            nwnt: 3
-            zggm: 11
-            scqr: nbvc + lhzb
-            clfq: jtgr - dtrd
-            ztlr: nbfb * tdgs
-            ftdq: 3
-            lfmd: 4
-            cwsh: 2
-            fgdm: scnl * jvrb
-            vpfq: 3
-            fzfg: 2
-            fhpd: 3
-            rtcn: pszt + fwgm
-            dtfb: wqcl * grdg
-            zgrc: gvwt + qfpw
-            pgwl: bmhv * jwhf
-            gbdd: fcwd + qdhs
-            dccn: wdfb * rpst
-            rwcf: wfsd + fmzr
-            nmwh: 6
-            pcdb: 2
-            hrpz: ctlr - tpsr
-            bjcr: ldlm * jsjd
-            bcmr: nflm + rvhn
-            gzqv: 13
-            dbzr: 2
-            swrb: 6
-            whpf: 3
-            scdj: gzjp * vbwn
-            qhss: 1
-            vvqg: lttn + vfpp
-            tqzj: gqhj - zpdf
-            fvhf: 4
-            sqsb: tctg * fzfg
-            tcvc: rcnd / hpzg
-            gflz: 8
-            zhrd: gwjq * vnrb
-            bndm: 8
-            jhcn: tqzh + qplq
-            djzq: 2
-            bgcs: chtd - pdhm
-            nfhq: 1
-            dvrs: 3
-            npvh: 2
-            qnlb: lldz + mzfr
-            jnch: zvqd * wcnl
-            mhhr: dfhw * jtlm
-            gcnn: fpfc + svfp
-            bzsv: ghqn * zvch
-            jljh: vhph * fcbn
-            dhlb: jhcn + hwgn
-            hrzf: tcdp * dvtc
-            vbms: 5
-            dtlt: 3
-            vbsz: fjrn * glbt
-            pbht: mwvl * vbrl
-            jpjh: qpjb + zwbt
-            gtmh: ljhs / jwqj
-            fpgd: 2
-            hltj: 5
-            pzsq: 17
-            vhsw: 8
-            dpbt: 3
-            fnsd: hncc * gnct
-            ctwv: tnrc + dwhw
-            hszg: lwns / ljbc
-            rdmr: 8
-            nbvc: 2
-            prff: gzfv + tqbh
-            qqtp: 2
-            llpf: 2
-            phhf: 9
-            tlqn: zhmr * rngj
-            nggd: 3
-            ndls: rlfv - wwzl
-            gbcm: 2
-            wdch: jbqs + jgnl
-            jmcc: gpbs + lnst
-            dtbb: hlpd * wmzq
-            hggd: vhjh + csgb
-            qjvf: 5
-            tcwv: 5
-            nvbv: fnsd + zwhn
-            cgmg: zfpm + zwzw
-            sncq: ddcm - tsjd
-            pbhf: qbpg / bjhl
-            nvwm: qrlm * ccff
-            wlmt: 2
-            ccwf: 2
-            qqds: cjht + vngl
-            qvbd: lsms * hmfz
-            zbhb: lmdt + thcm
-            vthj: szhg * rjcw
-            cnlm: chrc + gvnj
-            jbqs: 15
-            hbzc: 1
-            hsbm: 6
-            vfsb: tntn * hhwj
-            lcjs: qdmg + sctv
-            jfdb: 3
-            jqdv: 3
-            hhnd: hzhj * rfmm
-            sdvv: pcmc + grrz
-            zjqc: qpng + qqtw
-            hznc: 8
-            fhrp: 13
-            vhjh: 5
-            hmfz: 2
-            tlqz: 3
-            mpnv: 20
-            lvvn: bpwm * vzwb
-            brmj: tmvj + lffq
-            dbdm: tsws * nnnt
-            qqpz: lqsz * qwsv
-            dmzd: qdmr * ftlc
-            wcdg: 2
-            dgvm: 17
-            rjqq: 2
-            tzbb: dgnb * plhj
-            tzsj: 18
-            nwzn: vtqf + sznc
-            zldq: ggzw + vcqb
-            dsqs: phgn * qhnh
-            vjsl: 7
-            qtgf: 2
-            cslc: 7
-            tswl: 1
-            qbpg: hvgh * zhrd
-            ztbc: rlqq * tlfr
-            zjqb: vgdp * zpjh
-            wdff: 2
-            bwgw: rnlm - jqdv
-            nmhz: hzlb + fstj
-            jhlv: fcpd * hpfg
-            rsmh: fjbm + ppzr
-            jbzw: 5
-            clhw: 3
-            jcqj: nhcp * qvbn
-            cnsw: 3
-            qqtw: rqmh / fgfs
-            chzv: hsgd * dlrv
-            llhd: lwqf * ndjr
-            sbbs: czzp * qgtc
-            rhhc: jzvb * vsqd
-            rblq: gwzw * zsdv
-            dbbq: trdn - vfvp
-            sbsg: fgfb * gwdm
-            zwgw: wqqh + qfmj
-            tspj: 11
-            twtz: bmcs * jqfw
-            hfnp: nmwh + trvn
-            hzdw: 4
-            svwc: 9
-            jmjv: gfcd + jrfg
-            blcn: nmbh - dsvj
-            vvnj: 10
-            nlhw: 5
-            mppt: gmrc + stzf
-            zvqm: rftg + lnpd
-            ffhl: jhgg + flcr
-            rdwq: 2
-            ppwp: 6
-            dcsf: 1
-            jcqf: 2
-            mptg: rdhv * hmgq
-            tdgs: 7
-            nqbh: vfnc * flmn
-            mwtw: vlrn * dqjw
-            wnvb: 9
-            gcqt: 3
-            bzfm: tfgl + wnmd
-            bztd: jqfr * tltr
-            gcgz: 5
-            btbr: dsgd + shjz
-            pdlc: pmpp - hzld
-            hzhj: 15
-            mvrm: 2
-            qrrz: ppmj + cvdg
-            scnl: 2
-            ngbz: bqzh + jzjj
-            vgdq: cqjp * rgwm
-            brss: vdff + ntcj
-            gtwt: rddc / mfqn
-            jgfg: ztdl * gtjc
-            grdg: 7
-            hhbc: tlts + zzrs
-            hcsb: 5
-            ghbg: 1
-            wbgn: 2
-            vzbp: 3
-            fstn: 2
-            vplv: pbvg * mhwg
-            fnnd: 3
-            tggn: 2
-            dcpz: 8
-            hsgd: vpgd / vmjm
-            qmfm: hhtp * lgrf
-            wgmw: 3
-            ghqb: jnvp / mvrh
-            hnhg: dmzd * sfpv
-            sthg: 2
-            srgl: 3
-            smgj: qczf / jscs
-            ffqm: 5
-            pmtv: 6
-            vbwq: 5
-            qdnl: tlgr + gdzb
-            fvwh: plcd * lqsw
-            bqcr: mpjj * lvgb
-            ghbd: zpjm + nhvt
-            zdcm: pppb + clmt
-            vjsj: 2
-            fmdq: lhmv + fgmr
-            dhrb: bdgh + rfdf
-            flnj: cmpb * tmmq
-            dbgp: 20
-            plhh: 2
-            wwtp: ljjw + gslt
-            zgcs: vgbp * jbzw
-            pwff: gmtl * gwzr
-            zmbh: 10
-            tqmn: bwgw + hpnp
-            nvzq: 4
-            hwrv: hnds * smnm
-            lffq: 5
-            tgcb: nfwz + ztlr
-            mpgc: hczn * qmvp
-            mgzq: bhwh + wlnz
-            fbrg: 3
-            nthf: rfqc * jthc
-            mfjg: 3
-            vgql: 7
-            qqhn: jwlc - qdqb
-            dwvp: 4
-            fqbv: 2
-            nhlz: 13
-            snjh: 2
-            hqld: 13
-            bbwc: 2
-            sspn: 3
-            sppq: 1
-            vvwr: 7
-            dvcj: fnpt - fsvs
-            mjmj: 3
-            hdns: tljl - lsjh
-            fgfs: 7
-            jfvz: 2
-            tjwn: 2
-            tgtb: pnhh * gvrb
-            dgbh: jhlv / clhw
-            ptql: 3
-            jmvz: 2
-            mzwc: rsjs + nthf
-            sqwl: 3
-            dgww: 2
-            mtwg: fwnb * nrwb
-            vfqd: dbfh + ncvt
-            zlmf: 3
-            sssl: 11
-            zvnw: 3
-            sfgc: zmbh + tfmm
-            qpwf: wmqt * ffdz
-            wjjt: gnzs + tnts
-            pjgq: gjsh + jgvq
-            dwnf: btcj * gjfr
-            zglm: 2
-            srvj: gclh * vjvq
-            plnd: 2
-            ndpr: wcql / zhdc
-            hlvb: 5
-            cjbs: 2
-            pvtt: clbj / hjlz
-            rcbr: cvmz / ldwz
-            vfzp: 16
-            rwbj: 3
-            qczf: vrbl * twjt
-            dnvh: qhgd * bnbw
-            tmqg: hlqn + vvss
-            zsmq: gjnw + qqhn
-            vbwv: 9
-            nfwz: 1
-            cwtl: snds * vhvz
-            glbt: 5
-            nnjh: bcvw + gtwt
-            glcj: 14
-            nmcn: hrpz + dwnf
-            fgfb: 2
-            vsqd: 2
-            lgrf: 2
-            rcdq: qnbg * tbjj
-            hvbh: 4
-            drjb: 15
-            bndb: 2
-            tcnw: 18
-            qccw: nvcl - zmjq
-            ldbj: jfwb + jcls
-            rffj: 13
-            gdqz: 3
-            wmjw: 7
-            swlr: gcqt * mwfb
-            vfds: lpzb + pfzr
-            bnvl: 4
-            dvwj: gsjs + ghnh
-            tftr: 3
-            bcmq: 2
-            jwfs: btbt * qsqp
-            cntp: 2
-            vhgt: sppq + gmcn
-            nqnh: 4
-            ccbp: fqlw + wdch
-            fwqf: sggw * mhss
-            nrrp: szhv * gmgl
-            jscl: 2
-            bgvz: 2
-            dwdd: 19
-            fgbh: 2
-            hstz: hwbd / twcb
-            rlsw: jsft + nfhq
-            sggw: fzgj * jwrt
-            jzlr: 5
-            sbvv: nqdb + ftwh
-            djbc: ppnz * dgvm
-            mfqn: 3
-            vcqb: hvbh + wqsz
-            cndq: 2
-            pbrj: 11
-            pcmc: vfsb - hznd
-            ccwb: 2
-            pchz: trtm * swrb
-            gqvq: pzhr * jzbv
-            hvss: ngch + brjv
-            qfrj: 5
-            cnmp: 3
-            thvw: zphl + pchz
-            mlwg: 3
-            ddfr: qqtp + mpnv
-            rzcv: 2
-            wzfz: jtrl * rqwr
-            nlbv: npjd + vwsn
-            cnbn: jdcf * qzpm
-            rhwf: 3
-            szmm: nrcz * tdpc
-            hrqr: 3
-            zcjs: 3
-            hgsr: bwqr / tcwv
-            gfmp: jmwv * jwbp
-            mplv: 2
-            cgvz: 20
-            bldq: 2
-            bzww: 3
-            vpvh: tfht * mfwc
-            bjgg: 7
-            bbts: zwjm * jtzf
-            cmmf: zvrp * dzjf
-            qrlm: 13
-            phzv: hstn + zgpj
-            vtpt: msqm * lpqw
-            hhqs: 3
-            rhww: 17
-            svhm: 3
-            blfn: 19
-            mtgf: 4
-            ttgf: cwsq + mwrp
-            qtqp: 2
-            cjzw: dvhs + tfrb
-            ghrc: htvt + wgsm
-            wwfm: twwp + vvqg
-            hjbc: ghdm * ftdq
-            flcr: rwsc + lwwg
-            mbcj: mggn + stcr
-            gwrz: frcj * dgvd
-            fhpv: 4
-            ldsr: sthg * nfpt
-            rdhq: 2
-            lzzc: vbbm * dpmt
-            mfbb: 5
-            jcjl: hpwz * dcvs
-            nhqw: cgmg + dhlb
-            sqtj: 2
-            gdnz: zfvj * cgdv
-            wmmw: pvhv + sbvv
-            nqdb: gdnz * bbhs
-            fgpd: fhpv * bvvq
-            lldz: 12
-            tlwp: vdbh + nztm
-            cmhh: 7
-            mswd: 2
-            vwwb: rptr + gvjd
-            pdbp: ztqc + rgfg
-            mvdd: jljh * tpfh
-            vdff: mhhr / rmjb
-            nhzs: 3
-            btcj: bjcr * cfzc
-            nbqv: rzbt * wpmn
-            nhcp: llzb * wdsb
-            cmgd: 4
-            hrvn: 4
-            brvj: rsmh + glch
-            zltj: sbbs * prff
-            mgcc: 1
-            fjrn: mhdc * fstn
-            fqpq: 3
-            lqtr: dtsp * pvms
-            jsfd: mpmf * zccn
-            lmvv: 9
-            bmhv: hsvm - mftj
-            hcbt: 5
-            hsrq: lfnz - bgqs
-            mgtj: 5
-            zpdf: qzcv * jqnt
-            dtbn: qvbd + hsbm
-            dtrd: 1
-            bmcs: djbc / zlmf
-            chfp: wmdz + vmsv
-            qpng: twlw * nzvj
-            wtvj: 2
-            lrqt: rghr * cdgb
-            vqqv: sgql / jvgp
-            ggvm: 2
-            gvwt: 4
-            msnt: 3
-            rgjs: 3
-            vlzq: 2
-            jvlq: hhqg * pcvt
-            bzhz: 4
-            gvnj: rccn / clmq
-            pgrb: zdpt * hfcj
-            mhlb: 2
-            nwcp: 2
-            bshj: 6
-            frmc: 6
-            bczr: 2
-            zdzp: 3
-            bnqs: 10
-            dcgs: fwzh * cjqr
-            rrcs: lnnc * tqzl
-            zcjz: tcnw - mtvn
-            lhzb: 4
-            rlfv: 7
-            gsrf: qcnr + pbwh
-            rccn: bzfm * gfzd
-            qnft: 10
-            jwhf: 2
-            mhdc: lqsh + jbsv
-            dbjm: pcnf * hnjt
-            qmbd: tjwn * wdtc
-            zscf: zzlt + vszj
-            vjrh: gcgv + rjts
-            tpcv: mwwq * cmgd
-            mjmc: 5
-            jlgf: qhcc + djrm
-            bpmn: mpgc + hqvr
-            qrcc: 1
-            gjnw: 3
-            jscs: 4
-            zhnl: 9
-            mttz: mtth * ljbd
-            sctv: zlzq + bbsh
-            nblm: jszp * hrzf
-            jqnt: rgdv + lmlb
-            msdw: 5
-            qplq: lpzq + mjzd
-            tjgz: wfsn * jdcj
-            bgpf: 7
-            bhnj: fpgd * lzsm
-            gcbr: tqjg * qrcr
-            hstn: 5
-            twjt: 15
-            jjth: 5
-            jvvb: 11
-            stqv: zmgh * hcbt
-            hzld: wjjt + nrrp
-            wdtc: fzwt + rcdq
-            wfts: 2
-            qhcg: 6
-            czch: psrd * szmm
-            tdpc: 5
-            fgsl: qfqp + rsdd
-            gjqv: vwqd * sprb
-            ljhs: pfrp - fdts
-            hbnl: 11
-            qgbg: 2
-            vpvz: dpmz * dsvn
-            fpjm: 3
-            dvtc: 2
-            hvrw: rlsw * bgfl
-            bvnz: 3
-            jggg: 7
-            czzp: vnsw - qpnz
-            vnsw: dtfp * srgl
-            bnbr: 7
-            jnjd: stqv * gwzj
-            bpsw: hcfd + vlzr
-            nffn: 2
-            nqsz: pdnf * cscw
-            rjrh: czsq * snjh
-            vvss: bnrw + pbwm
-            cvrr: pvbl * mbfb
-            zjnc: 3
-            mfwc: srvj + dbdm
-            hswd: 2
-            gzll: 5
-            vwwh: 7
-            dlrv: lmzh + bhnj
-            pjqs: hcwz + bppc
-            cmgj: jqcc - bzsv
-            hpfg: mjws * bmzj
-            cvmz: qljr - zwgw
-            dhbh: 4
-            dqhd: pcdb * zjqb
-            fwsc: tqhd + dmtg
-            dccz: scqr + ltdc
-            cjht: 1
-            prsn: qccw + tmnp
-            vpgd: bgvz * gbdd
-            rlqv: tqvl + jgmj
-            jwbb: djcs + zgcs
-            qzpm: 3
-            hpwz: smmw * mgtj
-            qdwp: plvj * chmp
-            ndlq: 5
-            hmld: glcj * jvtq
-            vcvg: 5
-            mvrh: 2
-            qrrt: 5
-            thfv: 3
-            csqs: 4
-            rqwr: qhss + gscg
-            ndsg: lssl / ffqm
-            rqlg: vbjt * hntd
-            wwmz: 2
-            hjrs: 19
-            zwhn: ppwp * mwtw
-            zvqd: 2
-            jdpf: ldbj + tszq
-            bpnm: trcz - nbcp
-            vfvp: gpmm - rlqv
-            wgsm: 5
-            tljl: bshj * hwlv
-            trjr: mprp * gfnm
-            dcvs: 5
-            qlhl: 8
-            ldwz: 2
-            qsqp: dprl + dzcz
-            dzcz: ffcb * ffcz
-            bppc: 2
-            wpwd: twgq * vnmn
-            tstc: 5
-            gvqd: jmsp / vvqm
-            tdhh: 7
-            llzb: 2
-            rngj: dqlh * ggrc
-            wbwl: fzqb * sshz
-            lqzf: 1
-            tvgl: 5
-            dzmr: 7
-            nbfb: 3
-            lbgm: 4
-            jdrl: htln * thvn
-            fhph: wzzs - fbrg
-            mhvq: 2
-            spbq: 4
-            pjmp: thfv + vplv
-            wzjp: htbq * pwff
-            qvpb: hfsf + nddc
-            dtfp: 7
-            twcb: 2
-            jszp: wtbn / ddmh
-            cmqs: 2
-            htln: 7
-            zjgs: 3
-            zqwj: 2
-            vfpp: sssl * vvzw
-            jqfr: 3
-            mtps: jcjl + hpwt
-            pnhh: 3
-            zqgm: lwpb + zrbz
-            glch: gfwj + zdjv
-            hhgm: 5
-            fngj: 10
-            mgvs: 11
-            gvsp: 13
-            mfpd: 4
-            tmqs: 14
-            fnzq: 4
-            ntsg: gglw * qthn
-            tnts: tpcv * zfcv
-            bnrw: 6
-            qhnh: rhvg + rggq
-            gclw: vrjz * tdtn
-            nczf: lzhz * wnjj
-            bdgh: 3
-            stft: 4
-            hrdc: 5
-            dhwv: rjmh + qjvf
-            lsjh: 11
-            vzcj: lhrf + qvvr
-            lnrp: 3
-            mhsz: 3
-            dcbf: lscv * bvrp
-            jqtp: 3
-            vstg: 11
-            trlq: 3
-            wrcv: sdhs / ggcv
-            nvvn: 3
-            glpc: 4
-            fcls: 9
-            cfzc: 9
-            mzfr: fjzz + zclm
-            gpdt: 3
-            vhvz: 3
-            dfwn: jgll + zmll
-            nwcs: 4
-            npfj: 1
-            gwzw: 2
-            rhgj: 3
-            fwdw: shjg * nggd
-            sdvh: 2
-            fhsp: 13
-            nbcp: 1
-            jtpb: hfzg + bdvl
-            jjgz: vcmv + tgsj
-            mghp: tjdw * bjgg
-            cdqb: 2
-            bhwg: hqrf + vstg
-            hwlv: 11
-            fjzz: 13
-            bqzh: hzlr / mtfp
-            qgmm: tcmv + wmcf
-            dzcc: wmmw * qgtt
-            vmsv: mtld * pfjr
-            gtgs: cdrp * vfmz
-            tlgr: 12
-            zwdj: lzgm * nvvn
-            rggq: jmjv / brmj
-            tlfr: 8
-            mpjj: tnrd * mggd
-            hhtp: 5
-            hcfj: nqbh - pngr
-            ssml: ggjj + gwbd
-            gscg: cjll / fdms
-            hnjt: sncq + wfgr
-            trtm: 2
-            nshm: 1
-            rpwl: znbf - mbvm
-            bwqr: pfcd * vzcj
-            dmtg: vqqv * cvgh
-            vbrl: hrvn + fvhw
-            tqss: fvht + djzl
-            nfcr: rqlg * dtlz
-            jnvp: wbwl + ldgj
-            rvlt: 7
-            dfhh: npfj + cvfn
-            tcdn: nbth * pbrj
-            czsq: 3
-            whvg: wwtp * tmqg
-            llpb: 19
-            vtqf: lfcf + qgzf
-            szhv: 3
-            cscw: rgvw + qlvv
-            jrwt: rpsg + wqst
-            shjg: 2
-            tqhd: fcfd + wlnf
-            cfrn: 3
-            wqcl: 2
-            tpvf: 6
-            zfcv: ppqz * zwsf
-            clbj: jvgr * wbgn
-            gwsj: 8
-            gmtl: 7
-            lmts: 2
-            mmgr: 2
-            zmhf: vrvz + bvnb
-            sqdq: 2
-            wltg: drwl / wfnj
-            hwzz: 7
-            chmp: wvcs * mgfc
-            bhbr: ghdb * jpsq
-            rrts: dtbn / mtgf
-            lctc: tqzj / lmvv
-            nvcl: brzp / bzhz
-            zmtj: 2
-            tvzn: lwtv / jnlt
-            qrpf: 3
-            mflw: gmgs + zdvc
-            zlqs: 3
-            qwsv: rtbv + scdj
-            gwzr: 2
-            hgnm: 2
-            sbtg: mflr * tpmw
-            gjsh: qnhl + vnqj
-            mcqz: dvdp - fntw
-            qbqz: 3
-            pvms: 4
-            qthn: wrdj + mmtl
-            jcgg: 6
-            jpfd: 4
-            ghqn: tnhl + vnst
-            smmw: msdw + tpfr
-            tgld: 2
-            jnvl: 2
-            zpjh: 3
-            tsjd: fmrv - pgsq
-            flvp: mztm * qgbg
-            pmzp: 5
-            cdgz: 5
-            vfnr: wrcp * zslc
-            fstj: zfld * mdvn
-            tgdn: tlqz * lnvr
-            hznd: qljh * bzww
-            vgbp: lpfw * vcls
-            ftcz: 3
-            jtrf: 1
-            qnhl: hfql * dnsf
-            jwtf: fwnr / nbpr
-            ddcm: mlrh * hbfm
-            qcpp: 3
-            jbgh: 3
-            zqwc: bnvl + rhgj
-            tsws: nblm + jbgh
-            gdvz: rdvh * ccbp
-            lnln: 6
-            clrg: nshg + cvrr
-            ptqs: 2
-            bhwh: fltm / vjvv
-            nlfz: tzbb - dccn
-            pmjb: bsrc * vmgc
-            jllw: 3
-            jwbp: 5
-            mgrn: nvwm + qmll
-            pjhm: vpfq * hfsj
-            nnnt: 4
-            jhmw: pdmh / mmgr
-            bzqq: 4
-            flmn: 4
-            zccn: dcsf + jcgg
-            lwqf: 6
-            wmqn: bsdn * hqjq
-            bnjf: 7
-            trvn: 5
-            sbsp: 15
-            mpvn: 6
-            jdcf: pzws + swvc
-            tpfh: lctc + mtps
-            hpjc: 2
-            bnng: 3
-            dswq: qmdf - nwcp
-            rsdd: 7
-            sdcf: mplv * qcpp
-            qpcm: 5
-            rdvh: tgww + rprl
-            rmjb: 2
-            mggd: 3
-            bfvr: 1
-            lqsh: 12
-            tlts: gdmq * nzfp
-            jnlc: zjtb * rmhv
-            hhqg: 9
-            tlfd: wsmp * zqwc
-            mhjj: wmms - rdmr
-            vbpn: tnfb + fgpd
-            rdhh: 5
-            gqfr: 5
-            jqcc: bjjb * qncq
-            fvfw: 3
-            scmg: fgsl * brgr
-            jthc: 4
-            vjct: msth * shgn
-            pvjd: 2
-            zfvj: 2
-            lzpl: rwls * tgld
-            mbvm: 9
-            cqjv: bscm * hjrf
-            bnbw: 3
-            qhsj: 2
-            dmpw: 2
-            rtzw: 4
-            blwm: qwjc + vwwb
-            qctz: 2
-            vlzr: hzzz * wwzt
-            rvhn: whmj + vbsz
-            zrjv: zvhm * hqld
-            fqlw: 14
-            qjgw: gvqd * hrqr
-            lftp: 3
-            hpmm: bvnz * vfds
-            wstq: nrwm / jlph
-            bdjh: 19
-            rfmm: 3
-            vlrn: jcgw - znmp
-            nctt: 5
-            pjrt: 2
-            hzbc: 5
-            brzp: blrp + pzzc
-            gqzn: 2
-            hlhs: fnbj * hmcr
-            wnqq: rpjg + jzwf
-            pvbl: 5
-            wnjj: 3
-            rgsm: pjgg + rqln
-            tszq: 2
-            tpsr: nvbv * wgmw
-            frfc: mjsn * qrrt
-            zhmr: 3
-            tnfb: pmjb + hbzc
-            bvbc: 5
-            jdff: 14
-            jscf: bcbm * rvlt
-            ncrn: 2
-            plpq: 4
-            ndpz: 3
-            cgfg: qgmm - nsft
-            qftb: 3
-            fhdd: 15
-            jsjd: 3
-            lnbl: tttg + tqrw
-            wdqs: 4
-            tdtn: 5
-            wmms: dfwn - gzll
-            dgvz: tdlb * dbzr
-            mlrh: hstz * nffn
-            rmjj: 7
-            gfcd: mfzd * wvqs
-            prfv: 2
-            gtjc: sdmj - wmvl
-            gfzd: 5
-            vvgw: 17
-            bvvq: ptql * qtgf
-            gcsw: lnrg + nrgr
-            rlfn: 2
-            dhhj: 3
-            dpbj: jwfs - zhhd
-            lzhz: 3
-            nbqj: 2
-            ppzr: 5
-            djcd: 4
-            nbth: 2
-            qmrl: qrqj * bbts
-            hlqn: 2
-            hwgn: sjrp * nrrd
-            rfqc: sfvv * wszw
-            ggmj: 12
-            jtzf: 3
-            fwzh: zplg * rbpw
-            jgll: mtjr * gdqz
-            cvgh: 2
-            mhss: 2
-            rlqq: 4
-            qdqb: sgzb * nnpw
-            nqqn: 3
-            rnlm: 17
-            wqst: dbtp * gqzs
-            cfwf: 2
-            bgfl: 5
-            zzcz: 2
-            vngl: dtlt * fqbv
-            jghr: 2
-            cljd: mhsz * bztd
-            thrv: 2
-            stcr: 4
-            mcvb: qmbd * jdsq
-            nddl: gcsw * zpcw
-            bvnb: vdjv / pmzp
-            jlzl: 2
-            mgfc: 13
-            zhbv: ntzf + rtdl
-            vsrb: ghbd * zdzp
-            bwtt: 2
-            bsdn: zhnl + zqgm
-            sjvq: bshr * jqnh
-            rptr: chzq + fdgl
-            rpsg: qfwb + nlgs
-            hbfm: mgng + vtpt
-            nvth: 2
-            stzf: 5
-            thcm: 1
-            cgdv: 4
-            bzpc: 4
-            bbrt: 5
-            rdhv: dvcj + bnng
-            qgtt: trft + wwzn
-            vjbp: vfzp + lljm
-            vbvt: 2
-            hfsj: 17
-            zpjm: gndf * vjsl
-            mtfp: 5
-            wrbp: 20
-            crhq: tgcb + smvr
-            qcnr: blwm - pbhf
-            nrcz: 13
-            hsvm: zcjs * ssrg
-            pnqh: 4
-            vqlc: 3
-            gwdm: bgrs + cnqm
-            gvrb: ldsr / lqvj
-            mlwc: qqqq * ggvm
-            nzfp: 3
-            jcsh: 2
-            lrtf: 1
-            rsmr: 5
-            zvhm: 2
-            llrs: 2
-            grgj: 3
-            jrrg: jghr * tvzn
-            jdmz: 3
-            ghdm: hcsb + dfhh
-            wmdz: bvjw * sgrq
-            bpwm: 8
-            gvzz: 15
-            cfcp: 17
-            hmcw: nwzn * wljz
-            hqmq: 19
-            mbfb: rqrh * nqnh
-            trcz: jzvd + cslh
-            zdss: 2
-            twtq: 2
-            rcnd: lmhv * sdvh
-            bfvw: dhjl * vqnw
-            glsf: drjb + jzzq
-            lgsn: tmtd * zjgs
-            vdrd: 12
-            gjfr: gcgp * pngb
-            qhgd: pmrj / hdbv
-            gwbd: gsrf / hpjc
-            wffq: 6
-            lmzh: jmvf + rdhq
-            qlvv: plpq * mrmb
-            tqjg: 2
-            jdsq: 9
-            fbgh: 12
-            trzv: llpz * lbwn
-            tncb: 2
-            qmdf: 9
-            cmnd: 1
-            hrcl: 3
-            tbsz: wmbz + zqwj
-            nsqz: vgdq * hcfp
-            vbwf: fwsc + dgvz
-            qrcr: htrq + fngj
-            rqln: tqpm * trlq
-            psvp: jtrf + sbjl
-            zmgh: sqsb + bnld
-            zgvb: 3
-            nszb: stth - lqsg
-            sshz: rftq + mhvq
-            wwbb: srwb + nfcr
-            lsms: 17
-            srjl: 3
-            vzzl: 5
-            zwjm: 3
-            wshc: qdhd * dddt
-            jzhl: 4
-            hqvr: jmgv / lwtw
-            jmvf: 5
-            fwnr: pdlc + lbqw
-            zmtf: nzfm * clgt
-            frwd: dlwm + gjtw
-            lqnz: 6
-            hpzg: 2
-            dwgs: 5
-            rwwz: hgpn + rpfb
-            qqlz: lfsz * lsds
-            spbs: gqzn * vhsw
-            rrjv: fhpd * jzql
-            qgdh: 3
-            bzzw: wlfc * zmtj
-            hqjq: 2
-            gcgv: bpnm * vcpw
-            mwrp: dpjw * bvtf
-            vjvq: mppt + qgdh
-            qzhz: 3
-            brjh: 4
-            pdnn: 13
-            tpsq: sbsg * jjjr
-            nlfb: 2
-            dbps: scmg * pgwl
-            fgmr: vfrw * fvqc
-            bvjw: 5
-            hwbd: 14
-            wwzl: 1
-            nnzl: 2
-            gjtw: fhdd * cvsl
-            tqbh: 7
-            bshr: 7
-            tflh: 1
-            lnst: vlzq * vvjl
-            hzlr: qpzb - wcqf
-            bjjb: 2
-            qvql: qwrj * ngbz
-            dsgd: 4
-            fcmm: hqmq + lnzc
-            wfsn: fnnd * mswd
-            bnwq: vdhc * chtj
-            fsvs: 3
-            tnhl: cppz + bfvr
-            lntb: zlnl - wstq
-            gdzb: wrbp + svhm
-            vnst: qwbp + zggm
-            wmzl: qvvg * whqg
-            tdln: 3
-            frcj: tzsj / ccwb
-            mhwg: cfrn * srjl
-            gqtm: 2
-            cjnz: zhwl + wlbz
-            fszt: 4
-            bnld: 1
-            ffcb: 2
-            wwnb: 3
-            smfb: 2
-            tqpm: plhh * wbdq
-            hmcr: 3
-            fmmh: tqmn / sqtj
-            gvjd: bhcs + fbqr
-            mftw: dllq + svrs
-            mwpd: lzvq / wbwz
-            rnvj: 5
-            fgdr: 7
-            zcvz: zwbb + qzmv
-            zgpj: 1
-            lrnm: 3
-            hmmm: mlwg * zbbp
-            lqbg: jsth * jnvl
-            rgwm: 3
-            zfmp: 4
-            dfdq: 2
-            wcwc: wgfj + lpdz
-            dppg: cntp * gbmj
-            shgn: 2
-            qfqp: 2
-            fcwd: 14
-            jznp: 8
-            nzfm: 5
-            zzsg: 2
-            zscw: 5
-            rsjs: 5
-            hwrw: 2
-            wjrp: 2
-            tdvz: hwqw - tgdn
-            nchh: 1
-            dhjl: vmcz + dnzj
-            pmpp: gssj * jjgz
-            vhnp: 1
-            jsth: hrcl + tdrr
-            rhsn: zphd * gpdt
-            cmts: wzwt + qmqb
-            nffw: qpwf - fgdm
-            dtmz: 5
-            jmsp: qhnb / qlhl
-            vnrb: 2
-            cjcw: 5
-            qpjb: gcgz * trzv
-            tghf: 9
-            jjgg: pwpz * wrdb
-            mjws: gfbb + ngsz
-            zslc: llpb * lrlz
-            fbwp: ccwf * psrm
-            ndjr: hqhr + gbzw
-            nrwm: ctzp + vdgn
-            nsft: rwbj * gwfz
-            tmmq: 5
-            mrjg: 2
-            shjz: 3
-            lqsg: 5
-            hmhl: 2
-            wfnj: 2
-            pzhr: 4
-            drjj: cfqj - fwzj
-            rjft: 4
-            wszw: 2
-            rghr: 13
-            vpgq: rvcc + wdcl
-            ffdz: 2
-            root: qmfl + qdpj
-            gmrc: 2
-            sstb: 2
-            vpnv: 3
-            bgqr: sspn * lrph
-            vtqm: 2
-            qrrv: 4
-            tqzh: tczc * zpmd
-            mprp: gwsj + clrg
-            wfsd: 4
-            pjgg: 1
-            llpz: tjgz + vhnp
-            bqml: rhqh * dvzw
-            bgcf: 3
-            rdnt: 5
-            sjrp: 6
-            wvqs: 5
-            jvgr: ndlq + gjqv
-            mtld: wlmt + rrts
-            tpfr: 14
-            bjhl: 2
-            jhqj: mgzg + ghbg
-            jrdn: wdwc * nszb
-            dncr: 2
-            srwb: twpb * cnmp
-            llms: 12
-            dwhw: gflz * zzsq
-            mlpm: ntsg + vpvh
-            rddc: rnrn / tncb
-            wlnz: gbcm * drgg
-            gsfv: zrjv / zzsg
-            lfsz: zmtf + mgcc
-            qbbp: 7
-            qgnv: zgfw * wnsl
-            fnpt: psjz - tghf
-            ntcj: 3
-            jmgv: fvts + rgsm
-            rbsz: 3
-            rnhm: 3
-            gclh: jqtp + fjgs
-            gpbs: 5
-            cdgb: nbqv + pdnn
-            vgrw: 1
-            crdz: 1
-            vmgc: 2
-            pbwm: 5
-            fwnb: 3
-            fmrc: bqcr - ffmz
-            pzzc: dhhj * vpnr
-            wlnf: 8
-            smnm: nvfl * jntg
-            wlfc: cllv - bbjg
-            ngfl: mvdd - ntvr
-            ftwh: 5
-            djtq: prfv * mgzq
-            bvzd: 2
-            hbmn: tjlg * mqcr
-            lvgb: 3
-            jvbn: fvnh + vfnr
-            wdsb: dcgs + sdvv
-            vrbl: 8
-            rpjg: ssml * dcbf
-            phpl: 1
-            ggjw: ngzt * jmzz
-            qbpc: 2
-            qfpw: wjrp * msqp
-            qrqj: 3
-            nvlg: sgnr * rlfn
-            pvhv: jpfd * zgsd
-            wcql: vbpn * gfqw
-            tpvg: 14
-            tqvl: qjnb + szmh
-            stwj: 14
-            qpbw: sqwl * cwsh
-            hsgz: 3
-            twpb: 3
-            lzqp: qrpf * jdmz
-            cgtt: dmjh + nqsz
-            zgrl: 1
-            lttn: 9
-            pfcd: 5
-            rbds: 8
-            ffmz: 5
-            qdhs: 17
-            pcnf: 3
-            wnmd: 2
-            nwvb: dtsm + bgcs
-            wzzs: mvbb + bstc
-            flvl: sbdv * wwmz
-            zgfw: ctth * vdms
-            dvpj: wftp * rljr
-            mgzg: 5
-            zzsq: 4
-            bwwh: 5
-            hpwt: frfc + bpfl
-            hdtt: 3
-            plhj: bhhr + zldq
-            zlzq: rrjs * bbwr
-            sgrq: 11
-            dsvj: dplh + mcvb
-            lzgd: bjdz + tgbb
-            sbjl: 10
-            dvhs: 1
-            wqqh: 7
-            qzmv: 5
-            csrl: 19
-            glzv: nhvb + ttjz
-            bdht: 18
-            pwpz: llsn * jlgf
-            zwzw: mnwt * sbsp
-            rjtn: gbsg * vznp
-            zzrs: 10
-            wzvv: djtq + rmdp
-            sgnr: glzv - tcdf
-            pmbz: mhjj + tdvz
-            dtsm: 11
-            bbjg: 3
-            gnzs: whvg + stlh
-            ljjw: dwgs + fqpq
-            rnrn: nvlg * gtmh
-            swnv: htdh * rwzw
-            sgzb: 2
-            tctg: 3
-            wqqr: 2
-            cslh: vbvt + hrdc
-            dsgc: 8
-            qvbn: 2
-            gmgl: 8
-            sqzg: gjch * tsmq
-            qjnd: 3
-            lnpd: mllp * czch
-            tqgq: fmrc * hcfj
-            rfjb: 6
-            hbnc: swzv * jrrd
-            zmjq: wpjf + zrjr
-            nbpr: cdqb + srzw
-            zzlt: jdpf * dccz
-            rgvw: 5
-            jtlm: dvmd + mhlb
-            wljz: 2
-            ngnz: wfts * flnj
-            lwtw: 2
-            gcgp: lvdv * rffj
-            zfld: tdwg / hbsl
-            ntcf: bjfr + bffs
-            rnfj: 8
-            cjzd: fmmd * ggjw
-            fljw: 2
-            wlsq: dtfb * qbqz
-            hwqw: wdqh * jfdb
-            slpg: 7
-            htvt: 3
-            gfqw: 3
-            cwrn: chfp / hltj
-            sfpv: pzzf + qbbp
-            zsrb: 2
-            bbwr: mzwc * wmjw
-            jrzr: 3
-            chtd: 18
-            jvfw: rdmc - dvlz
-            swvc: 5
-            lcgn: bdgd / snvf
-            jmzz: 2
-            bstc: 3
-            qbhv: sdcf + hhdn
-            ldgj: qrrz * bpmn
-            fnwz: 3
-            rjts: 18
-            fbqr: fbbz * jdrl
-            dvlz: 2
-            mvbb: 19
-            jbwj: 2
-            vcpw: 2
-            lcjw: 3
-            ljbc: 2
-            gslz: tgtb / fnpz
-            bwrp: 5
-            gslt: 15
-            mjzd: vhnl + jdff
-            fslb: 1
-            tddz: rnfj + rhsn
-            smfh: 2
-            ljhw: jchg + gpnj
-            ggrc: 3
-            njjd: cfcp + wnvb
-            jpsq: 4
-            fvnh: vthj / pbgp
-            hjrf: 3
-            dhpq: 3
-            hlpd: 3
-            jnmz: 15
-            trdn: vpgq / zvnw
-            tjlg: njhv + dgbh
-            pgmp: 2
-            lrvc: dhwv + prtq
-            vvjl: 3
-            qzcv: cjzd - bnwq
-            hntd: 3
-            ptcq: bmqc + cjnz
-            cqjp: 9
-            czsr: 2
-            mrmb: 2
-            jbsv: nbqj * tstc
-            dlmb: 3
-            qtlb: 3
-            lnzc: 7
-            hcwp: 3
-            wcnl: 7
-            rtbv: cqpd - lftp
-            tqzl: 4
-            jgnl: 2
-            dgsq: jsrr - wwnb
-            jcls: 4
-            vznp: 6
-            stlh: mgvs * tcdn
-            nptd: 3
-            wrzd: thtw + zwlf
-            mfvg: 3
-            pgsq: 4
-            bpfl: swlr * qttr
-            rgfg: 9
-            jmtd: 2
-            sbdv: 12
-            rjmh: 18
-            rhvg: 5
-            dddt: 2
-            qjnb: 1
-            ffcz: wfrm - wfpv
-            lqpd: qstp * mrjg
-            wfpv: czbq * vdcg
-            ppmj: wwbb * frmc
-            zwbt: mqzg + dgjc
-            qwrj: 4
-            gwfz: fvhf * qpgs
-            tfht: phzl + ptpg
-            nwdd: mwpd * qnjm
-            whqg: 2
-            lqgv: nnpn * lnbl
-            fwzj: 2
-            trft: 2
-            hbmg: 7
-            lnnc: lrnm + jnch
-            tmtd: 5
-            nrwb: 3
-            bgqs: 4
-            cvdg: bbrt * jrbl
-            hfsq: 3
-            whnc: stwj * rdwq
-            thvn: wlsq / fwdw
-            ncvt: qfgs * qjgw
-            mccs: vvwr * lzqp
-            mtjr: 3
-            wpmj: glpc + hhqs
-            svfp: 4
-            gglw: 2
-            qdlt: 2
-            rvcc: nffw * zsrb
-            vbjt: 7
-            mnwt: 3
-            fwpb: 7
-            zpcw: 3
-            gpjj: 2
-            zlnl: zvqm * jjgg
-            grzq: 5
-            fbmh: 18
-            nztm: 18
-            bdvl: 5
-            mzgc: mccs * pnbf
-            zmll: wvzt * hlvb
-            jzwf: sqzg * mnqr
-            fsld: mvzb * rpjn
-            vfdn: 5
-            mbfj: dvwj + mftw
-            zwlf: hnhg * cnhn
-            qljr: nhgm / sqdq
-            nmbh: nhqw / vdgc
-            pszt: 14
-            vjvv: 5
-            psjz: tddz + fwqf
-            dllq: 2
-            wftp: 3
-            bzss: ccsj * fpjm
-            blrp: cmgj * pgmp
-            dqmq: 4
-            rcmt: cwtl * shqt
-            rfmb: 8
-            gqhj: mdtt / rsmr
-            mrzl: vgql + dpzn
-            lmdt: 19
-            vvbm: svrc + cfwf
-            dnsf: 5
-            gnct: 5
-            ccgr: glgp * jfrl
-            jcgw: 14
-            mvzb: 2
-            qpnz: 4
-            hfzg: lqzf + fhrp
-            cnrt: 2
-            pbcq: sncj - fslb
-            htdh: 2
-            hbsl: 3
-            zpqh: 8
-            vhvn: fsld + qvql
-            dzjf: 15
-            jvnj: gzqv * mbcj
-            jhnc: 2
-            sngg: 2
-            rmdp: lzzc * jbwj
-            rhll: dbgp + nzzr
-            svrc: 5
-            bscm: 3
-            vcls: 2
-            cnqm: 8
-            nnfj: clbz * wdqs
-            sdmj: bvzd * hsrq
-            vcmv: ngfl / qpcn
-            bmzj: 7
-            fgqh: 2
-            mzcv: dpwl * blcn
-            smqn: 3
-            zhwl: cgrn + qwsr
-            pppb: 10
-            dlwj: cgvz * btsd
-            cfqj: hfnp + hswd
-            bgrs: 5
-            gndf: 3
-            wvcs: 2
-            rtlc: jwtf + tbzv
-            cnmz: hmcw * rbbm
-            ltmj: 3
-            gbdn: thvd - pbdd
-            ttjz: 16
-            mmtl: rcmt + cgfg
-            mbfg: thgv * brvj
-            clmt: nlrm + lhfm
-            vnmn: vjrh + nddl
-            cwjz: rjrh + pgrb
-            btsd: 9
-            pbgp: 4
-            jzql: 3
-            ntvr: qgnv / vcvg
-            pcvt: jnfj * bcmq
-            lcjl: wcvg + svwc
-            czbq: 10
-            gbzw: qqds * whpf
-            hvgh: qmfc + qjzs
-            tmnh: rnvj * cmqs
-            sncj: jcqf * sldq
-            hqfz: 5
-            ftrz: 4
-            qgzf: 5
-            lvvf: 3
-            ghnh: fvfw * fbmh
-            vvqm: 2
-            nqzq: sbtg - cwrn
-            rzbt: dctc * nlfb
-            ggzw: zmhf + pjhm
-            wfrm: vhvn / zdss
-            fdms: 3
-            lgtr: 2
-            ngsz: 2
-            cbls: 3
-            fdgl: gcvd + vvgw
-            hplz: jvnj + hhnd
-            wzwt: zwdj + ndls
-            jzvd: 5
-            tntn: 11
-            cfpv: tgdw + lcjw
-            ljbd: fcls + plnd
-            vgnt: 5
-            pqjl: hjrs * tdhh
-            wtsp: qhsj * vzbp
-            tcjn: jpnn + vgnt
-            vdgc: 3
-            drwm: 4
-            zmzs: jvvb * jlzl
-            bcbm: 2
-            jhgg: njjd - qpgj
-            prtq: pnqh * pbht
-            gpnj: mpvn * jhnc
-            cbbv: 2
-            fpnq: 13
-            zvch: hwzz + lzgd
-            qgtc: hbnl + hfst
-            djrm: ftrz * vfdn
-            hhdn: 5
-            fntw: 10
-            nmhw: 5
-            dgnb: 2
-            zdjv: 6
-            rmcj: qpcm + pmtv
-            lrlz: 2
-            rgdv: czsr * zfmp
-            qhcc: ghrc + brcc
-            lscv: 14
-            hmgq: 3
-            rjgc: 2
-            wmqt: wrcv + tgrs
-            dtlz: 2
-            qnjm: 2
-            tjzz: gtgs * fpnq
-            qdhd: clfq + fqtl
-            plbn: ghzz + gzhl
-            dctc: qqtc + lrtf
-            fltm: zmmp * jrwt
-            lssl: jcsh * ntqg
-            djzl: wffq * lbhn
-            vmcz: 6
-            jtrl: 5
-            zphd: 2
-            hqrf: 19
-            wmzq: 4
-            thtw: zltj * phqm
-            hgpn: 3
-            wlbz: dsqs + csrl
-            zjtb: 3
-            rwsc: 9
-            vdqf: 7
-            njht: wcdg + grzq
-            mgng: fszt * zzcz
-            pgwf: 2
-            twgq: 9
-            lbwn: 3
-            qmll: 7
-            jlph: 2
-            jchg: 7
-            wsmp: 16
-            humn: 335
-            lsds: 9
-            msgc: 13
-            wpmn: 2
-            ggjj: tngv * rhww
-            rftq: dnvh * nhlz
-            nzvj: 2
-            nnpn: 2
-            zbbp: cqjv - bndb
-            dpzn: dppg * bgqr
-            zbtl: 4
-            vdbh: smqn * lbqn
-            twlw: 5
-            qncq: hszg - nhvj
-            brjv: ndsg + dtbb
-            ghzz: tlfd + ndpr
-            mwvl: 3
-            qnbg: 8
-            vlpn: gqtm * whnc
-            zclm: nprq * rbds
-            svrs: 4
-            wqsz: tbsz * wqqr
-            wgfj: 3
-            vgdp: msjw + stft
-            hnds: 11
-            bdgd: wrzd * cnvp
-            nzhm: pmbz / lnzw
-            fhqz: 2
-            glgp: 2
-            fcbn: 5
-            qwjc: crhq * sbhv
-            lwtv: jpzh - frwd
-            vzwb: 8
-            msqp: mttz + qqpz
-            lhmv: 5
-            zdnf: 1
-            vfnc: 2
-            ppqz: 2
-            hdbv: 2
-            dpjw: rjgc + qgff
-            rpzz: 2
-            gwzz: 4
-            grrz: jhqj * hsqh
-            nfpt: bzss + pnjg
-            vfcv: lmfg * phhf
-            lbqn: 19
-            hfst: fvzt + rpnz
-            fmmd: 2
-            cdrp: 5
-            jpzh: hhbc * zpqh
-            chrc: fwpb + rtcn
-            nflm: zhsf * bwtt
-            zrhr: cjfh + strj
-            tdtz: jvbn * cnlm
-            vdhc: 3
-            ptpg: fnwz * nqqn
-            vdqt: 4
-            mqcr: dqmq + njht
-            wmvl: 6
-            wqpq: mlgg + pmqb
-            pbvg: 3
-            mztm: 4
-            tczc: 11
-            trmr: qvpb * rzcv
-            msth: vgrw + tjzz
-            cztz: 5
-            fmzr: gzpd + rmgd
-            vqnw: nshm + jscf
-            hghq: zgrl + nmhz
-            flcm: 5
-            qfmj: jmtd * fgdr
-            zplg: 2
-            lwns: mzcv + dbps
-            clmq: 5
-            stwf: wmqn / fgqh
-            hcfp: 2
-            dqlh: 17
-            dmjh: drwm * mbfg
-            jrbl: tczz - dvpj
-            vdgn: nlbv * bhbr
-            fnbj: 2
-            lbft: 3
-            qvvr: lvcf + jnmz
-            fdts: 18
-            bhqn: jfvz * gvsp
-            snvf: 2
-            jrmz: 17
-            tgrs: mzgc + pdbp
-            gfwz: 3
-            dvdp: ccwj * zglm
-            lfcf: 6
-            bznt: wqpq + gdvz
-            zqnm: jsfd + smgj
-            gbmj: 5
-            rgpl: 9
-            snds: 5
-            jzbv: 2
-            pbwh: cljd + spls
-            jvtq: 3
-            zgsq: cdlf + lqbg
-            rwls: 11
-            gssj: gcbr - ctjs
-            phzl: vtqm * dzmr
-            dnzj: 17
-            spls: vdqt * lcjl
-            wrdj: hmld + fsll
-            gbsg: 3
-            wzqw: dvrs * zlqs
-            hncc: 5
-            mpmf: 7
-            msjw: 3
-            mggn: pgfz * tcjr
-            jzsl: 13
-            hpgz: 16
-            pngb: 2
-            jqfw: 5
-            cgrn: hvrw - hggd
-            tcmv: tqgq + vfnh
-            tzgl: 5
-            btbt: 2
-            sbzb: 13
-            npcq: 12
-            gpmm: wttd + jpjh
-            wcqf: cgtt / vwzb
-            mhnw: tmnh - qrcc
-            rrjs: 2
-            mftj: 4
-            wjqq: mbjq * vjbp
-            pvcc: 2
-            zgsd: 4
-            llgf: bbpv + vfqd
-            bffs: 12
-            ntzf: pjmp - wpmj
-            cjqr: vcfg + nwnt
-            ccff: 4
-            vfrw: 4
-            nlgs: jmcc + ltnn
-            htbq: blfn * llrs
-            psrm: llhd / wtsp
-            cnvp: 2
-            ssfd: 4
-            szmh: 6
-            zjsm: vpnv * wltg
-            lbhn: 2
-            wdcl: bczr * rhhc
-            tscr: mlwc - sfmq
-            hzlb: 3
-            dttr: 11
-            hhwj: 3
-            bbhs: 2
-            mtth: tltd + ddfr
-            qdpj: wnqq * lcgn
-            nhvj: sfrw * hzbc
-            hfql: 2
-            mbpn: cwlg * vcpv
-            tczz: fhqz * cjns
-            fvzt: 5
-            fzdp: 3
-            zwsf: 16
-            ncnl: rrjv * tqss
-            rrbj: 4
-            gqzs: 5
-            srzw: 5
-            tvvc: hsgz * clzb
-            jvrb: mfbb * zjqc
-            jtgr: 10
-            hpnp: qdwp / bvbc
-            wcjn: crdz + cfpv
-            rbbm: 3
-            wmcf: bvwd * jgfg
-            stth: hmmm * pgwf
-            npnb: flvl - bnbr
-            vwsn: 4
-            pqmw: ffhl - tmqs
-            pdgc: wtvj * vhgt
-            hcwz: 5
-            tdwg: cmhh * ndpz
-            hgmm: ptqs * fbgh
-            lmlb: 15
-            qgff: 5
-            dgfm: wjfb - trjr
-            tnrd: 2
-            hptb: 2
-            lhrf: tncj * jtpb
-            znmp: 1
-            wvgb: 11
-            nlrm: 2
-            lbqw: jvlq + jmqt
-            ggtd: 6
-            tngv: pjgq + mbfj
-            fvts: nptd * mtwg
-            rljr: 3
-            lqsz: 2
-            gfnm: hgsr * psvp
-            pzws: 2
-            hvwz: 2
-            jgvq: thrv * rpwl
-            zfpm: hbnc * cnrt
-            cvfn: smfb + nczf
-            wcvg: mptg / nfqw
-            cnhn: vbms * gslz
-            pgfz: 5
-            bsrc: bwrp + hlhs
-            hpbz: 8
-            lwwg: cjzw * mfpd
-            tfgl: ltmj * mjmj
-            jrfg: 11
-            ccsj: dswq + vdrd
-            ztqc: hpgz * ssfd
-            qljh: 2
-            fznv: 4
-            jrrd: 5
-            szhg: bnjf * cwjz
-            hfcj: 2
-            ctth: 5
-            pmrj: cqrm / lfmd
-            vmjm: 2
-            jnlt: 3
-            sfrw: rgpl + ztbc
-            jmwv: zjsm + pdgc
-            vhnl: 5
-            qdmr: fbwp / lztn
-            ddqs: prsn + bznt
-            zdvc: llpf * lntb
-            vrnh: sfgc * dwdd
-            dbtc: 3
-            vbwn: 3
-            whmj: hplz + lqtr
-            mfzd: 5
-            lzsm: 5
-            jrvm: jzsl * hvwz
-            fqtl: ncrn * zhbv
-            psct: rfjb * gqfr
-            hbzm: 12
-            lmhv: gfmp - gwrz
-            gzhl: dgww * lrvc
-            phgn: 7
-            pnjg: bfvw + mcqr
-            cpsd: hbzm - bzqq
-            wfgr: pswm + qmfm
-            jqnh: ctwv + hwrv
-            wrcp: lvvn - npnb
-            lnzw: 3
-            qwsr: cpsd * nwcs
-            fzwt: 7
-            scpp: 2
-            lqsw: humn + wpwd
-            wpjf: jrmz * tspj
-            zpmr: 5
-            lpqw: 4
-            pngr: 1
-            zwbb: 5
-            bjdz: jvdc - dsgc
-            fvht: 11
-            lpfw: 4
-            qhnb: jcqj * spbq
-            rpnz: bnqs + qjnd
-            rftg: tdtz * ntcb
-            mflr: qftb * grgj
-            ggcv: 2
-            lztn: 2
-            ztdl: 2
-            bvrp: 2
-            qpgj: hmhl * fnzq
-            ctjs: 5
-            qqtc: jrzr * lgtr
-            mbjq: tlwp + tpsq
-            nshg: tflh + dqhd
-            phqm: mlpm - cvzv
-            nrtw: 20
-            pbzj: bgpf + npvh
-            pbdd: qvpm * hnmz
-            nhvt: cmts + mcqz
-            bmcv: dbsv * jhmw
-            qvpm: qrrv + gclw
-            dplh: dgsq * lrmd
-            ntqg: jwbb * dbmv
-            lpzq: nzhm * djzq
-            rbpw: 4
-            hlsq: hhgm * jcfl
-            rhqh: 7
-            tttg: ntcf * msnt
-            rpfb: 8
-            jsrr: cbls * nhzs
-            dpmt: 5
-            qmfc: lqgv / cmdd
-            mtvn: 1
-            lnvr: fzdp * jllw
-            pfjr: 5
-            """;
-
     @Test
     public void test() {
 
@@ -1,66 +1,64 @@
 package done.advent2022;
 
-import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+import util.CycleDetector;
+import util.LineSource;
+import util.Puzzle;
+import util.collections.LongSet;
+
+import java.util.Arrays;
 import java.util.List;
-import java.util.Scanner;
-import java.util.Set;
 import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.lang.System.lineSeparator;
 import static java.util.stream.Collectors.joining;
-import static util.LineSupplier.lines;
-
-public class PyroclasticFlow {
-//    private static final long MAX_SHAPES_COUNT = 2022;
-//    private static final long MAX_SHAPES_COUNT = 3*2022;
-//    private static final long MAX_SHAPES_COUNT = 1_000_000_000_000L;
-//    private static final long MAX_SHAPES_COUNT = 16 + 34;
-    private static final long MAX_SHAPES_COUNT = 1751 + 1169;
-
-    // ex 1: period 35, starting from 16, height increases 53 for each period
-    // count 16 => height 26
-    // count 51 => height 79
-    // count 86 => height 132
-    // PERIODS = (COUNT - 16) / 35
-    // =========================================================================
-    // ex 2: period 1740, starting from 1751, height increases 2716 for each period
-    // count 1751 => height 26
-    // count 3491 => height 5437
-    // PERIODS = (COUNT - 1751) / 1740
-    // shape: 1, jet: 9, height: 2721, count: 1751
-    // shape: 1, jet: 9, height: 5437, count: 3491
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PyroclasticFlow implements Puzzle<PyroclasticFlow.Chamber> {
+    private static final long ROCKS = 2022;
+    private static final long MANY_ROCKS = 1_000_000_000_000L;
+
     public static void main(String[] args) {
-        try (Scanner in = new Scanner(INPUT)) {
-            Chamber chamber = lines(in)
+        PyroclasticFlow puzzle = new PyroclasticFlow();
+        Chamber chamber = puzzle.parse(puzzle.input());
+
+        System.out.println("Result   : " + puzzle.part1(chamber));
+        System.out.println("Result2  : " + puzzle.part2(chamber));
+        CycleDetector<Surface> cycle = chamber.cycle();
+        System.out.println("Cycle    : offset = " + cycle.offset() + ", period = " + cycle.period() + ", increase = " + cycle.increase());
+    }
+
+    @Override
+    public Chamber parse(LineSource input) {
+        return input.lines()
                     .map(Chamber::new)
                     .findFirst()
                     .orElseThrow();
+    }
 
-            while (!chamber.hasFinished()) {
-                chamber.nextStep();
-            }
+    @Override
+    public Long part1(Chamber chamber) {
+        return chamber.heightAfter(ROCKS);
+    }
 
-//            System.out.println(chamber.print());
-
-            System.out.println("Result   : " + chamber.height());
-//            int offset = 16;
-//            int period = 35;
-//            int increase = 53;
-            int offset = 1751;
-            int period = 1740;
-            int increase = 2716;
-            long start = 1_000_000_000_000L - offset;
-            long periods = start / period;
-            long correction = chamber.height();
-            System.out.println("Periods  : " + periods);
-            System.out.println("Remainder: " + (start - (periods * period)));
-            long result = periods * increase + correction;
-            System.out.println("Result2  : " + result);
-        }
+    @Override
+    public Long part2(Chamber chamber) {
+        return chamber.heightAfter(MANY_ROCKS);
+    }
+
+    @Test
+    public void test() {
+        Chamber chamber = new Chamber(INPUT1.trim());
+        assertEquals(3068L, chamber.heightAfter(ROCKS));
+        assertEquals(1514285714288L, chamber.heightAfter(MANY_ROCKS));
     }
 
+    // column depths below the top row are capped, deeper cells no longer steer falling rocks
+    record Surface(int shape, int jet, long depths) {}
+
     static class Chamber {
         private int nextShapeIndex;
         private final List<Shape> shapesOrder = List.of(
@@ -110,18 +108,42 @@ public class PyroclasticFlow {
 
         private long shapeCount = 0;
         private long removedRows = 0;
-        private final Set<Point> shapes = new HashSet<>();
+        private final LongSet shapes = new LongSet();
 
         private Shape currentShape;
 
         private static final int FLOOR = 100;
         private static final int LEFT_WALL = -1;
         private static final int RIGHT_WALL = 7;
+        private static final int MAX_DEPTH = 255;
 
         private int topRow = FLOOR;
+        private final int[] columnTops = new int[RIGHT_WALL];
+        private final CycleDetector<Surface> cycle = new CycleDetector<>();
 
         Chamber(String line) {
             this.jets = line.chars().mapToObj(Direction::from).toList();
+            Arrays.fill(columnTops, FLOOR);
+            cycle.record(surface(), height());
+        }
+
+        long heightAfter(long rocks) {
+            while (shapeCount < rocks && !cycle.found()) {
+                nextStep();
+            }
+            return cycle.metric(rocks);
+        }
+
+        CycleDetector<Surface> cycle() {
+            return cycle;
+        }
+
+        private Surface surface() {
+            long depths = 0;
+            for (int columnTop : columnTops) {
+                depths = (depths << 8) | Math.min(columnTop - topRow, MAX_DEPTH);
+            }
+            return new Surface(nextShapeIndex % shapesOrder.size(), nextJetIndex % jets.size(), depths);
         }
 
         long height() {
@@ -136,10 +158,6 @@ public class PyroclasticFlow {
             }
         }
 
-        boolean hasFinished() {
-            return state == State.NEW_SHAPE && shapeCount == MAX_SHAPES_COUNT;
-        }
-
         private void move() {
             switch (nextMove()) {
                 case TOP -> moveTop();
@@ -156,7 +174,7 @@ public class PyroclasticFlow {
 
         private void moveLeft() {
             Shape movedShape = currentShape.moveLeft();
-            if (movedShape.positions().noneMatch(shapes::contains) && movedShape.left() > LEFT_WALL) {
+            if (movedShape.positions().noneMatch(this::occupied) && movedShape.left() > LEFT_WALL) {
                 currentShape = movedShape;
             }
             state = State.FALL;
@@ -164,7 +182,7 @@ public class PyroclasticFlow {
 
         private void moveRight() {
             Shape movedShape = currentShape.moveRight();
-            if (movedShape.positions().noneMatch(shapes::contains) && movedShape.right() < RIGHT_WALL) {
+            if (movedShape.positions().noneMatch(this::occupied) && movedShape.right() < RIGHT_WALL) {
                 currentShape = movedShape;
             }
             state = State.FALL;
@@ -172,7 +190,7 @@ public class PyroclasticFlow {
 
         private void moveDown() {
             Shape movedShape = currentShape.moveDown();
-            if (movedShape.positions().anyMatch(shapes::contains) || movedShape.bottom() >= FLOOR) {
+            if (movedShape.positions().anyMatch(this::occupied) || movedShape.bottom() >= FLOOR) {
                 state = State.NEW_SHAPE;
             } else {
                 currentShape = movedShape;
@@ -194,16 +212,23 @@ public class PyroclasticFlow {
 
         private void saveShape() {
             if (currentShape != null) {
-                currentShape.positions().forEach(shapes::add);
+                currentShape.positions().forEach(p -> {
+                    shapes.add(p.key());
+                    columnTops[p.x()] = Math.min(columnTops[p.x()], p.y());
+                });
                 shapeCount++;
                 topRow = Math.min(currentShape.top(), topRow);
+                if (!cycle.found()) {
+                    cycle.record(surface(), height());
+                }
             }
 //            if (shapeCount > 0 && (shapeCount % 1000) == 0) {
 //                pruneRows();
 //            }
-            if (nextShapeIndex == 1) {
-                System.out.println("shape: " + nextShapeIndex + ", jet: " + nextJetIndex + ", height: " + height() + ", count: " + shapeCount);
-            }
+        }
+
+        private boolean occupied(Point p) {
+            return shapes.contains(p.key());
         }
 
         private Direction nextMove() {
@@ -227,7 +252,7 @@ public class PyroclasticFlow {
                      .mapToLong(y -> IntStream.rangeClosed(LEFT_WALL, RIGHT_WALL)
                                                         .mapToObj(x -> new Point(x, y))
                                                         .flatMap(p -> Stream.of(p, p.moveUp()))
-                                                        .filter(shapes::contains)
+                                                        .filter(this::occupied)
                                                         .mapToInt(Point::x)
                                                         .distinct()
                                                         .count())
@@ -236,12 +261,13 @@ public class PyroclasticFlow {
                          int delta = (int) (FLOOR - newFloor);
                          removedRows += delta;
                          topRow += delta;
-                         List<Point> movedPoints = shapes.stream()
-                                                         .filter(p -> p.y < newFloor)
-                                                         .map(p -> new Point(p.x, p.y + delta))
-                                                         .toList();
+                         long[] movedPoints = shapes.stream()
+                                                    .mapToObj(Point::of)
+                                                    .filter(p -> p.y < newFloor)
+                                                    .mapToLong(p -> new Point(p.x, p.y + delta).key())
+                                                    .toArray();
                          shapes.clear();
-                         shapes.addAll(movedPoints);
+                         LongStream.of(movedPoints).forEach(shapes::add);
                      });
         }
 
@@ -255,7 +281,7 @@ public class PyroclasticFlow {
         }
 
         private String print(Point p) {
-            if (shapes.contains(p)) {
+            if (occupied(p)) {
                 return "#";
             }
             if (currentShape.positions().anyMatch(p::equals)) {
@@ -365,9 +391,17 @@ public class PyroclasticFlow {
             return new Point(x + 1, y);
         }
 
+        long key() {
+            return ((long) y << 32) | (x & 0xFFFFFFFFL);
+        }
+
         static Point of(int x, int y) {
             return new Point(x, y);
         }
+
+        static Point of(long key) {
+            return new Point((int) key, (int) (key >> 32));
+        }
     }
 
     @SuppressWarnings("unused")
@@ -395,9 +429,4 @@ public class PyroclasticFlow {
     private static final String INPUT1 = """
             >>><<><>><<<>><>>><<<>>><<<><<<>><>><<>>
             """;
-
-    @SuppressWarnings("unused")
-    private static final String INPUT = """
-            >>><<<>>>><<<<>><<<<>><>>><>>>><><<<<>>>><<>>><<<>><>>><<>><>>><<>>><<>><>>><>>><<<<><<<>><<<>>><<>>>><>>>><<<<>>>><<<>>>><<<>>>><<<>>>><<<<><<<<><<<>>>><<<>>><<<><<<>>>><<>><<<>><<<><<<><<>><<>>>><<>>><<><<>><<><<>>><<>>>><<<><>>><<<<>>><<<<><><<<><<>>><<>><>>>><<<<><<>>><<<>>><<<<>>>><<<<>><<<>>><<<<>>><<<>>>><<<>>>><<<>>>><<<<>>><<<>>>><<<><><<<><<<><>>>><>><>>><<><<<>>><><<<>><<<<>><<>><>><>>>><<<<>>><<>>>><<><<>><<<<>><><<>>>><<<>>>><<<>><<<<>>><<<<>>>><>>>><<>><<<><<<>><<<<>>><<<<>><<>><><<<<>>><<><<<>>>><<>>>><<<<>>>><<<>>>><<<>>><<>>>><>>>><<>>><<<>>>><>>>><<<<>>>><>>>><<<><<<>>>><>><>>><>>>><<<><>><<<<><<><>>>><<><<<<><<<>>><><>>>><<><>>>><<<>>><<<<>>><>>>><<<>>><<<<>>>><<>><<<>>><<>>>><<><<<<><><<<<>>><<<<>>><<<<>>><<>>><<<>><<>>><<<<>>>><<<<>>>><<<>>><>>>><<<<>>><>><<>>><<><<<<>><<>>><<<><><<<<>>>><<<>><><<>>><<>><<><>>><<<>>>><<<<>>><<<><<>><<>>><>><<>>>><<>>>><<>>>><<>>>><<>><>>>><<><>>>><<<>>>><<<>>><<><<<<><>><<<>><<<<>><<<<>><<>>>><<<>><<>><>>>><<<>>>><<<>>>><<<<>>><<<<>><<><<<>>>><<<>>>><<>>><<><><<<<>><<<<><<<><<>><<><<<<>><<<<>><<<<><<<<>>>><<<>><<<><<<<>>><>><>>><>>><<><<<<>>><<<<>>>><<<><<<>><<<>><<<>>><<>>><<<>>><>>><<><>>>><<<<>>><<<<>>>><<<>>>><>>><>><<>><<<>><><<<>>>><<<>>><><<><<><<<<><<<<>>><<<<><>>>><<<>>>><<>>><<<<>>>><<<<>>><<>>><>>>><>><<<>>><<<<>>>><>><<>>><<<><<<>>><<<<><<<<><>>>><<><>><<<<>><<<<>>>><>>>><<>>><<<<><<<><<>>>><<><<<>>><<<><<<<>><<>>><<<<>><>>>><><<<<>>><<<>>>><><<>>>><<<<>>>><<<<>><<<>>><<<<>>><<<>>><>>>><<>><>><<<<><<<>><<>>>><>><>>>><<<>>><<><<<>><<>><<<>><<>>><<<<>><><<<>>><<<<>>><<<>>><<<<>>><<<<>>><<>>><>>><<>>><<<>><>><<<>>><<<<>><>>>><<<>>><>><>><<<>>><>>><<>>><<>><<<<>>>><<>>>><<<<>><>>><<<<>>><<<<>>>><<<>>>><>><<<>>>><<<><<>>><<><>><<<>>><<<>>><<><>>><<>>>><<<><<<<><><>>><<<<>>>><<<<><<<>><<<>><<<>>><<<>>>><>>><<<>>><<<<>><<>><<<>>>><<<><<>>><<<>><<<<>>>><<<<>><<<><<<>>><<<<><>><<<><<<<>>>><<><>><<<>>><<>>>><>>>><<<><<<<>>>><<>>>><<>><<<>>>><><<<>><<>>><<><<<<>>><<>><<<>><<<<>>>><<>>><<>>><<<<>>>><<>>><<<>><<>>>><<>><<<>>><<<>>><<>>>><<<<><>><>>><<<<>>><<<><<>><<<><<<>>><>><<<><<><<<>>><<><<>>><>><<<>>>><<><>><<<>>><<<>>>><<>><><>>><<<<>>><<>><<<><<<<>>>><>>><<<<>>><><><<<<><><<>><<>><>>>><<<<>>><<<>>>><><<<<>><<<<>><<><<<<>>><>>><<<><<<>>><<<>>><<<<>>><<>><<<<><<<<>>>><<>><<<<>>><<<>><<>>><<<><<<>>>><<>><<<<>>><<<<>>>><<<>>>><<>>><>>><<<<><<<<><><<>>>><<<>><>>>><<<>>><>><>><><<>>><<<>>>><<<>><<><<><<>><<<<><<<><>>>><>>><>><>>><<<<>>><<<><>><<<<>>><<<<><><>>>><<>>>><<>>>><<>>>><<<<>>><>><<<<>>>><<<>><<><<<<>>>><>><<>><>><>>>><<>>><>>>><<<<>><<<>>><<<>>>><<<<>><<><<<<>><>>><<>>>><<<<>><<<<>><>>>><><<<<>>>><<><<<><<>><<<<>>>><<><<<<><<<<>>>><>><<>><<><<<<>><<<><<<<>>><><<>>><>>>><<<<>><>>><<<><<>>><>>>><>><<<>>>><>>><>><<<<>>><<<><<<<>>>><<<>>><<<>><<<>>>><<<>>><<<<>>><<<<><>>><<<<>>>><>><>>><>>><<>><<<>>>><<<>><<<>>><<<>>><<>>>><<<<><<<<><<<<>>>><<<>>><<<>>>><<<><<<<>>><<<<><<<<>><<<<>><>><<<<><<<<>>><<>><><<<<><><<<<>><<>>>><<>><>><<<<><<<<>>>><<>>>><<<>>><<<<>>>><<<<>>>><<<<>><<><>>>><>>>><<><<<<><<>><<>>>><<>><<<>>><>><><<<<><<><<>><<<>>><<>>><<>>>><<<><>>>><<<<>>>><<<>><<<><<<<><<><<<><<<>>>><<<<>>>><<<<><<<<><>>><><<<<>>>><<<<><<>><<<>>>><<<<>>><>><<<<>>><<<<>>>><<<<>>><>>><<>>><<<><>>><><<<<>>><>>><>><><<<>><>>>><><<<>><<><<<>>><<><<<<>>>><<<<>>>><<<<>><<<><<<><><>>><<<><>><<>>><>>>><<<<>>><<>>><<<<>>>><<<<>>><<<>><<<<><>><<<<>>><>><<<>>><<<<>><<<<>><<>>><<<<>>>><<<>>><<>>>><<>>>><<><<<<><<>>><<<<>><<>><<<><<<<>><<<>>><<<>>>><<<<>><>>>><>><<>>>><><<>><<<<><><<<>>><<<>><<<>>>><<<<>>>><<<<>>>><<<>>>><>>>><<<>>>><>><<<>><>>><<<><>>><<><>>><<<<>><<<<>><<><<<>>>><<<<>>><<<<>>>><<<<><<<<>>><<<>>><<<>><<<>>><<<<>><<<><<<>><<<><<<<>>>><<<>>><<<><<<<>>><<<>>>><><<<<>>><><<<>>>><<<<>><>>>><<><>>>><><<<><<<<>>>><<<>><<>>><<<<><<>>><><<><<>>><<<>>><<<<><<>><<><<<>>><<>>>><<<>>><<><>>><<<>><<<>>><>>>><<<<>>>><<>>>><<>><<>><<<<><<<>>>><<<<>>>><><<<><<>><<<<>>><>><>><<>>>><<<><<<>>>><>>><<><<><<<<>>>><<<>>>><<>><><<<<>>><<>>><<<<>><>><<<<><<>>><<<>>><<<<>>><>><<<>><<>>>><<<>>><><<<>><<<<>><>>><<>><<<<>>><<><<>>><>>><><<<<>>>><<<<>><<>><<<>>><<<<>>><<>>>><<><<<<>>>><>>><<>>>><>>><<<<>>>><<<<>>><<>>><<<>>><<<><<<<><>>>><<>><><<<<>>>><>>>><<<<>><>>>><>><>>>><<<<>>>><<>>>><<><<<<>>>><<<><>>><<<<><<>>><<<><<<<><>><<<>>><<>><<<<><<<>>>><<>><<>>><<<><<<<>><><<<><>>><<<<>>>><<>>><>>>><>>><<<<>>><<<><><<>>>><<<>><<<<>>>><<><<<>>><<<<>><<<<>>><>>>><<<<>><<>>><<<<>>><>>><<<<><<<>>>><<>>><<<<><<><<<>>>><<<<>><><<<<>>>><<<>>>><<<<><<>><<>>><<<>>><>><><<>>><<>><<<<><>><<<><>>><<<<>>><<>>><>><<<>>>><<<<>><><<<>><<<>><<>><<<>><<<<>>>><<<<><<<<>>>><<<<>>><<<><<<>>><>>>><<<>>><<<<>>>><>>>><>>><<<<>>>><<>>><<>>>><<>><>>><<>>>><>>>><<<<>>>><>>><<<><<<<><>>><<<<><>>>><<<>>>><>>><<>><<><<<>><<<<><<<><<<>><<<><<>>>><<<><<>>>><<><>><<>>><<>>><>><<<>><>>>><<>>>><<>>><>>><<<<>>>><<><<>>>><<<>>>><><<>>>><<<<>><>><<><>><<><>>><>>>><<<>>>><><<<>>><<<>>>><<<>>><<<>>><>><>>><>>>><<<><<<>><>>><<><<>><<<<><<>><<>><<<>>><<>>><<<<>>><<><>>><<>>>><<<><<<>>><><<<<><<><<<>><<<<>>><><<<<><<<<><>>>><<>>>><<<<>>><<<<>><<<<>><<<><<>><<>><>><<<<>>><<<<><>><<<<><<<<><<><<>><<<><<>>><<<<>>><<<>>>><<<>><>><<<>>><<<>><>>><<>>>><<>>><<<<>><<>>>><<<<><>>><<<><<<>>><<<>>><<><>>><>>>><<<>><<<<>><><<<>>>><<<<>>><<>><<<<>>><<<>><><<>>>><<>>>><<<>>>><<<><<<>>>><<<<>><<<<>>>><<>>><<<<><>>>><>>>><>><>>>><<<>>>><>>><<<<><<<><<<<>>><><<<<>><>><<>>>><<<>><<<>>>><>><<<><>>><<<><>><<<<>><<>>>><<>><>>><<<<>>><<<>><>>><<<>>><<>>><>>><<<<>>>><<>>>><>>>><<<<>><<<>><><>><<><<<>>>><<<>>><<<>>>><<<<>><<<<><<<>>>><<>><>><<<<>>><<>>>><>>>><<<<>>><><<<>>>><<<>>><<<>>>><<<><<>><<>>>><<<<>><<<>>>><<<>><<<<>>>><<>><<>>><<>>><<>>>><<>><>>><><<>>>><>><>><>><>><<<>><<<<>><>>><<<><><<<<>>>><<<>>>><<<<>><<<<><>>><<><<<<>><<<<>><<<>>>><<<<>>><>>>><<<<>>><>><>>>><<<>>><<<<>><>>>><<><<<<>>>><<<>>>><<<><<<>>>><<<>>><<<>><>>><<<>>><<<<>>>><<<>><>>>><<>>><<>>><><<<<>>><<>><<>>><<>>><<<<>>><<<>><>>><<>>>><<<>><<<>>>><<<>><<<<>><<>>>><<<<><>>><<<><<<>>>><<>><<<<><<<>>><>>><<<<>>><<<<>><<<<>><<<<>><<<>><<<>>><<<<>>>><<<>>>><><>><>><<<>>><<<<><<<<>>><<<<><<<<><><>>><<<>>>><<<<>>>><>><<<<><<<>><>>>><<<>><>>>><<<>><>>><<>>><<<<>><><<>>><<<<><<<<><<<><<<<>>><<><<><>>>><<><<<<>><>>><<<<>>><>>><<<<><<<<>>><>>>><<>>>><<<>>>><<<>>>><>>><>><<<<><<<<>><<<<>>>><<<<>><>>><<>>><<<>>><>>><<<><><><>>><<<<><<>>>><>><<>><<<<>><<<<>>><><<<<>><<>>><<<>>>><>><><><<<><>><<<<>>><>>>><>>><<>><<<<><<>>><<<>>><<><<<>>><>>>><<<<>>>><<<><>>><>>><<<>><>>><<><<>><<><<<>><><>>><<<<>>>><<<>><<<><<<>>><<>><>>>><>>>><<<>>><<<>>><<>>>><<<<><<>>>><<>>>><<<<>>>><<<<>>>><<<>>><<>>><<>><<>>><<<<>><<<><>>>><<<>>><<<>>><<>>>><>><<>>>><<<<>>><<>>><<<<>><<>>>><<<<>>><>>>><<>>><<<>>><<<>><<<<><>>>><<><<>>><>>><<<>><<><<<<>>>><<<<>><>>>><<>>><<<>><<>>>><>><<>><<<<>><<>>><>>><<<>><<>><><<<<>>><>><<><>>>><<>>>><<<<>><><>>>><>>>><>>>><<>><<<<><>>>><<<>><<<>>><<>><<<><<<<>>><>>>><<>>><<<<>><>><<<<>><>>>><<<>><<<<>>>><<<<>>><>>>><<><<<><<>>><<><<>><<<><<><>>>><<>>><>><<<<>>>><<<<><>><<<>><>><<<><><<<<>>><<>>><<<>><<<><<<>>>><<<<>>><<<><>>>><<<><<><>><<<<>>>><<<<><<>>><<<<>>><<>>><>>>><<<>>>><<><>>><<<<>><>>><<<><<<>>>><<<<>><<<<>>><>>>><<>>><>>>><>>>><<>>>><<<>><<<><<<><<>>>><<<<><<>>><<>><>><<>><<<>>><<<<>>>><<>>><<<>><<>>><><>>>><<<>>><<<<>>>><<<<>>><<<<>><<><<<>><>><<<<><<<<>>><<<<><<<<><<<>>><<<<>>><<<<>>>><<<>>>><<<<>>><<<<><<<>>>><<><<<>>>><<<<>>>><>>>><<<<>>><<><<>><<>><<>>>><<<<><>>><<><<>><<><<<>><<>>>><<<<><>><<<><<<><<<>>>><<<<><<><<<<><<>>><>>>><<>>><<<>>>><<><<<<><<<<>><<<<><<><<>><<>>>><>><<<>>><<><<<>>>><<<>>>><<>><<><>><>><<<<>><<<>><>>>><<<<><<<>>>><<><<<<>><<<<><<<<>><<<<>>>><<<>>><<<<>>><<><<<>>>><>>>><<<>>>><<<<>><<><<<<>>><<<>>><<>><<<><><<>>>><<><<<>>>><<<>>>><<<<>>>><>>>><<<>>>><<<>>><>><<<><<<>>><<><<>>>><<<><<<>>><<>><<<>><><<<<>><><<<><<>>><<<>><<<<>>>><<>><<<<>>><<<<><>><>>>><<>><<<<>>>><<>><<<<>>>><>>>><<<>><<<>>>><><>>>><<>>><<>>><<<>><>><<><>><<<<>><<<<><<><<<<>><<<>>><<<><<<>>>><<<>>>><<<>>>><<<<>>>><<>>><<<<>><<<<>><<>>><>>><<><>><<<><><>>>><<><>>><<>>><<<>><>>><<><<<<>>><<>><<<<>>><<><>><<><<<<>>><<<>>>><>><<<<><<>>><<>><<<>>>><<<>><<<<>><<<<><<<>><>>><<<<>><<<<>>>><<<<><<>>><>>><<<<>>>><<<<>>><><><<<><<<<>>><><>><>>>><>>><>>>><<<>>>><<>><<<<><<<>>>><>>><<<<>>>><<>>>><<<<><<><<>>>><<>>><>><><>>><<<<>><>><<>>><<<>><>>><<>><<<><<>>>><<<<>>><<>>>><<<<>>><<><<<>>>><<<>>><<<>>><><<<>><<<<>>><>><<<<>><<>>><<<<><<<<>><<<<>>><>>><<>>><<>><<<>><>>><<<<>>><<<<><<<>>><<<>>>><<><><<<><<>><<>>>><<<>>>><<<<><<<<>>><>>>><<><<<<>><<<<>>>><<<<>>>><>>><<<<>><<<>>>><<<<>>><<<<>>>><<<<><>>>><<><>><<><<><<>>><<<<><<>>><<>>>><<<>><<<<><<<>>>><<<><>><<<<>>><<<>>><<<><<>><<<<>><<<><<>>>><><>>><<>>>><<>><>>>><<<><<>>>><<>>><<<<>><<<>>>><<>>>><<<<>>>><<<<>>><>><<<>>><<<<><<<>>>><<<>>>><>><<<<>>><<>><<<>>>><<>>><>>><<<<>><>>><<<>>><<<<><><<<>><<<<>>>><<<<>>>><<<<>>><>><><<>>>><<<>>>><<<>><<<>>><<>><<<<>><><<><<>>>><<>>><<<><<>>>><<<<>>>><<<>><>>><><<<><<<>>><<><<<<>>>><<<<>>><<>><<>>><<<<><<>>>><<>>>><<<>>>><<><>><<<>><<<<>>><<<<>>><<>><<<<>>>><<<<>>>><<<<><<<<>>>><<>>>><<<>>><<>><>>><<>>><<>>><<<>>>><<<>>><><>>>><<>><>>>><<<>><>>><<<><<>>><<><<<>><>>><<>><>>><<>>>><<<<>><<>>>><>><<<><<<<>>><<<><>>><<<<>>>><<<>><<<<><>>><<<<>><>>><<<>>>><<>>>><<<<>>><<><<<<>>><<<>>><><<<>>>><<><<<>>>><<>><>>>><<>>>><><<<><<>>>><<>><<>>><>><><<<>>>><<>>><<<<>><>>>><<<>><<><>>><<><<<>>>><<><<>>><>>>><<>>>><<<><<>>><>>><>><>><<<>>>><<<><<<>><<<<>><<<>><<>>>><>>>><<<<>>>><<>>><<><<<>>><<<<>><<<<>>>><<>><<<<><<><>>>><<<>>>><<>>><><<<<>><>>><<<<><<<<>>>><<<<>><>><>>>><<<<>>><<>>><>>>><<>>><<<<>>><><<<>>>><<>>><<<<>><<<><>>><><<><<><<><<<><<<>>>><<<>>>><<<<><>>>><>>><>><<>>><<<><>><<<<>>>><><<<>>><<<>><<><<<>>><<><<<>><<<><<<<>>><<>>>><<>>><<<><<<>><<><><<>>>><<>><<<>>>><<>>><<<<>>><<<<>>><<<>>>><<<<>><<<>>><<>>><<>>><>>><<>>><<>>><<<<>><<<<><<>><<<<>>>><>>><<>>>><<<<>><>><>>>><><>>>><>>>><<<>><<<<>>>><<<>>><<>>><<<<><<>><<<<>>><<<>>>><>>>><<<>><<<><<<>><<<<>><<><<>>><><<<<>><>><<>>><><<<<>>><<>>><<<><<>><<>><>><<>><<>>>><<<><<<<>>>><<<>>><<>><<<<>>><<<<>><><<<<>>>><<<<><>><>>>><<<><<>>>><<>>><<>><<<<>>>><><>><<<><>>>><<<>>><<<>>><>><<>>>><<<><<<><<<<><<>><<<>>><<<<>><<<<><<<<><<<>>>><<<><><<<<>><<><<>>>
-            """;
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package done.advent2022;
 
 import util.LineSupplier;
+import util.Parse;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -46,10 +47,10 @@ public class SupplyStacks {
         static Command create(String line) {
             // example line:
             // move 8 from 7 to 1
-            String[] tokens = line.split(" ");
-            int count = Integer.parseInt(tokens[1]);
-            int from = Integer.parseInt(tokens[3]);
-            int to = Integer.parseInt(tokens[5]);
+            Parse.Cursor cursor = Parse.cursor(line);
+            int count = cursor.nextInt();
+            int from = cursor.nextInt();
+            int to = cursor.nextInt();
             return new Command(from, to, count);
         }
     }
@@ -0,0 +1,182 @@
+package util;
+
+import util.collections.IntArrayList;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.requireNonNull;
+
+public final class Automaton {
+    private static final int[] HEX_DIRECTIONS = {Grid2D.N, Grid2D.NE, Grid2D.E, Grid2D.S, Grid2D.SW, Grid2D.W};
+    private static final int MIN_BAND = 4_096;
+    // above this share of changed cells a full scan is cheaper than collecting the frontier
+    private static final int DENSE_SHARE = 8;
+
+    public static final Neighbourhood MOORE = (grid, idx, action) -> grid.forEachNeighbour(idx, action);
+    public static final Neighbourhood VON_NEUMANN = (grid, idx, action) -> grid.forEachNeighbour4(idx, action);
+    public static final Neighbourhood HEX_AXIAL = (grid, idx, action) -> {
+        for (int direction : HEX_DIRECTIONS) {
+            int neighbour = grid.neighbour(idx, direction);
+            if (neighbour >= 0) {
+                action.accept(neighbour);
+            }
+        }
+    };
+
+    private final Neighbourhood neighbourhood;
+    private final Rule rule;
+    private final boolean[] queued;
+    private final IntArrayList candidates = new IntArrayList();
+    private final IntConsumer enqueue = this::enqueue;
+    private Grid2D current;
+    private Grid2D next;
+    private IntArrayList changed = new IntArrayList();
+    private IntArrayList updated = new IntArrayList();
+    private boolean frontier = true;
+    private boolean parallel;
+    private boolean full = true;
+    private long generation;
+
+    public Automaton(Grid2D grid, Neighbourhood neighbourhood, Rule rule) {
+        this.current = requireNonNull(grid);
+        this.next = grid.copy();
+        this.neighbourhood = requireNonNull(neighbourhood);
+        this.rule = requireNonNull(rule);
+        this.queued = new boolean[grid.capacity()];
+    }
+
+    public static Automaton of(Grid2D grid, Rule rule) {
+        return new Automaton(grid, MOORE, rule);
+    }
+
+    @FunctionalInterface
+    public interface Rule {
+        byte next(Grid2D grid, int idx);
+    }
+
+    // the cells whose next state reads idx
+    @FunctionalInterface
+    public interface Neighbourhood {
+        void forEach(Grid2D grid, int idx, IntConsumer action);
+    }
+
+    public Automaton frontier(boolean enabled) {
+        frontier = enabled;
+        full = true;
+        return this;
+    }
+
+    public Automaton parallel(boolean enabled) {
+        parallel = enabled;
+        return this;
+    }
+
+    public Grid2D grid() {
+        return current;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public void invalidate() {
+        full = true;
+    }
+
+    public int step() {
+        if (full) {
+            next.copyFrom(current);
+        } else {
+            changed.forEach(idx -> next.set(idx, current.get(idx)));
+        }
+        updated.clear();
+        if (full || !frontier || changed.size() > current.width() * current.height() / DENSE_SHARE) {
+            bands(current.height(), Math.max(1, MIN_BAND / current.width()), this::scanRows);
+        } else {
+            changed.forEach(idx -> {
+                enqueue(idx);
+                neighbourhood.forEach(current, idx, enqueue);
+            });
+            bands(candidates.size(), MIN_BAND, this::scanCandidates);
+            candidates.forEach(idx -> queued[idx] = false);
+            candidates.clear();
+        }
+        full = false;
+
+        Grid2D previous = current;
+        current = next;
+        next = previous;
+        IntArrayList last = changed;
+        changed = updated;
+        updated = last;
+        generation++;
+        return changed.size();
+    }
+
+    public void run(int generations) {
+        for (int gen = 0; gen < generations; gen++) {
+            step();
+        }
+    }
+
+    public long runUntilStable() {
+        int changes;
+        do {
+            changes = step();
+        } while (changes > 0);
+        return generation;
+    }
+
+    private void enqueue(int idx) {
+        if (!queued[idx] && current.contains(idx)) {
+            queued[idx] = true;
+            candidates.add(idx);
+        }
+    }
+
+    private void bands(int size, int grain, Band band) {
+        int bands = parallel ? Math.min(4 * ForkJoinPool.getCommonPoolParallelism(), size / grain) : 1;
+        if (bands <= 1) {
+            band.scan(0, size, updated);
+            return;
+        }
+        IntStream.range(0, bands)
+                 .parallel()
+                 .mapToObj(b -> {
+                     IntArrayList out = new IntArrayList();
+                     band.scan(b * size / bands, (b + 1) * size / bands, out);
+                     return out;
+                 })
+                 .forEachOrdered(out -> updated.addAll(out.toArray()));
+    }
+
+    private void scanRows(int from, int to, IntArrayList out) {
+        for (int row = from; row < to; row++) {
+            for (int idx = current.index(0, row), end = idx + current.width(); idx < end; idx++) {
+                evaluate(idx, out);
+            }
+        }
+    }
+
+    private void scanCandidates(int from, int to, IntArrayList out) {
+        for (int i = from; i < to; i++) {
+            evaluate(candidates.get(i), out);
+        }
+    }
+
+    private void evaluate(int idx, IntArrayList out) {
+        byte state = current.get(idx);
+        byte value = rule.next(current, idx);
+        if (value != state) {
+            next.set(idx, value);
+            out.add(idx);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Band {
+        void scan(int from, int to, IntArrayList out);
+    }
+}
@@ -0,0 +1,137 @@
+package util;
+
+import util.LineSource.Line;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static util.LineSource.indexOf;
+import static util.LineSource.nextLine;
+
+public final class BatchSource {
+    private static final byte LF = '\n';
+
+    private final ByteBuffer buffer;
+    private char delimiter = ' ';
+
+    private BatchSource(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public static BatchSource batch(LineSource source) {
+        return new BatchSource(source.buffer());
+    }
+
+    public static BatchSource batch(Path path) {
+        return batch(LineSource.of(path));
+    }
+
+    public static BatchSource batch(String text) {
+        return batch(LineSource.of(text));
+    }
+
+    public static Stream<String> batchLines(String text) {
+        return batch(text).lines();
+    }
+
+    public static Stream<String> batchLines(Path path) {
+        return batch(path).lines();
+    }
+
+    public BatchSource withDelimiter(char delim) {
+        delimiter = delim;
+        return this;
+    }
+
+    public Stream<String> lines() {
+        return StreamSupport.stream(new BatchSpliterator(0, endOfBatches(), delimiter), false);
+    }
+
+    // As in BatchSupplier, an empty batch (a blank first line or two blank lines in a row) ends the stream.
+    private int endOfBatches() {
+        Line line = new Line(buffer);
+        boolean separated = true;
+        int pos = 0;
+        int end = buffer.limit();
+        while (pos < end) {
+            int next = nextLine(buffer, pos, end, line);
+            boolean blank = line.isBlank();
+            if (blank && separated) {
+                return pos;
+            }
+            separated = blank;
+            pos = next;
+        }
+        return end;
+    }
+
+    private final class BatchSpliterator implements Spliterator<String> {
+        private final char delimiter;
+        private final StringBuilder record = new StringBuilder();
+        private final Line line = new Line(buffer);
+        private int pos;
+        private final int end;
+
+        BatchSpliterator(int pos, int end, char delimiter) {
+            this.pos = pos;
+            this.end = end;
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            String next = nextRecord();
+            if (next == null) {
+                return false;
+            }
+            action.accept(next);
+            return true;
+        }
+
+        private String nextRecord() {
+            record.setLength(0);
+            while (pos < end) {
+                pos = nextLine(buffer, pos, end, line);
+                if (line.isBlank()) {
+                    break;
+                }
+                if (!record.isEmpty()) {
+                    record.append(delimiter);
+                }
+                record.append(line);
+            }
+            String res = record.toString();
+            return res.isBlank() ? null : res.trim();
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            Line probe = new Line(buffer);
+            int lineStart = indexOf(buffer, LF, (pos + end) >>> 1, end) + 1;
+            while (lineStart > 0 && lineStart < end) {
+                int next = nextLine(buffer, lineStart, end, probe);
+                if (probe.isBlank()) {
+                    BatchSpliterator prefix = new BatchSpliterator(pos, lineStart, delimiter);
+                    pos = next;
+                    return prefix;
+                }
+                lineStart = next;
+            }
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - pos;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package util;
+
+import util.VectorAlgebra.R;
+import util.VectorAlgebra.V;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+public final class BoxSet {
+    private final int dim;
+    private final IntervalSet line;
+    private final TreeMap<Long, BoxSet> slabs;
+
+    public BoxSet(int dim) {
+        if (dim <= 0) {
+            throw new IllegalArgumentException("Box set dimension must be greater than zero: dim = " + dim);
+        }
+        this.dim = dim;
+        this.line = dim == 1 ? new IntervalSet() : null;
+        this.slabs = dim == 1 ? null : new TreeMap<>();
+    }
+
+    private BoxSet(BoxSet other) {
+        this.dim = other.dim;
+        this.line = other.line != null ? other.line.copy() : null;
+        this.slabs = other.slabs != null ? new TreeMap<>() : null;
+        if (other.slabs != null) {
+            other.slabs.forEach((start, slab) -> slabs.put(start, slab.copy()));
+        }
+    }
+
+    public int dim() {
+        return dim;
+    }
+
+    public BoxSet copy() {
+        return new BoxSet(this);
+    }
+
+    public BoxSet add(R box) {
+        checkDim(box);
+        update(box, 1, true);
+        return this;
+    }
+
+    public BoxSet remove(R box) {
+        checkDim(box);
+        update(box, 1, false);
+        return this;
+    }
+
+    public BoxSet intersect(R box) {
+        checkDim(box);
+        BoxSet outside = copy();
+        outside.update(box, 1, false);
+        BoxSet intersection = copy();
+        intersection.subtract(outside);
+        return intersection;
+    }
+
+    public long volume() {
+        if (line != null) {
+            return line.size();
+        }
+        long volume = 0;
+        Map.Entry<Long, BoxSet> slab = slabs.firstEntry();
+        while (slab != null) {
+            Map.Entry<Long, BoxSet> next = slabs.higherEntry(slab.getKey());
+            if (next != null) {
+                long width = next.getKey() - slab.getKey();
+                volume = Math.addExact(volume, Math.multiplyExact(width, slab.getValue().volume()));
+            }
+            slab = next;
+        }
+        return volume;
+    }
+
+    public boolean contains(V point) {
+        if (point.dim() != dim) {
+            throw new IllegalArgumentException("Point dimension must be " + dim + ": dim = " + point.dim());
+        }
+        return contains(point, 1);
+    }
+
+    public boolean isEmpty() {
+        return line != null ? line.isEmpty() : slabs.isEmpty();
+    }
+
+    private boolean contains(V point, int axis) {
+        if (line != null) {
+            return line.contains(point.x(axis));
+        }
+        Map.Entry<Long, BoxSet> slab = slabs.floorEntry(point.x(axis));
+        return slab != null && slab.getValue().contains(point, axis + 1);
+    }
+
+    private void subtract(BoxSet other) {
+        if (line != null) {
+            other.line.intervals().forEach(line::remove);
+            return;
+        }
+        Iterator<Map.Entry<Long, BoxSet>> it = other.slabs.entrySet().iterator();
+        Map.Entry<Long, BoxSet> slab = it.hasNext() ? it.next() : null;
+        while (slab != null) {
+            Map.Entry<Long, BoxSet> next = it.hasNext() ? it.next() : null;
+            if (next != null && !slab.getValue().isEmpty()) {
+                long low = slab.getKey();
+                long high = next.getKey() - 1;
+                split(low);
+                split(high + 1);
+                for (BoxSet sub : slabs.subMap(low, true, high, true).values()) {
+                    sub.subtract(slab.getValue());
+                }
+            }
+            slab = next;
+        }
+        coalesce();
+    }
+
+    private void update(R box, int axis, boolean add) {
+        long low = box.low(axis);
+        long high = box.high(axis);
+        if (line != null) {
+            if (add) {
+                line.add(low, high);
+            } else {
+                line.remove(low, high);
+            }
+            return;
+        }
+        if (low > high) {
+            throw new IllegalArgumentException("Box low must be lesser than high: axis = " + axis + ", low = " + low + ", high = " + high);
+        }
+        if (high == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Box high must be lesser than Long.MAX_VALUE: axis = " + axis);
+        }
+        split(low);
+        split(high + 1);
+        for (BoxSet sub : slabs.subMap(low, true, high, true).values()) {
+            sub.update(box, axis + 1, add);
+        }
+        coalesce();
+    }
+
+    private void split(long at) {
+        Map.Entry<Long, BoxSet> floor = slabs.floorEntry(at);
+        if (floor == null) {
+            slabs.put(at, new BoxSet(dim - 1));
+        } else if (floor.getKey() != at) {
+            slabs.put(at, floor.getValue().copy());
+        }
+    }
+
+    private void coalesce() {
+        Iterator<BoxSet> it = slabs.values().iterator();
+        BoxSet previous = null;
+        while (it.hasNext()) {
+            BoxSet slab = it.next();
+            if (previous == null ? slab.isEmpty() : slab.equals(previous)) {
+                it.remove();
+            } else {
+                previous = slab;
+            }
+        }
+    }
+
+    private void checkDim(R box) {
+        if (box.dim() != dim) {
+            throw new IllegalArgumentException("Box dimension must be " + dim + ": dim = " + box.dim());
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof BoxSet other
+                && dim == other.dim
+                && Objects.equals(line, other.line)
+                && Objects.equals(slabs, other.slabs);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(dim, line, slabs);
+    }
+}
@@ -0,0 +1,76 @@
+package util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+// step i is the i-th recorded state; once a state repeats every later metric follows from the history
+public final class CycleDetector<S> {
+    private final Map<S, Integer> seen = new HashMap<>();
+    private long[] metrics = new long[16];
+    private int steps;
+    private int offset = -1;
+    private int period;
+
+    public boolean record(S state, long metric) {
+        if (found()) {
+            throw new IllegalStateException("Cycle was already found: offset = " + offset + ", period = " + period);
+        }
+        if (steps == metrics.length) {
+            metrics = Arrays.copyOf(metrics, 2 * steps);
+        }
+        metrics[steps] = metric;
+        Integer first = seen.putIfAbsent(requireNonNull(state), steps);
+        if (first != null) {
+            offset = first;
+            period = steps - first;
+            seen.clear();
+        }
+        steps++;
+        return found();
+    }
+
+    public boolean found() {
+        return offset >= 0;
+    }
+
+    public int steps() {
+        return steps;
+    }
+
+    public int offset() {
+        requireFound();
+        return offset;
+    }
+
+    public int period() {
+        requireFound();
+        return period;
+    }
+
+    public long increase() {
+        requireFound();
+        return metrics[offset + period] - metrics[offset];
+    }
+
+    public long metric(long step) {
+        if (step < 0) {
+            throw new IllegalArgumentException("Step must not be negative: step = " + step);
+        }
+        if (step < steps) {
+            return metrics[(int) step];
+        }
+        requireFound();
+        long cycles = (step - offset) / period;
+        int phase = (int) ((step - offset) % period);
+        return metrics[offset + phase] + Math.multiplyExact(cycles, increase());
+    }
+
+    private void requireFound() {
+        if (!found()) {
+            throw new IllegalStateException("Cycle was not found yet: steps = " + steps);
+        }
+    }
+}
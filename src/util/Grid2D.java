@@ -0,0 +1,274 @@
+package util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+public final class Grid2D {
+    public static final int N = 0;
+    public static final int NE = 1;
+    public static final int E = 2;
+    public static final int SE = 3;
+    public static final int S = 4;
+    public static final int SW = 5;
+    public static final int W = 6;
+    public static final int NW = 7;
+    public static final int DIRECTIONS = 8;
+
+    private static final int[] DX = {0, 1, 1, 1, 0, -1, -1, -1};
+    private static final int[] DY = {-1, -1, 0, 1, 1, 1, 0, -1};
+
+    private final byte[] cells;
+    private final int width;
+    private final int height;
+    private final int padding;
+    private final int stride;
+    private final boolean toroidal;
+    private final int[] offsets4;
+    private final int[] offsets8;
+
+    private Grid2D(int width, int height, int padding, boolean toroidal, byte border) {
+        if (width <= 0 || height <= 0 || padding < 0) {
+            throw new IllegalArgumentException("Invalid grid size: width = " + width + ", height = " + height + ", padding = " + padding);
+        }
+        if (toroidal && padding > 0) {
+            throw new IllegalArgumentException("Toroidal grid can not be padded: padding = " + padding);
+        }
+        this.width = width;
+        this.height = height;
+        this.padding = padding;
+        this.toroidal = toroidal;
+        this.stride = width + 2 * padding;
+        this.cells = new byte[Math.multiplyExact(stride, height + 2 * padding)];
+        if (border != 0) {
+            Arrays.fill(cells, border);
+        }
+        this.offsets8 = new int[DIRECTIONS];
+        for (int dir = 0; dir < DIRECTIONS; dir++) {
+            offsets8[dir] = DY[dir] * stride + DX[dir];
+        }
+        this.offsets4 = new int[]{offsets8[N], offsets8[E], offsets8[S], offsets8[W]};
+    }
+
+    private Grid2D(Grid2D other) {
+        this.cells = other.cells.clone();
+        this.width = other.width;
+        this.height = other.height;
+        this.padding = other.padding;
+        this.stride = other.stride;
+        this.toroidal = other.toroidal;
+        this.offsets4 = other.offsets4;
+        this.offsets8 = other.offsets8;
+    }
+
+    public static Grid2D of(int width, int height) {
+        return new Grid2D(width, height, 0, false, (byte) 0);
+    }
+
+    public static Grid2D padded(int width, int height, int padding, byte border) {
+        return new Grid2D(width, height, padding, false, border);
+    }
+
+    public static Grid2D toroidal(int width, int height) {
+        return new Grid2D(width, height, 0, true, (byte) 0);
+    }
+
+    public static Grid2D parse(List<? extends CharSequence> rows) {
+        return of(rows.get(0).length(), rows.size()).load(rows);
+    }
+
+    public Grid2D load(List<? extends CharSequence> rows) {
+        if (rows.size() != height) {
+            throw new IllegalArgumentException("Grid must have " + height + " rows: rows = " + rows.size());
+        }
+        for (int y = 0; y < height; y++) {
+            CharSequence row = rows.get(y);
+            if (row.length() != width) {
+                throw new IllegalArgumentException("Grid row must have " + width + " cells: row = " + y + ", length = " + row.length());
+            }
+            int idx = index(0, y);
+            for (int x = 0; x < width; x++) {
+                cells[idx + x] = (byte) row.charAt(x);
+            }
+        }
+        return this;
+    }
+
+    public Grid2D copy() {
+        return new Grid2D(this);
+    }
+
+    public void copyFrom(Grid2D other) {
+        if (other.cells.length != cells.length || other.stride != stride) {
+            throw new IllegalArgumentException("Grid layout must match: stride = " + stride + ", other stride = " + other.stride);
+        }
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public int stride() {
+        return stride;
+    }
+
+    public int capacity() {
+        return cells.length;
+    }
+
+    public int index(int x, int y) {
+        if (toroidal) {
+            return Math.floorMod(y, height) * stride + Math.floorMod(x, width);
+        }
+        return (y + padding) * stride + x + padding;
+    }
+
+    public int x(int idx) {
+        return idx % stride - padding;
+    }
+
+    public int y(int idx) {
+        return idx / stride - padding;
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public boolean contains(int idx) {
+        return padding == 0 ? idx >= 0 && idx < cells.length : contains(x(idx), y(idx));
+    }
+
+    public byte get(int idx) {
+        return cells[idx];
+    }
+
+    public byte get(int x, int y) {
+        return cells[index(x, y)];
+    }
+
+    public void set(int idx, byte value) {
+        cells[idx] = value;
+    }
+
+    public void set(int x, int y, byte value) {
+        cells[index(x, y)] = value;
+    }
+
+    public void fillBorder(byte value) {
+        if (padding == 0) {
+            return;
+        }
+        int top = padding * stride;
+        int bottom = (padding + height) * stride;
+        Arrays.fill(cells, 0, top, value);
+        Arrays.fill(cells, bottom, cells.length, value);
+        for (int row = top; row < bottom; row += stride) {
+            Arrays.fill(cells, row, row + padding, value);
+            Arrays.fill(cells, row + padding + width, row + stride, value);
+        }
+    }
+
+    public int offset(int direction) {
+        return offsets8[direction];
+    }
+
+    public int neighbour(int idx, int direction) {
+        if (padding > 0) {
+            return idx + offsets8[direction];
+        }
+        return neighbour(idx % stride, idx / stride, direction);
+    }
+
+    public void forEachNeighbour(int idx, IntConsumer action) {
+        forEachNeighbour(idx, 1, offsets8, action);
+    }
+
+    public void forEachNeighbour4(int idx, IntConsumer action) {
+        forEachNeighbour(idx, 2, offsets4, action);
+    }
+
+    private void forEachNeighbour(int idx, int step, int[] offsets, IntConsumer action) {
+        if (padding > 0) {
+            for (int offset : offsets) {
+                action.accept(idx + offset);
+            }
+            return;
+        }
+        int x = idx % stride;
+        int y = idx / stride;
+        for (int dir = N; dir < DIRECTIONS; dir += step) {
+            int neighbour = neighbour(x, y, dir);
+            if (neighbour >= 0) {
+                action.accept(neighbour);
+            }
+        }
+    }
+
+    private int neighbour(int x, int y, int direction) {
+        x += DX[direction];
+        y += DY[direction];
+        if (toroidal) {
+            x = x < 0 ? width - 1 : x == width ? 0 : x;
+            y = y < 0 ? height - 1 : y == height ? 0 : y;
+        } else if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        return y * stride + x;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int y = 0; y < height; y++) {
+            for (int idx = index(0, y), end = idx + width; idx < end; idx++) {
+                action.accept(idx);
+            }
+        }
+    }
+
+    public int count(byte value) {
+        int count = 0;
+        for (int y = 0; y < height; y++) {
+            for (int idx = index(0, y), end = idx + width; idx < end; idx++) {
+                if (cells[idx] == value) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Grid2D other
+                && width == other.width
+                && height == other.height
+                && padding == other.padding
+                && toroidal == other.toroidal
+                && Arrays.equals(cells, other.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(cells) + stride;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder((width + 1) * height);
+        for (int y = 0; y < height; y++) {
+            if (y > 0) {
+                sb.append(lineSeparator());
+            }
+            sb.append(new String(cells, index(0, y), width, ISO_8859_1));
+        }
+        return sb.toString();
+    }
+}
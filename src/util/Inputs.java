@@ -0,0 +1,66 @@
+package util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class Inputs {
+    public static final String DIR_PROPERTY = "inputs.dir";
+
+    private static final String RESOURCE_ROOT = "/inputs/";
+    private static final Map<String, LineSource> CACHE = new ConcurrentHashMap<>();
+
+    private Inputs() {
+    }
+
+    public static LineSource input(Class<?> solver) {
+        return input(year(solver), solver.getSimpleName());
+    }
+
+    public static LineSource input(String year, String name) {
+        return CACHE.computeIfAbsent(year + "/" + name + ".txt", Inputs::load);
+    }
+
+    public static String year(Class<?> solver) {
+        String pkg = solver.getPackageName();
+        return pkg.substring(pkg.lastIndexOf('.') + 1).replace("advent", "");
+    }
+
+    public static void evict() {
+        CACHE.clear();
+    }
+
+    private static LineSource load(String key) {
+        String dir = System.getProperty(DIR_PROPERTY);
+        if (dir != null) {
+            Path path = Path.of(dir, key);
+            if (Files.isRegularFile(path)) {
+                return LineSource.of(path);
+            }
+        }
+        URL url = Inputs.class.getResource(RESOURCE_ROOT + key);
+        if (url == null) {
+            throw new IllegalArgumentException("Input not found: " + key + (dir != null ? ", searched " + dir + " and classpath" : ""));
+        }
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return LineSource.of(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException("Invalid input location: " + url, e);
+            }
+        }
+        try (InputStream in = url.openStream()) {
+            byte[] bytes = in.readAllBytes();
+            return LineSource.of(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
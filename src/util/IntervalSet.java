@@ -0,0 +1,193 @@
+package util;
+
+import util.VectorAlgebra.R;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class IntervalSet {
+    private final TreeMap<Long, Long> intervals = new TreeMap<>();
+    private long size;
+
+    public IntervalSet() {
+    }
+
+    public static IntervalSet of(long low, long high) {
+        IntervalSet set = new IntervalSet();
+        set.add(low, high);
+        return set;
+    }
+
+    public IntervalSet copy() {
+        IntervalSet copy = new IntervalSet();
+        copy.intervals.putAll(intervals);
+        copy.size = size;
+        return copy;
+    }
+
+    public IntervalSet add(long low, long high) {
+        checkInterval(low, high);
+        Map.Entry<Long, Long> floor = intervals.floorEntry(low);
+        if (floor != null && floor.getValue() >= low - 1) {
+            if (floor.getValue() >= high) {
+                return this;
+            }
+            low = floor.getKey();
+            high = Math.max(high, floor.getValue());
+            remove(floor);
+        }
+        Map.Entry<Long, Long> next = intervals.ceilingEntry(low);
+        while (next != null && next.getKey() <= high + 1) {
+            high = Math.max(high, next.getValue());
+            remove(next);
+            next = intervals.higherEntry(next.getKey());
+        }
+        put(low, high);
+        return this;
+    }
+
+    public IntervalSet remove(long low, long high) {
+        checkInterval(low, high);
+        Map.Entry<Long, Long> floor = intervals.lowerEntry(low);
+        if (floor != null && floor.getValue() >= low) {
+            remove(floor);
+            put(floor.getKey(), low - 1);
+            if (floor.getValue() > high) {
+                put(high + 1, floor.getValue());
+                return this;
+            }
+        }
+        Map.Entry<Long, Long> next = intervals.ceilingEntry(low);
+        while (next != null && next.getKey() <= high) {
+            remove(next);
+            if (next.getValue() > high) {
+                put(high + 1, next.getValue());
+                break;
+            }
+            next = intervals.higherEntry(next.getKey());
+        }
+        return this;
+    }
+
+    public IntervalSet union(IntervalSet other) {
+        IntervalSet union = copy();
+        other.intervals.forEach(union::add);
+        return union;
+    }
+
+    public IntervalSet subtract(IntervalSet other) {
+        IntervalSet difference = copy();
+        other.intervals.forEach(difference::remove);
+        return difference;
+    }
+
+    public IntervalSet intersect(IntervalSet other) {
+        IntervalSet intersection = new IntervalSet();
+        Iterator<Map.Entry<Long, Long>> it1 = intervals.entrySet().iterator();
+        Iterator<Map.Entry<Long, Long>> it2 = other.intervals.entrySet().iterator();
+        Map.Entry<Long, Long> e1 = it1.hasNext() ? it1.next() : null;
+        Map.Entry<Long, Long> e2 = it2.hasNext() ? it2.next() : null;
+        while (e1 != null && e2 != null) {
+            long low = Math.max(e1.getKey(), e2.getKey());
+            long high = Math.min(e1.getValue(), e2.getValue());
+            if (low <= high) {
+                intersection.put(low, high);
+            }
+            if (e1.getValue() < e2.getValue()) {
+                e1 = it1.hasNext() ? it1.next() : null;
+            } else {
+                e2 = it2.hasNext() ? it2.next() : null;
+            }
+        }
+        return intersection;
+    }
+
+    public IntervalSet intersect(long low, long high) {
+        checkInterval(low, high);
+        IntervalSet intersection = new IntervalSet();
+        Map.Entry<Long, Long> floor = intervals.floorEntry(low);
+        Long from = floor != null && floor.getValue() >= low ? floor.getKey() : Long.valueOf(low);
+        for (Map.Entry<Long, Long> e : intervals.subMap(from, true, high, true).entrySet()) {
+            intersection.put(Math.max(low, e.getKey()), Math.min(high, e.getValue()));
+        }
+        return intersection;
+    }
+
+    public boolean contains(long x) {
+        Map.Entry<Long, Long> floor = intervals.floorEntry(x);
+        return floor != null && floor.getValue() >= x;
+    }
+
+    public long nextAbsent(long x) {
+        Map.Entry<Long, Long> floor = intervals.floorEntry(x);
+        return floor != null && floor.getValue() >= x ? floor.getValue() + 1 : x;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int count() {
+        return intervals.size();
+    }
+
+    public boolean isEmpty() {
+        return intervals.isEmpty();
+    }
+
+    public long min() {
+        return intervals.firstKey();
+    }
+
+    public long max() {
+        return intervals.lastEntry().getValue();
+    }
+
+    public Stream<R> ranges() {
+        return intervals.entrySet().stream().map(e -> R.of(e.getKey(), e.getValue()));
+    }
+
+    NavigableMap<Long, Long> intervals() {
+        return intervals;
+    }
+
+    private void put(long low, long high) {
+        intervals.put(low, high);
+        size += high - low + 1;
+    }
+
+    private void remove(Map.Entry<Long, Long> interval) {
+        intervals.remove(interval.getKey());
+        size -= interval.getValue() - interval.getKey() + 1;
+    }
+
+    private static void checkInterval(long low, long high) {
+        if (low > high) {
+            throw new IllegalArgumentException("Interval low must be lesser than high: low = " + low + ", high = " + high);
+        }
+        if (low == Long.MIN_VALUE || high == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Interval bounds must be within (Long.MIN_VALUE, Long.MAX_VALUE): low = " + low + ", high = " + high);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof IntervalSet other && intervals.equals(other.intervals);
+    }
+
+    @Override
+    public int hashCode() {
+        return intervals.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return intervals.entrySet().stream()
+                        .map(e -> "[" + e.getKey() + ".." + e.getValue() + "]")
+                        .collect(Collectors.joining(", ", "{", "}"));
+    }
+}
@@ -0,0 +1,223 @@
+package util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Objects.requireNonNull;
+
+public final class LineSource {
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final ByteBuffer buffer;
+
+    private LineSource(ByteBuffer buffer) {
+        this.buffer = requireNonNull(buffer).asReadOnlyBuffer();
+    }
+
+    public static LineSource of(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Input is too large to be mapped: " + path + ", size = " + size);
+            }
+            return new LineSource(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static LineSource of(String text) {
+        return new LineSource(ByteBuffer.wrap(text.getBytes(ISO_8859_1)));
+    }
+
+    public static LineSource of(ByteBuffer buffer) {
+        return new LineSource(buffer.slice());
+    }
+
+    public static Stream<String> lines(Path path) {
+        return of(path).lines();
+    }
+
+    public static Stream<String> lines(String text) {
+        return of(text).lines();
+    }
+
+    public ByteBuffer buffer() {
+        return buffer.duplicate();
+    }
+
+    public int size() {
+        return buffer.limit();
+    }
+
+    public Stream<String> lines() {
+        return StreamSupport.stream(new LineSpliterator(0, buffer.limit()), false);
+    }
+
+    public void forEach(Consumer<? super Line> action) {
+        Line line = new Line(buffer);
+        int pos = 0;
+        int end = buffer.limit();
+        while (pos < end) {
+            int next = nextLine(buffer, pos, end, line);
+            action.accept(line);
+            pos = next;
+        }
+    }
+
+    static int indexOf(ByteBuffer buffer, byte b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int nextLine(ByteBuffer buffer, int pos, int end, Line line) {
+        int lf = indexOf(buffer, LF, pos, end);
+        int lineEnd = lf < 0 ? end : lf;
+        if (lineEnd > pos && buffer.get(lineEnd - 1) == CR) {
+            lineEnd--;
+        }
+        line.set(pos, lineEnd);
+        return lf < 0 ? end : lf + 1;
+    }
+
+    public static final class Line implements CharSequence {
+        private final ByteBuffer buffer;
+        private int start;
+        private int end;
+
+        Line(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        Line(ByteBuffer buffer, int start, int end) {
+            this.buffer = buffer;
+            set(start, end);
+        }
+
+        void set(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public int start() {
+            return start;
+        }
+
+        public int end() {
+            return end;
+        }
+
+        public byte byteAt(int index) {
+            return buffer.get(start + index);
+        }
+
+        public boolean isBlank() {
+            for (int i = start; i < end; i++) {
+                if (!Character.isWhitespace(buffer.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("Invalid index: " + index + ", length is: " + length());
+            }
+            return (char) (buffer.get(start + index) & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            if (from < 0 || to > length() || from > to) {
+                throw new IndexOutOfBoundsException("Invalid range: " + from + ".." + to + ", length is: " + length());
+            }
+            return new Line(buffer, start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            return decode(buffer, start, end);
+        }
+    }
+
+    static String decode(ByteBuffer buffer, int start, int end) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, end - start, ISO_8859_1);
+        }
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, ISO_8859_1);
+    }
+
+    private final class LineSpliterator implements Spliterator<String> {
+        private final Line line = new Line(buffer);
+        private int pos;
+        private final int end;
+
+        LineSpliterator(int pos, int end) {
+            this.pos = pos;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            if (pos >= end) {
+                return false;
+            }
+            pos = nextLine(buffer, pos, end, line);
+            action.accept(line.toString());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super String> action) {
+            while (pos < end) {
+                pos = nextLine(buffer, pos, end, line);
+                action.accept(line.toString());
+            }
+        }
+
+        @Override
+        public Spliterator<String> trySplit() {
+            int mid = (pos + end) >>> 1;
+            int lf = indexOf(buffer, LF, mid, end);
+            if (lf < 0 || lf + 1 >= end) {
+                return null;
+            }
+            LineSpliterator prefix = new LineSpliterator(pos, lf + 1);
+            pos = lf + 1;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - pos;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package util;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// A solver that only has main() and reads its embedded input. It has no parse or parts to time, so the
+// scheduler runs the whole of main() as one job: the solver's package is loaded into a fresh class loader,
+// so static state starts clean, and System.out is captured for the calling thread while main() runs.
+public record MainPuzzle(Class<?> type) {
+    static final String CATALOG = "META-INF/main-puzzles";
+
+    private static final InheritableThreadLocal<ByteArrayOutputStream> CAPTURE = new InheritableThreadLocal<>();
+    private static PrintStream console;
+    private static int capturing;
+
+    public static List<MainPuzzle> catalog() {
+        List<MainPuzzle> puzzles = new ArrayList<>();
+        ClassLoader loader = MainPuzzle.class.getClassLoader();
+        try {
+            for (URL url : Collections.list(loader.getResources(CATALOG))) {
+                try (BufferedReader in = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    in.lines()
+                      .map(line -> line.replaceFirst("#.*", "").strip())
+                      .filter(line -> !line.isEmpty())
+                      .forEach(name -> puzzles.add(of(name, loader)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return puzzles;
+    }
+
+    public static List<MainPuzzle> catalog(List<String> names) {
+        return catalog().stream()
+                        .filter(p -> names.isEmpty() || names.contains(p.name()) || names.contains(p.type().getName()))
+                        .toList();
+    }
+
+    private static MainPuzzle of(String name, ClassLoader loader) {
+        try {
+            return new MainPuzzle(Class.forName(name, false, loader));
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Unknown main puzzle: " + name, e);
+        }
+    }
+
+    public String name() {
+        return type.getSimpleName();
+    }
+
+    public String year() {
+        return Inputs.year(type);
+    }
+
+    // Runs main() once and answers with its last non-blank line of output.
+    public String run() {
+        Method main = freshMain();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        startCapture();
+        CAPTURE.set(output);
+        try {
+            main.invoke(null, (Object) new String[0]);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(type.getName() + ".main failed", e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot run main of " + type.getName(), e);
+        } finally {
+            CAPTURE.remove();
+            stopCapture();
+        }
+        return output.toString().lines()
+                     .filter(line -> !line.isBlank())
+                     .reduce((first, second) -> second)
+                     .orElse("");
+    }
+
+    private Method freshMain() {
+        try {
+            return new Isolated(type).loadClass(type.getName()).getMethod("main", String[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot load main of " + type.getName(), e);
+        }
+    }
+
+    // System.out is routed while at least one main() runs and restored when the last one finishes.
+    private static synchronized void startCapture() {
+        if (capturing++ == 0) {
+            console = System.out;
+            System.setOut(new PrintStream(new Router(console), true));
+        }
+    }
+
+    private static synchronized void stopCapture() {
+        if (--capturing == 0) {
+            System.setOut(console);
+            console = null;
+        }
+    }
+
+    private static final class Router extends OutputStream {
+        private final PrintStream console;
+
+        Router(PrintStream console) {
+            this.console = console;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target().write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int off, int len) throws IOException {
+            target().write(bytes, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target().flush();
+        }
+
+        private OutputStream target() {
+            ByteArrayOutputStream output = CAPTURE.get();
+            return output != null ? output : console;
+        }
+    }
+
+    // Child-first for the solver's own package, so each run gets its own copy of the static fields.
+    private static final class Isolated extends ClassLoader {
+        private final String prefix;
+
+        Isolated(Class<?> type) {
+            super("main-puzzle", type.getClassLoader());
+            this.prefix = type.getPackageName() + ".";
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(prefix)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        if (in == null) {
+                            throw new ClassNotFoundException(name);
+                        }
+                        byte[] bytes = in.readAllBytes();
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+}
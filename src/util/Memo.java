@@ -0,0 +1,150 @@
+package util;
+
+import java.util.function.LongUnaryOperator;
+
+// Set-associative cache of long results: a key may only live in the WAYS slots of its set,
+// and a full set evicts with a clock hand over its reference bits.
+public final class Memo {
+    private static final int WAYS = 8;
+    private static final int STRIPES = 64;
+    private static final byte EMPTY = 0;
+    private static final byte USED = 1;
+    private static final byte REFERENCED = 2;
+
+    private final long[] keys;
+    private final long[] values;
+    private final byte[] states;
+    private final byte[] hands;
+    private final int setMask;
+    private final Object[] locks;
+    private final long[] hits;
+    private final long[] misses;
+    private final long[] evictions;
+
+    private Memo(int capacity, int stripes) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: capacity = " + capacity);
+        }
+        int required = (capacity + WAYS - 1) / WAYS;
+        int sets = required == 1 ? 1 : Integer.highestOneBit(required - 1) << 1;
+        this.keys = new long[sets * WAYS];
+        this.values = new long[sets * WAYS];
+        this.states = new byte[sets * WAYS];
+        this.hands = new byte[sets];
+        this.setMask = sets - 1;
+        this.locks = new Object[Math.min(stripes, sets)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        this.hits = new long[locks.length];
+        this.misses = new long[locks.length];
+        this.evictions = new long[locks.length];
+    }
+
+    public Memo() {
+        this(1 << 16);
+    }
+
+    public Memo(int capacity) {
+        this(capacity, 1);
+    }
+
+    // compute runs outside the locks, racing threads may both evaluate a key
+    public static Memo concurrent(int capacity) {
+        return new Memo(capacity, STRIPES);
+    }
+
+    public long get(long key, LongUnaryOperator compute) {
+        int set = set(key);
+        int stripe = set & (locks.length - 1);
+        if (locks.length == 1) {
+            int slot = find(set, key);
+            if (slot >= 0) {
+                hits[0]++;
+                return values[slot];
+            }
+            misses[0]++;
+            long value = compute.applyAsLong(key);
+            put(set, key, value, 0);
+            return value;
+        }
+        synchronized (locks[stripe]) {
+            int slot = find(set, key);
+            if (slot >= 0) {
+                hits[stripe]++;
+                return values[slot];
+            }
+            misses[stripe]++;
+        }
+        long value = compute.applyAsLong(key);
+        synchronized (locks[stripe]) {
+            put(set, key, value, stripe);
+        }
+        return value;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long hits() {
+        return sum(hits);
+    }
+
+    public long misses() {
+        return sum(misses);
+    }
+
+    public long evictions() {
+        return sum(evictions);
+    }
+
+    private long sum(long[] counters) {
+        if (locks.length == 1) {
+            return counters[0];
+        }
+        long sum = 0;
+        for (int stripe = 0; stripe < locks.length; stripe++) {
+            synchronized (locks[stripe]) {
+                sum += counters[stripe];
+            }
+        }
+        return sum;
+    }
+
+    private int set(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & setMask;
+    }
+
+    private int find(int set, long key) {
+        for (int slot = set * WAYS, end = slot + WAYS; slot < end && states[slot] != EMPTY; slot++) {
+            if (keys[slot] == key) {
+                states[slot] = REFERENCED;
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void put(int set, long key, long value, int stripe) {
+        int base = set * WAYS;
+        for (int slot = base; slot < base + WAYS; slot++) {
+            if (states[slot] == EMPTY || keys[slot] == key) {
+                keys[slot] = key;
+                values[slot] = value;
+                states[slot] = USED;
+                return;
+            }
+        }
+        int hand = hands[set];
+        while (states[base + hand] == REFERENCED) {
+            states[base + hand] = USED;
+            hand = (hand + 1) % WAYS;
+        }
+        keys[base + hand] = key;
+        values[base + hand] = value;
+        hands[set] = (byte) ((hand + 1) % WAYS);
+        evictions[stripe]++;
+    }
+}
@@ -0,0 +1,166 @@
+package util;
+
+import java.nio.ByteBuffer;
+
+import static java.util.Objects.requireNonNull;
+
+// a '-' is a sign only before a digit and not right after one, so "2-4" reads as 2 and 4
+public final class Parse {
+    private static final int SAFE_DIGITS = 18;
+
+    private Parse() {
+    }
+
+    public static int parseInt(CharSequence text) {
+        return parseInt(text, 0, text.length());
+    }
+
+    public static int parseInt(CharSequence text, int from, int to) {
+        return Math.toIntExact(parseLong(text, from, to));
+    }
+
+    public static long parseLong(CharSequence text) {
+        return parseLong(text, 0, text.length());
+    }
+
+    public static long parseLong(CharSequence text, int from, int to) {
+        Cursor cursor = new Cursor().reset(text, from, to);
+        long value = cursor.number(from);
+        if (cursor.pos != to) {
+            throw new NumberFormatException("Invalid number: " + text.subSequence(from, to));
+        }
+        return value;
+    }
+
+    public static long parseLong(ByteBuffer buffer, int from, int to) {
+        Cursor cursor = new Cursor().reset(buffer, from, to);
+        long value = cursor.number(from);
+        if (cursor.pos != to) {
+            throw new NumberFormatException("Invalid number at " + from + ".." + to);
+        }
+        return value;
+    }
+
+    public static int ints(CharSequence text, int[] values) {
+        return new Cursor().reset(text, 0, text.length()).ints(values);
+    }
+
+    public static Cursor cursor(CharSequence text) {
+        return new Cursor().reset(text, 0, text.length());
+    }
+
+    public static Cursor cursor(ByteBuffer buffer, int from, int to) {
+        return new Cursor().reset(buffer, from, to);
+    }
+
+    // reusable scanner, separators between numbers are skipped
+    public static final class Cursor {
+        private CharSequence text;
+        private ByteBuffer buffer;
+        private int from;
+        private int pos;
+        private int end;
+
+        public Cursor reset(CharSequence text) {
+            return reset(text, 0, text.length());
+        }
+
+        public Cursor reset(CharSequence text, int from, int to) {
+            this.text = requireNonNull(text);
+            this.buffer = null;
+            return range(from, to, text.length());
+        }
+
+        public Cursor reset(ByteBuffer buffer, int from, int to) {
+            this.buffer = requireNonNull(buffer);
+            this.text = null;
+            return range(from, to, buffer.limit());
+        }
+
+        private Cursor range(int from, int to, int length) {
+            if (from < 0 || to > length || from > to) {
+                throw new IndexOutOfBoundsException("Invalid range: " + from + ".." + to + ", length is: " + length);
+            }
+            this.from = from;
+            this.pos = from;
+            this.end = to;
+            return this;
+        }
+
+        public int position() {
+            return pos;
+        }
+
+        public Cursor skip(int count) {
+            pos = Math.min(end, pos + count);
+            return this;
+        }
+
+        public boolean hasNext() {
+            return start() >= 0;
+        }
+
+        public int nextInt() {
+            return Math.toIntExact(nextLong());
+        }
+
+        public long nextLong() {
+            int start = start();
+            if (start < 0) {
+                throw new NumberFormatException("No number left at position " + pos);
+            }
+            return number(start);
+        }
+
+        public int ints(int[] values) {
+            int count = 0;
+            for (int start = start(); start >= 0; start = start()) {
+                if (count == values.length) {
+                    throw new IllegalArgumentException("Too many numbers for the array: length = " + values.length);
+                }
+                values[count++] = Math.toIntExact(number(start));
+            }
+            return count;
+        }
+
+        private int start() {
+            for (int i = pos; i < end; i++) {
+                int ch = at(i);
+                if (isDigit(ch) || ch == '-' && i + 1 < end && isDigit(at(i + 1)) && (i == from || !isDigit(at(i - 1)))) {
+                    return i;
+                }
+            }
+            pos = end;
+            return -1;
+        }
+
+        private long number(int start) {
+            int i = start;
+            boolean negative = i < end && at(i) == '-';
+            if (negative) {
+                i++;
+            }
+            int first = i;
+            long value = 0;
+            for (; i < end && isDigit(at(i)); i++) {
+                int digit = at(i) - '0';
+                value = i - first < SAFE_DIGITS
+                        ? 10 * value + digit
+                        : Math.addExact(Math.multiplyExact(value, 10), digit);
+            }
+            if (i == first) {
+                throw new NumberFormatException("Number expected at position " + start);
+            }
+            pos = i;
+            return negative ? -value : value;
+        }
+
+        private int at(int i) {
+            return buffer != null ? buffer.get(i) : text.charAt(i);
+        }
+
+        private static boolean isDigit(int ch) {
+            return ch >= '0' && ch <= '9';
+        }
+    }
+}
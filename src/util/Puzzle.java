@@ -0,0 +1,21 @@
+package util;
+
+public interface Puzzle<T> {
+    default LineSource input() {
+        return Inputs.input(year(), name());
+    }
+
+    T parse(LineSource input);
+
+    Object part1(T input);
+
+    Object part2(T input);
+
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    default String year() {
+        return Inputs.year(getClass());
+    }
+}
@@ -0,0 +1,206 @@
+package util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+public final class PuzzleRunner {
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    private final int warmup;
+    private final int iterations;
+
+    public PuzzleRunner(int warmup, int iterations) {
+        if (warmup < 0 || iterations <= 0) {
+            throw new IllegalArgumentException("Invalid run counts: warmup = " + warmup + ", iterations = " + iterations);
+        }
+        this.warmup = warmup;
+        this.iterations = iterations;
+    }
+
+    public static List<Puzzle<?>> puzzles() {
+        List<Puzzle<?>> puzzles = new ArrayList<>();
+        ServiceLoader.load(Puzzle.class).forEach(puzzles::add);
+        return puzzles;
+    }
+
+    public static List<Puzzle<?>> puzzles(List<String> names) {
+        return puzzles().stream()
+                        .filter(p -> names.isEmpty()
+                                || names.contains(p.name())
+                                || names.contains(p.getClass().getName()))
+                        .toList();
+    }
+
+    public Report run(Puzzle<?> puzzle) {
+        return run(puzzle, puzzle.input());
+    }
+
+    public <T> Report run(Puzzle<T> puzzle, LineSource input) {
+        for (int i = 0; i < warmup; i++) {
+            puzzle.part1(puzzle.parse(input));
+            puzzle.part2(puzzle.parse(input));
+        }
+        Phase parse = new Phase("parse");
+        Phase part1 = new Phase("part1");
+        Phase part2 = new Phase("part2");
+        Object answer1 = null;
+        Object answer2 = null;
+        for (int i = 0; i < iterations; i++) {
+            T parsed = parse.measure(() -> puzzle.parse(input));
+            answer1 = part1.measure(() -> puzzle.part1(parsed));
+            T reparsed = puzzle.parse(input);
+            answer2 = part2.measure(() -> puzzle.part2(reparsed));
+        }
+        return new Report(puzzle.name(), input.size(), iterations, parse, part1, part2, answer1, answer2);
+    }
+
+    public static final class Phase {
+        private final String name;
+        private long nanos;
+        private long bytes;
+        private int count;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        <R> R measure(Supplier<R> action) {
+            Map<Long, Long> allocated = allocations();
+            long start = System.nanoTime();
+            R result = action.get();
+            nanos += System.nanoTime() - start;
+            bytes += allocatedSince(allocated);
+            count++;
+            return result;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public double avgMillis() {
+            return count == 0 ? 0 : nanos / 1e6 / count;
+        }
+
+        public long avgBytes() {
+            return count == 0 || THREADS == null ? -1 : bytes / count;
+        }
+
+        public double opsPerSecond() {
+            return nanos == 0 ? 0 : count * 1e9 / nanos;
+        }
+    }
+
+    public record Report(String puzzle, long inputBytes, int iterations,
+                         Phase parse, Phase part1, Phase part2,
+                         Object answer1, Object answer2) {
+        public double parseMegabytesPerSecond() {
+            return parse.nanos == 0 ? 0 : inputBytes * (double) parse.count * 1e3 / parse.nanos;
+        }
+
+        static String header() {
+            return String.format("%-28s %6s %12s %12s %12s %14s %14s %14s %10s",
+                                 "puzzle", "iter",
+                                 "parse ms", "part1 ms", "part2 ms",
+                                 "parse alloc", "part1 alloc", "part2 alloc",
+                                 "parse MB/s");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %6d %12.3f %12.3f %12.3f %14d %14d %14d %10.1f",
+                                 puzzle, iterations,
+                                 parse.avgMillis(), part1.avgMillis(), part2.avgMillis(),
+                                 parse.avgBytes(), part1.avgBytes(), part2.avgBytes(),
+                                 parseMegabytesPerSecond());
+        }
+    }
+
+    // Bytes allocated so far by every live thread, so work on parallel streams, the common pool and virtual
+    // threads (charged to their carriers) counts too. Platform threads that start and end inside a phase are
+    // missed, and phases that run side by side, as in PuzzleScheduler, are charged for each other's work.
+    static Map<Long, Long> allocations() {
+        Map<Long, Long> allocations = new HashMap<>();
+        if (THREADS != null) {
+            long[] ids = THREADS.getAllThreadIds();
+            long[] bytes = THREADS.getThreadAllocatedBytes(ids);
+            for (int i = 0; i < ids.length; i++) {
+                if (bytes[i] >= 0) {
+                    allocations.put(ids[i], bytes[i]);
+                }
+            }
+        }
+        return allocations;
+    }
+
+    static long allocatedSince(Map<Long, Long> before) {
+        return allocations().entrySet().stream()
+                            .mapToLong(e -> e.getValue() - before.getOrDefault(e.getKey(), 0L))
+                            .sum();
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+
+    private static LineSource stdin() {
+        try {
+            return LineSource.of(ByteBuffer.wrap(System.in.readAllBytes()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void main(String[] args) {
+        int warmup = 3;
+        int iterations = 5;
+        String input = null;
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+                case "--iterations" -> iterations = Integer.parseInt(args[++i]);
+                case "--input" -> input = args[++i];
+                default -> names.add(args[i]);
+            }
+        }
+
+        if (!names.isEmpty()) {
+            List<String> mainOnly = MainPuzzle.catalog(names).stream().map(MainPuzzle::name).toList();
+            if (!mainOnly.isEmpty()) {
+                throw new IllegalArgumentException("Only main() with embedded input, no phases to time"
+                                                   + (input != null ? " or input to replace" : "") + ": " + mainOnly
+                                                   + "; PuzzleScheduler runs them whole");
+            }
+        }
+        List<Puzzle<?>> puzzles = puzzles(names);
+        if (input != null && puzzles.size() != 1) {
+            throw new IllegalArgumentException("Explicit input requires exactly one puzzle, found: " + puzzles.size());
+        }
+
+        PuzzleRunner runner = new PuzzleRunner(warmup, iterations);
+        System.out.println(Report.header());
+        for (Puzzle<?> puzzle : puzzles) {
+            Report report = input == null
+                    ? runner.run(puzzle)
+                    : runner.run(puzzle, input.equals("-") ? stdin() : LineSource.of(Path.of(input)));
+            System.out.println(report);
+            System.out.println("    part1: " + report.answer1());
+            System.out.println("    part2: " + report.answer2());
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package util;
+
+import util.PuzzleRunner.Phase;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Each part runs on its own daemon thread and holds one of the parallelism slots until it finishes or times out.
+// A timed out part is interrupted and its slot handed on; a solver that never polls for interruption keeps
+// running on its abandoned thread but no longer delays the rest of the schedule.
+public final class PuzzleScheduler implements AutoCloseable {
+    private final Duration timeout;
+    private final Semaphore slots;
+    private final ExecutorService loaders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService solvers = Executors.newThreadPerTaskExecutor(Thread.ofPlatform().daemon().name("puzzle-", 0).factory());
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().factory());
+
+    public PuzzleScheduler(int parallelism, Duration timeout) {
+        if (parallelism <= 0 || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Invalid scheduler settings: parallelism = " + parallelism + ", timeout = " + timeout);
+        }
+        this.timeout = timeout;
+        this.slots = new Semaphore(parallelism, true);
+    }
+
+    public List<Result> run(List<Puzzle<?>> puzzles) {
+        return run(puzzles, List.of());
+    }
+
+    public List<Result> run(List<Puzzle<?>> puzzles, List<MainPuzzle> mains) {
+        List<CompletableFuture<Result>> results = Stream.concat(puzzles.stream().map(this::submit),
+                                                                mains.stream().map(this::submit))
+                                                        .toList();
+        return results.stream()
+                      .map(CompletableFuture::join)
+                      .sorted(Comparator.comparing(Result::year).thenComparing(Result::puzzle))
+                      .toList();
+    }
+
+    public CompletableFuture<Result> submit(Puzzle<?> puzzle) {
+        return schedule(puzzle);
+    }
+
+    public CompletableFuture<Result> submit(MainPuzzle puzzle) {
+        Phase main = new Phase("main");
+        return inSlot(() -> main.measure(puzzle::run))
+                .handle((answer, error) -> Part.of(null, main, answer, error))
+                .thenApply(part -> Result.ofMain(puzzle.name(), puzzle.year(), part));
+    }
+
+    private <T> CompletableFuture<Result> schedule(Puzzle<T> puzzle) {
+        Phase load = new Phase("load");
+        Phase parse1 = new Phase("parse");
+        Phase parse2 = new Phase("parse");
+        Phase part1 = new Phase("part1");
+        Phase part2 = new Phase("part2");
+        CompletableFuture<LineSource> input = timed(loaders, () -> load.measure(puzzle::input));
+        CompletableFuture<Part> answer1 = input.thenCompose(in -> inSlot(() -> solve(puzzle, in, parse1, part1, puzzle::part1)))
+                                               .handle((answer, error) -> Part.of(parse1, part1, answer, error));
+        CompletableFuture<Part> answer2 = input.thenCompose(in -> inSlot(() -> solve(puzzle, in, parse2, part2, puzzle::part2)))
+                                               .handle((answer, error) -> Part.of(parse2, part2, answer, error));
+        return answer1.thenCombine(answer2, (p1, p2) -> new Result(puzzle.name(), puzzle.year(), load, p1, p2, null));
+    }
+
+    private static <T> Object solve(Puzzle<T> puzzle, LineSource in, Phase parse, Phase part, Function<T, Object> solver)
+            throws InterruptedException {
+        T parsed = parse.measure(() -> puzzle.parse(in));
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Interrupted after parsing " + puzzle.name());
+        }
+        return part.measure(() -> solver.apply(parsed));
+    }
+
+    private <R> CompletableFuture<R> inSlot(Callable<R> task) {
+        return CompletableFuture.runAsync(slots::acquireUninterruptibly, loaders)
+                                .thenCompose(ignored -> timed(solvers, task))
+                                .whenComplete((answer, error) -> slots.release());
+    }
+
+    private <R> CompletableFuture<R> timed(ExecutorService executor, Callable<R> task) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Future<?>[] deadline = new Future<?>[1];
+        FutureTask<R> run = new FutureTask<>(task) {
+            @Override
+            public void run() {
+                deadline[0] = timer.schedule(() -> cancel(true), timeout.toMillis(), TimeUnit.MILLISECONDS);
+                super.run();
+            }
+
+            @Override
+            protected void done() {
+                if (deadline[0] != null) {
+                    deadline[0].cancel(false);
+                }
+                try {
+                    future.complete(get());
+                } catch (CancellationException e) {
+                    future.completeExceptionally(new TimeoutException("Timed out after " + timeout));
+                } catch (ExecutionException e) {
+                    future.completeExceptionally(e.getCause());
+                } catch (InterruptedException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        };
+        executor.execute(run);
+        return future;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        loaders.shutdownNow();
+        solvers.shutdownNow();
+    }
+
+    public enum Status {
+        OK, FAILED, TIMEOUT
+    }
+
+    public record Part(Status status, Object answer, Phase parse, Phase phase) {
+        static Part of(Phase parse, Phase phase, Object answer, Throwable error) {
+            if (error == null) {
+                return new Part(Status.OK, answer, parse, phase);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return cause instanceof TimeoutException
+                    ? new Part(Status.TIMEOUT, null, parse, phase)
+                    : new Part(Status.FAILED, cause, parse, phase);
+        }
+
+        String millis() {
+            return status == Status.OK ? String.format("%.3f", phase.avgMillis()) : status.name().toLowerCase();
+        }
+    }
+
+    // Rows for a Puzzle carry load and both parts; rows for a MainPuzzle carry only the whole main() run.
+    public record Result(String puzzle, String year, Phase load, Part part1, Part part2, Part main) {
+        static Result ofMain(String puzzle, String year, Part main) {
+            return new Result(puzzle, year, null, null, null, main);
+        }
+
+        public Status status() {
+            return Stream.of(part1, part2, main)
+                         .filter(Objects::nonNull)
+                         .map(Part::status)
+                         .max(Comparator.naturalOrder())
+                         .orElseThrow();
+        }
+
+        public double parseMillis() {
+            return main != null ? 0 : part1.parse().avgMillis() + part2.parse().avgMillis();
+        }
+
+        public double totalMillis() {
+            return main != null
+                    ? main.phase().avgMillis()
+                    : load.avgMillis() + parseMillis() + part1.phase().avgMillis() + part2.phase().avgMillis();
+        }
+
+        static String header() {
+            return String.format("%-28s %6s %10s %10s %12s %12s %12s %8s",
+                                 "puzzle", "year", "load ms", "parse ms", "part1 ms", "part2 ms", "main ms", "status");
+        }
+
+        @Override
+        public String toString() {
+            if (main != null) {
+                return String.format("%-28s %6s %10s %10s %12s %12s %12s %8s",
+                                     puzzle, year, "-", "-", "-", "-", main.millis(), status());
+            }
+            return String.format("%-28s %6s %10.3f %10.3f %12s %12s %12s %8s",
+                                 puzzle, year, load.avgMillis(), parseMillis(), part1.millis(), part2.millis(), "-", status());
+        }
+    }
+
+    public static void main(String[] args) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        Duration timeout = Duration.ofMinutes(1);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--parallelism" -> parallelism = Integer.parseInt(args[++i]);
+                case "--timeout" -> timeout = Duration.ofSeconds(Long.parseLong(args[++i]));
+                default -> names.add(args[i]);
+            }
+        }
+
+        long start = System.nanoTime();
+        List<Result> results;
+        try (PuzzleScheduler scheduler = new PuzzleScheduler(parallelism, timeout)) {
+            results = scheduler.run(PuzzleRunner.puzzles(names), MainPuzzle.catalog(names));
+        }
+        double wall = (System.nanoTime() - start) / 1e6;
+        double total = results.stream()
+                              .mapToDouble(Result::totalMillis)
+                              .sum();
+
+        System.out.println(Result.header());
+        results.forEach(System.out::println);
+        System.out.println();
+        for (Result result : results) {
+            if (result.main() != null) {
+                System.out.println(result.puzzle() + " main: " + result.main().answer());
+            } else {
+                System.out.println(result.puzzle() + " part1: " + result.part1().answer());
+                System.out.println(result.puzzle() + " part2: " + result.part2().answer());
+            }
+        }
+        System.out.println();
+        System.out.printf("%d puzzles, %d failed, wall %.3f ms, sum %.3f ms%n",
+                          results.size(),
+                          results.stream().filter(r -> r.status() != Status.OK).count(),
+                          wall, total);
+    }
+}
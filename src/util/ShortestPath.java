@@ -0,0 +1,335 @@
+package util;
+
+import util.collections.BucketQueue;
+import util.collections.LongLongMap;
+import util.collections.LongMinHeap;
+import util.collections.LongPriorityQueue;
+import util.collections.LongSet;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+import static java.util.Objects.requireNonNull;
+
+public final class ShortestPath {
+    public static final long UNREACHED = Long.MAX_VALUE;
+
+    private final Edges edges;
+    private final int maxWeight;
+    private LongPredicate goal = state -> false;
+    private LongUnaryOperator heuristic;
+    private int states = -1;
+    private boolean paths;
+
+    private ShortestPath(Edges edges, int maxWeight) {
+        this.edges = requireNonNull(edges);
+        this.maxWeight = maxWeight;
+    }
+
+    public static ShortestPath bfs(Edges edges) {
+        return new ShortestPath(edges, 1);
+    }
+
+    public static ShortestPath dial(Edges edges, int maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Max weight must be positive: maxWeight = " + maxWeight);
+        }
+        return new ShortestPath(edges, maxWeight);
+    }
+
+    public static ShortestPath dijkstra(Edges edges) {
+        return new ShortestPath(edges, 0);
+    }
+
+    @FunctionalInterface
+    public interface Edges {
+        void forEach(long state, Edge edge);
+    }
+
+    @FunctionalInterface
+    public interface Edge {
+        void accept(long target, long weight);
+    }
+
+    public ShortestPath goal(LongPredicate goal) {
+        this.goal = requireNonNull(goal);
+        return this;
+    }
+
+    // A*: the estimate must never overshoot and must not drop by more than an edge weight
+    public ShortestPath heuristic(LongUnaryOperator heuristic) {
+        if (maxWeight > 0) {
+            throw new IllegalStateException("Heuristic search needs the heap queue: maxWeight = " + maxWeight);
+        }
+        this.heuristic = requireNonNull(heuristic);
+        return this;
+    }
+
+    public ShortestPath dense(int states) {
+        if (states <= 0) {
+            throw new IllegalArgumentException("State count must be positive: states = " + states);
+        }
+        this.states = states;
+        return this;
+    }
+
+    public ShortestPath trackPaths() {
+        this.paths = true;
+        return this;
+    }
+
+    public Result run(long... starts) {
+        Store store = states > 0 ? new DenseStore(states, paths) : new SparseStore(paths);
+        LongPriorityQueue queue = maxWeight > 0 ? new BucketQueue(maxWeight) : new LongMinHeap();
+        for (long start : starts) {
+            store.cost(start, 0);
+            queue.push(start, estimate(start));
+        }
+        Relaxation relaxation = new Relaxation(store, queue);
+        while (!queue.isEmpty()) {
+            long state = queue.poll();
+            if (!store.settle(state)) {
+                continue;
+            }
+            if (goal.test(state)) {
+                return new Result(store, state, true);
+            }
+            relaxation.from(state);
+            edges.forEach(state, relaxation);
+        }
+        return new Result(store, 0, false);
+    }
+
+    private long estimate(long state) {
+        return heuristic == null ? 0 : heuristic.applyAsLong(state);
+    }
+
+    private final class Relaxation implements Edge {
+        private final Store store;
+        private final LongPriorityQueue queue;
+        private long source;
+        private long cost;
+
+        Relaxation(Store store, LongPriorityQueue queue) {
+            this.store = store;
+            this.queue = queue;
+        }
+
+        void from(long state) {
+            source = state;
+            cost = store.cost(state);
+        }
+
+        @Override
+        public void accept(long target, long weight) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Edge weight must not be negative: weight = " + weight);
+            }
+            long reached = cost + weight;
+            if (reached < store.cost(target)) {
+                store.cost(target, reached);
+                store.parent(target, source);
+                queue.push(target, reached + estimate(target));
+            }
+        }
+    }
+
+    public static final class Result {
+        private final Store store;
+        private final long goal;
+        private final boolean found;
+
+        private Result(Store store, long goal, boolean found) {
+            this.store = store;
+            this.goal = goal;
+            this.found = found;
+        }
+
+        public boolean found() {
+            return found;
+        }
+
+        public long goal() {
+            if (!found) {
+                throw new NoSuchElementException("Goal was not reached");
+            }
+            return goal;
+        }
+
+        public long cost() {
+            return store.cost(goal());
+        }
+
+        public long cost(long state) {
+            return store.cost(state);
+        }
+
+        public int settled() {
+            return store.settled();
+        }
+
+        public long[] path() {
+            return path(goal());
+        }
+
+        public long[] path(long state) {
+            if (!store.paths()) {
+                throw new IllegalStateException("Paths were not tracked");
+            }
+            if (store.cost(state) == UNREACHED) {
+                throw new NoSuchElementException("State was not reached: state = " + state);
+            }
+            long[] path = new long[16];
+            int length = 0;
+            for (long current = state; ; current = store.parent(current)) {
+                if (length == path.length) {
+                    path = Arrays.copyOf(path, 2 * length);
+                }
+                path[length++] = current;
+                if (!store.hasParent(current)) {
+                    break;
+                }
+            }
+            long[] reversed = new long[length];
+            for (int i = 0; i < length; i++) {
+                reversed[i] = path[length - 1 - i];
+            }
+            return reversed;
+        }
+    }
+
+    private interface Store {
+        long cost(long state);
+
+        void cost(long state, long cost);
+
+        boolean settle(long state);
+
+        int settled();
+
+        boolean paths();
+
+        void parent(long state, long parent);
+
+        boolean hasParent(long state);
+
+        long parent(long state);
+    }
+
+    private static final class DenseStore implements Store {
+        private final long[] costs;
+        private final boolean[] settled;
+        private final int[] parents;
+        private int settledCount;
+
+        DenseStore(int states, boolean paths) {
+            costs = new long[states];
+            Arrays.fill(costs, UNREACHED);
+            settled = new boolean[states];
+            parents = paths ? new int[states] : null;
+            if (paths) {
+                Arrays.fill(parents, -1);
+            }
+        }
+
+        @Override
+        public long cost(long state) {
+            return costs[(int) state];
+        }
+
+        @Override
+        public void cost(long state, long cost) {
+            costs[(int) state] = cost;
+        }
+
+        @Override
+        public boolean settle(long state) {
+            if (settled[(int) state]) {
+                return false;
+            }
+            settledCount++;
+            return settled[(int) state] = true;
+        }
+
+        @Override
+        public int settled() {
+            return settledCount;
+        }
+
+        @Override
+        public boolean paths() {
+            return parents != null;
+        }
+
+        @Override
+        public void parent(long state, long parent) {
+            if (parents != null) {
+                parents[(int) state] = (int) parent;
+            }
+        }
+
+        @Override
+        public boolean hasParent(long state) {
+            return parents[(int) state] >= 0;
+        }
+
+        @Override
+        public long parent(long state) {
+            return parents[(int) state];
+        }
+    }
+
+    private static final class SparseStore implements Store {
+        private final LongLongMap costs = new LongLongMap();
+        private final LongSet settled = new LongSet();
+        private final LongLongMap parents;
+
+        SparseStore(boolean paths) {
+            parents = paths ? new LongLongMap() : null;
+        }
+
+        @Override
+        public long cost(long state) {
+            return costs.getOrDefault(state, UNREACHED);
+        }
+
+        @Override
+        public void cost(long state, long cost) {
+            costs.put(state, cost);
+        }
+
+        @Override
+        public boolean settle(long state) {
+            return settled.add(state);
+        }
+
+        @Override
+        public int settled() {
+            return settled.size();
+        }
+
+        @Override
+        public boolean paths() {
+            return parents != null;
+        }
+
+        @Override
+        public void parent(long state, long parent) {
+            if (parents != null) {
+                parents.put(state, parent);
+            }
+        }
+
+        @Override
+        public boolean hasParent(long state) {
+            return parents.containsKey(state);
+        }
+
+        @Override
+        public long parent(long state) {
+            return parents.get(state);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package util;
+
+import util.VectorAlgebra.Packing;
+import util.VectorAlgebra.R;
+import util.VectorAlgebra.V;
+import util.collections.LongLongMap;
+import util.collections.LongSet;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static java.util.Objects.requireNonNull;
+
+public final class SparseAutomaton {
+    private final Neighbourhood neighbourhood;
+    private final Rule rule;
+    private final LongLongMap counts = new LongLongMap();
+    private LongSet alive = new LongSet();
+    private LongSet spare = new LongSet();
+    private int changed;
+    private long generation;
+
+    public SparseAutomaton(Neighbourhood neighbourhood, Rule rule) {
+        this.neighbourhood = requireNonNull(neighbourhood);
+        this.rule = requireNonNull(rule);
+        if (rule.next(false, 0)) {
+            throw new IllegalArgumentException("Sparse rule must keep isolated cells dead: rule = " + rule);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Rule {
+        boolean next(boolean alive, int neighbours);
+    }
+
+    public record Neighbourhood(long[] offsets) {
+        public static Neighbourhood moore(Packing packing) {
+            long[] low = new long[packing.dim()];
+            Arrays.fill(low, -1);
+            long[] high = new long[packing.dim()];
+            Arrays.fill(high, 1);
+            return new Neighbourhood(LongStream.of(packing.offsets(R.of(V.of(low), V.of(high))))
+                                               .filter(offset -> offset != 0)
+                                               .toArray());
+        }
+
+        public static Neighbourhood vonNeumann(Packing packing) {
+            return new Neighbourhood(LongStream.rangeClosed(1, packing.dim())
+                                               .map(pos -> packing.unit((int) pos))
+                                               .flatMap(unit -> LongStream.of(unit, -unit))
+                                               .toArray());
+        }
+
+        public static Neighbourhood hexAxial(Packing packing) {
+            if (packing.dim() != 2) {
+                throw new IllegalArgumentException("Hex packing must be two dimensional: dim = " + packing.dim());
+            }
+            return new Neighbourhood(new long[]{
+                    packing.offset(1, 0), packing.offset(-1, 0),
+                    packing.offset(0, 1), packing.offset(-1, 1),
+                    packing.offset(0, -1), packing.offset(1, -1)
+            });
+        }
+    }
+
+    public boolean contains(long cell) {
+        return alive.contains(cell);
+    }
+
+    public boolean add(long cell) {
+        return alive.add(cell);
+    }
+
+    public boolean remove(long cell) {
+        return alive.remove(cell);
+    }
+
+    public boolean flip(long cell) {
+        return alive.add(cell) || !alive.remove(cell);
+    }
+
+    public int size() {
+        return alive.size();
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public void forEach(LongConsumer action) {
+        alive.forEach(action);
+    }
+
+    public long[] toArray() {
+        return alive.toArray();
+    }
+
+    public int step() {
+        long[] offsets = neighbourhood.offsets();
+        counts.clear();
+        alive.forEach(cell -> {
+            for (long offset : offsets) {
+                counts.addTo(cell + offset, 1);
+            }
+        });
+
+        spare.clear();
+        changed = 0;
+        counts.forEach((cell, neighbours) -> {
+            boolean was = alive.contains(cell);
+            boolean is = rule.next(was, (int) neighbours);
+            if (is) {
+                spare.add(cell);
+            }
+            if (is != was) {
+                changed++;
+            }
+        });
+        alive.forEach(cell -> {
+            if (!counts.containsKey(cell)) {
+                if (rule.next(true, 0)) {
+                    spare.add(cell);
+                } else {
+                    changed++;
+                }
+            }
+        });
+
+        LongSet previous = alive;
+        alive = spare;
+        spare = previous;
+        generation++;
+        return changed;
+    }
+
+    public void run(int generations) {
+        for (int gen = 0; gen < generations; gen++) {
+            step();
+        }
+    }
+}
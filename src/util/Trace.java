@@ -0,0 +1,109 @@
+package util;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+// -Dtrace=debug enables every category, -Dtrace.CrabCups=trace a single one.
+// Record components are trusted finals, so a disabled static final Trace folds its guards away.
+public record Trace(String category, Level level, Buffer buffer) {
+    private static final Buffer SHARED = new Buffer(Integer.getInteger("trace.buffer", 1 << 16));
+
+    public enum Level {
+        OFF,
+        INFO,
+        DEBUG,
+        TRACE,
+    }
+
+    public Trace {
+        requireNonNull(category);
+        requireNonNull(level);
+        requireNonNull(buffer);
+    }
+
+    public static Trace of(Class<?> owner) {
+        String category = owner.getSimpleName();
+        String level = System.getProperty("trace." + category, System.getProperty("trace", "off"));
+        Trace trace = new Trace(category, Level.valueOf(level.toUpperCase(Locale.ROOT)), SHARED);
+        if (trace.level != Level.OFF) {
+            SHARED.dumpOnExit(System.err);
+        }
+        return trace;
+    }
+
+    public static void dump(PrintStream out) {
+        SHARED.forEach(out::println);
+    }
+
+    public boolean enabled(Level at) {
+        return level != Level.OFF && at.ordinal() <= level.ordinal();
+    }
+
+    public void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    public void trace(Supplier<String> message) {
+        log(Level.TRACE, message);
+    }
+
+    public void log(Level at, Supplier<String> message) {
+        if (enabled(at)) {
+            buffer.add(category + " " + at + ": " + message.get());
+        }
+    }
+
+    // lock-free ring keeping the latest entries, older ones are overwritten
+    public static final class Buffer {
+        private final AtomicReferenceArray<Entry> entries;
+        private final AtomicLong next = new AtomicLong();
+        private final AtomicBoolean hooked = new AtomicBoolean();
+        private final int mask;
+
+        public Buffer(int capacity) {
+            if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+                throw new IllegalArgumentException("Trace buffer capacity must be a power of two: capacity = " + capacity);
+            }
+            this.entries = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        public void add(String message) {
+            long seq = next.getAndIncrement();
+            entries.set((int) (seq & mask), new Entry(seq, message));
+        }
+
+        public long written() {
+            return next.get();
+        }
+
+        public void forEach(Consumer<String> action) {
+            long end = next.get();
+            for (long seq = Math.max(0, end - entries.length()); seq < end; seq++) {
+                Entry entry = entries.get((int) (seq & mask));
+                if (entry != null && entry.seq() == seq) {
+                    action.accept(entry.message());
+                }
+            }
+        }
+
+        private void dumpOnExit(PrintStream out) {
+            if (hooked.compareAndSet(false, true)) {
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> forEach(out::println)));
+            }
+        }
+
+        private record Entry(long seq, String message) {}
+    }
+}
@@ -1,9 +1,13 @@
 package util;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.PrimitiveIterator;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
 import java.util.function.LongPredicate;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
@@ -23,21 +27,13 @@ public class Utils {
     }
 
     public static <A, B, C> Stream<C> zip(Stream<A> streamA, Stream<B> streamB, BiFunction<A, B, C> zipper) {
-        final Iterator<A> iteratorA = streamA.iterator();
-        final Iterator<B> iteratorB = streamB.iterator();
-        final Iterator<C> iteratorC = new Iterator<C>() {
-            @Override
-            public boolean hasNext() {
-                return iteratorA.hasNext() && iteratorB.hasNext();
-            }
-
-            @Override
-            public C next() {
-                return zipper.apply(iteratorA.next(), iteratorB.next());
-            }
-        };
         final boolean parallel = streamA.isParallel() || streamB.isParallel();
-        return iteratorToFiniteStream(iteratorC, parallel);
+        return StreamSupport.stream(new ZipSpliterator<>(streamA.spliterator(), streamB.spliterator(), zipper), parallel);
+    }
+
+    public static <A, B, C> Stream<C> zip(A[] arrayA, B[] arrayB, BiFunction<A, B, C> zipper) {
+        return IntStream.range(0, Math.min(arrayA.length, arrayB.length))
+                        .mapToObj(i -> zipper.apply(arrayA[i], arrayB[i]));
     }
 
     public static <T> Stream<T> iteratorToFiniteStream(Iterator<T> iterator, boolean parallel) {
@@ -46,21 +42,13 @@ public class Utils {
     }
 
     public static <T> Stream<T> zip(LongStream streamA, LongStream streamB, LongBiFunction<T> zipper) {
-        final PrimitiveIterator.OfLong iteratorA = streamA.iterator();
-        final PrimitiveIterator.OfLong iteratorB = streamB.iterator();
-        final Iterator<T> iteratorC = new Iterator<>() {
-            @Override
-            public boolean hasNext() {
-                return iteratorA.hasNext() && iteratorB.hasNext();
-            }
-
-            @Override
-            public T next() {
-                return zipper.apply(iteratorA.next(), iteratorB.next());
-            }
-        };
         final boolean parallel = streamA.isParallel() || streamB.isParallel();
-        return iteratorToFiniteStream(iteratorC, parallel);
+        return StreamSupport.stream(new LongZipSpliterator<>(streamA.spliterator(), streamB.spliterator(), zipper), parallel);
+    }
+
+    public static <T> Stream<T> zip(long[] arrayA, long[] arrayB, LongBiFunction<T> zipper) {
+        return IntStream.range(0, Math.min(arrayA.length, arrayB.length))
+                        .mapToObj(i -> zipper.apply(arrayA[i], arrayB[i]));
     }
 
     public static Stream<String> split(String str) {
@@ -124,6 +112,152 @@ public class Utils {
 
     public record LongPair(long left, long right) {}
 
+    private static final class ZipSpliterator<A, B, C> implements Spliterator<C> {
+        private final Spliterator<A> spliteratorA;
+        private Spliterator<B> spliteratorB;
+        private final BiFunction<A, B, C> zipper;
+        private final Consumer<A> setA = a -> this.a = a;
+        private final Consumer<B> setB = b -> this.b = b;
+        private A a;
+        private B b;
+
+        ZipSpliterator(Spliterator<A> spliteratorA, Spliterator<B> spliteratorB, BiFunction<A, B, C> zipper) {
+            this.spliteratorA = spliteratorA;
+            this.spliteratorB = spliteratorB;
+            this.zipper = zipper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super C> action) {
+            if (spliteratorA.tryAdvance(setA) && spliteratorB.tryAdvance(setB)) {
+                action.accept(zipper.apply(a, b));
+                return true;
+            }
+            return false;
+        }
+
+        // A side that will not split (a sequential pipeline, say) keeps the zip sequential. When both sides split
+        // but to different sizes, the second side's share of the prefix is copied into a list, costing one
+        // reference per element, and its remainder is chained behind a concat spliterator.
+        @Override
+        public Spliterator<C> trySplit() {
+            if (!hasCharacteristics(SUBSIZED)) {
+                return null;
+            }
+            Spliterator<B> prefixB = spliteratorB.trySplit();
+            if (prefixB == null) {
+                return null;
+            }
+            Spliterator<A> prefixA = spliteratorA.trySplit();
+            if (prefixA == null) {
+                spliteratorB = concat(prefixB, spliteratorB);
+                return null;
+            }
+            long size = prefixA.getExactSizeIfKnown();
+            if (prefixB.getExactSizeIfKnown() != size) {
+                prefixB = takeB(prefixB, size);
+            }
+            return new ZipSpliterator<>(prefixA, prefixB, zipper);
+        }
+
+        private Spliterator<B> takeB(Spliterator<B> prefixB, long size) {
+            List<B> taken = new ArrayList<>((int) Math.min(size, estimateSize()));
+            while (taken.size() < size && (prefixB.tryAdvance(taken::add) || spliteratorB.tryAdvance(taken::add))) {
+            }
+            if (prefixB.estimateSize() > 0) {
+                spliteratorB = concat(prefixB, spliteratorB);
+            }
+            return taken.spliterator();
+        }
+
+        private static <T> Spliterator<T> concat(Spliterator<T> first, Spliterator<T> second) {
+            return Stream.concat(StreamSupport.stream(first, false), StreamSupport.stream(second, false)).spliterator();
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.min(spliteratorA.estimateSize(), spliteratorB.estimateSize());
+        }
+
+        @Override
+        public int characteristics() {
+            return spliteratorA.characteristics() & spliteratorB.characteristics() & (ORDERED | SIZED | SUBSIZED);
+        }
+    }
+
+    private static final class LongZipSpliterator<T> implements Spliterator<T> {
+        private final Spliterator.OfLong spliteratorA;
+        private Spliterator.OfLong spliteratorB;
+        private final LongBiFunction<T> zipper;
+        private final LongConsumer setA = a -> this.a = a;
+        private final LongConsumer setB = b -> this.b = b;
+        private long a;
+        private long b;
+
+        LongZipSpliterator(Spliterator.OfLong spliteratorA, Spliterator.OfLong spliteratorB, LongBiFunction<T> zipper) {
+            this.spliteratorA = spliteratorA;
+            this.spliteratorB = spliteratorB;
+            this.zipper = zipper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (spliteratorA.tryAdvance(setA) && spliteratorB.tryAdvance(setB)) {
+                action.accept(zipper.apply(a, b));
+                return true;
+            }
+            return false;
+        }
+
+        // Splits like ZipSpliterator; an uneven split copies the second side's prefix into a primitive buffer.
+        @Override
+        public Spliterator<T> trySplit() {
+            if (!hasCharacteristics(SUBSIZED)) {
+                return null;
+            }
+            Spliterator.OfLong prefixB = spliteratorB.trySplit();
+            if (prefixB == null) {
+                return null;
+            }
+            Spliterator.OfLong prefixA = spliteratorA.trySplit();
+            if (prefixA == null) {
+                spliteratorB = concat(prefixB, spliteratorB);
+                return null;
+            }
+            long size = prefixA.getExactSizeIfKnown();
+            if (prefixB.getExactSizeIfKnown() != size) {
+                prefixB = takeB(prefixB, size);
+            }
+            return new LongZipSpliterator<>(prefixA, prefixB, zipper);
+        }
+
+        private Spliterator.OfLong takeB(Spliterator.OfLong prefixB, long size) {
+            LongStream.Builder taken = LongStream.builder();
+            long count = 0;
+            while (count < size && (prefixB.tryAdvance(taken) || spliteratorB.tryAdvance(taken))) {
+                count++;
+            }
+            if (prefixB.estimateSize() > 0) {
+                spliteratorB = concat(prefixB, spliteratorB);
+            }
+            return taken.build().spliterator();
+        }
+
+        private static Spliterator.OfLong concat(Spliterator.OfLong first, Spliterator.OfLong second) {
+            return LongStream.concat(StreamSupport.longStream(first, false), StreamSupport.longStream(second, false)).spliterator();
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.min(spliteratorA.estimateSize(), spliteratorB.estimateSize());
+        }
+
+        @Override
+        public int characteristics() {
+            return spliteratorA.characteristics() & spliteratorB.characteristics() & (ORDERED | SIZED | SUBSIZED);
+        }
+    }
+
     public record Repeat(int times) {
         public void action(Runnable action) {
             IntStream.range(0, times).forEach(n -> action.run());
@@ -1,16 +1,18 @@
 package util;
 
 import org.junit.jupiter.api.Test;
-import util.Utils.LongIndex;
 
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static util.Utils.zip;
 
 public final class VectorAlgebra {
     record V1(long x) implements V {
@@ -160,15 +162,29 @@ public final class VectorAlgebra {
             return 1;
         }
 
+        @Override
+        public long low(int pos) {
+            return switch (pos) {
+                case 1 -> low;
+                default -> throw invalidCoord(pos, 1);
+            };
+        }
+
+        @Override
+        public long high(int pos) {
+            return switch (pos) {
+                case 1 -> high;
+                default -> throw invalidCoord(pos, 1);
+            };
+        }
+
         @Override
         public Stream<V> members() {
-            return LongStream.generate(LongIndex.from(low))
-                             .takeWhile(LongIndex.until(high))
-                             .mapToObj(V1::new);
+            return StreamSupport.stream(spliterator(), false);
         }
 
-        public R1 product(R1 r2) {
-            return null;
+        public R product(R1 r2) {
+            return R.of(V.of(low, r2.low), V.of(high, r2.high));
         }
     }
 
@@ -189,13 +205,19 @@ public final class VectorAlgebra {
             return low.dim();
         }
 
+        @Override
+        public long low(int pos) {
+            return low.x(pos);
+        }
+
+        @Override
+        public long high(int pos) {
+            return high.x(pos);
+        }
+
         @Override
         public Stream<V> members() {
-            return zip(low.coords(), high.coords(), R::of)
-                            .map(R::membersSupplier)
-                            .reduce((s1,s2) -> () -> s1.get().flatMap(v1 -> s2.get().map(v1::join)))
-                            .map(Supplier::get)
-                            .orElse(Stream.of());
+            return StreamSupport.stream(spliterator(), false);
         }
     }
 
@@ -221,8 +243,31 @@ public final class VectorAlgebra {
     public interface R {
         int dim();
 
+        long low(int pos);
+
+        long high(int pos);
+
         Stream<V> members();
 
+        default Spliterator<V> spliterator() {
+            return new RangeSpliterator(this);
+        }
+
+        default Cursor cursor(Packing packing) {
+            return new Cursor(packing, this);
+        }
+
+        default void forEachPoint(Packing packing, LongConsumer action) {
+            Cursor cursor = cursor(packing);
+            while (cursor.next()) {
+                action.accept(cursor.point());
+            }
+        }
+
+        default void forEachPoint(LongConsumer action) {
+            forEachPoint(Packing.of(dim()), action);
+        }
+
         static R of(V low, V high) {
             return new RN(low, high);
         }
@@ -236,6 +281,273 @@ public final class VectorAlgebra {
         }
     }
 
+    public record Packing(int dim, int bits) {
+        public Packing {
+            if (dim <= 0 || dim > 32) {
+                throw new IllegalArgumentException("Packing dimension must be between 1 and 32: dim = " + dim);
+            }
+            if (bits < 2 || bits * dim > 64) {
+                throw new IllegalArgumentException("Invalid packing: dim = " + dim + ", bits = " + bits);
+            }
+        }
+
+        public static Packing of(int dim) {
+            return new Packing(dim, 64 / dim);
+        }
+
+        public long bias() {
+            return 1L << (bits - 1);
+        }
+
+        public long mask() {
+            return bits == 64 ? -1L : (1L << bits) - 1;
+        }
+
+        public long unit(int pos) {
+            return 1L << shift(pos);
+        }
+
+        public long origin() {
+            long bias = bias();
+            long packed = 0;
+            for (int pos = 1; pos <= dim; pos++) {
+                packed |= bias << shift(pos);
+            }
+            return packed;
+        }
+
+        public long pack(long... x) {
+            if (requireNonNull(x).length != dim) {
+                throw new IllegalArgumentException("Vector dimension must be " + dim + ": dim = " + x.length);
+            }
+            long packed = 0;
+            for (int pos = 1; pos <= dim; pos++) {
+                packed |= field(x[pos - 1], pos);
+            }
+            return packed;
+        }
+
+        public long pack(V v) {
+            if (v.dim() != dim) {
+                throw new IllegalArgumentException("Vector dimension must be " + dim + ": dim = " + v.dim());
+            }
+            long packed = 0;
+            for (int pos = 1; pos <= dim; pos++) {
+                packed |= field(v.x(pos), pos);
+            }
+            return packed;
+        }
+
+        public long x(long packed, int pos) {
+            if (pos <= 0 || pos > dim) {
+                throw invalidCoord(pos, dim);
+            }
+            return ((packed >>> shift(pos)) & mask()) - bias();
+        }
+
+        public V unpack(long packed) {
+            long[] x = new long[dim];
+            for (int pos = 1; pos <= dim; pos++) {
+                x[pos - 1] = x(packed, pos);
+            }
+            return V.of(x);
+        }
+
+        public long offset(long... dx) {
+            if (requireNonNull(dx).length != dim) {
+                throw new IllegalArgumentException("Offset dimension must be " + dim + ": dim = " + dx.length);
+            }
+            long offset = 0;
+            for (int pos = 1; pos <= dim; pos++) {
+                offset += dx[pos - 1] << shift(pos);
+            }
+            return offset;
+        }
+
+        public long[] offsets(R range) {
+            long origin = origin();
+            LongStream.Builder offsets = LongStream.builder();
+            range.forEachPoint(this, point -> offsets.add(point - origin));
+            return offsets.build().toArray();
+        }
+
+        private int shift(int pos) {
+            return (dim - pos) * bits;
+        }
+
+        private long field(long x, int pos) {
+            long bias = bias();
+            if (bits < 64 && (x < -bias || x >= bias)) {
+                throw new IllegalArgumentException("Coord out of packing range: x = " + x + ", bits = " + bits);
+            }
+            return ((x + bias) & mask()) << shift(pos);
+        }
+    }
+
+    public static final class Cursor {
+        private final long[] low;
+        private final long[] high;
+        private final long[] x;
+        private final long[] unit;
+        private final long start;
+        private final boolean empty;
+        private long point;
+        private boolean started;
+
+        Cursor(Packing packing, R range) {
+            int dim = range.dim();
+            if (packing.dim() != dim) {
+                throw new IllegalArgumentException("Packing dimension must be " + dim + ": dim = " + packing.dim());
+            }
+            low = new long[dim];
+            high = new long[dim];
+            x = new long[dim];
+            unit = new long[dim];
+            boolean empty = false;
+            for (int pos = 1; pos <= dim; pos++) {
+                low[pos - 1] = range.low(pos);
+                high[pos - 1] = range.high(pos);
+                unit[pos - 1] = packing.unit(pos);
+                empty |= low[pos - 1] > high[pos - 1];
+            }
+            this.empty = empty;
+            this.start = empty ? 0 : packing.pack(low);
+            reset();
+        }
+
+        public Cursor reset() {
+            System.arraycopy(low, 0, x, 0, low.length);
+            point = start;
+            started = false;
+            return this;
+        }
+
+        public boolean next() {
+            if (!started) {
+                started = true;
+                return !empty;
+            }
+            for (int i = x.length - 1; i >= 0; i--) {
+                if (x[i] < high[i]) {
+                    x[i]++;
+                    point += unit[i];
+                    return true;
+                }
+                point -= (x[i] - low[i]) * unit[i];
+                x[i] = low[i];
+            }
+            point = start;
+            return false;
+        }
+
+        public long point() {
+            return point;
+        }
+
+        public long x(int pos) {
+            checkBounds(pos, x);
+            return x[pos - 1];
+        }
+    }
+
+    static final class RangeSpliterator implements Spliterator<V> {
+        private final long[] low;
+        private final long[] high;
+        private final long[] x;
+        private long remaining;
+
+        RangeSpliterator(R range) {
+            int dim = range.dim();
+            low = new long[dim];
+            high = new long[dim];
+            for (int pos = 1; pos <= dim; pos++) {
+                low[pos - 1] = range.low(pos);
+                high[pos - 1] = range.high(pos);
+            }
+            x = low.clone();
+            remaining = volume(low, high);
+        }
+
+        private RangeSpliterator(long[] low, long[] high) {
+            this.low = low;
+            this.high = high;
+            this.x = low.clone();
+            this.remaining = volume(low, high);
+        }
+
+        private static long volume(long[] low, long[] high) {
+            long volume = 1;
+            for (int i = 0; i < low.length; i++) {
+                if (low[i] > high[i]) {
+                    return 0;
+                }
+                volume = Math.multiplyExact(volume, high[i] - low[i] + 1);
+            }
+            return volume;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super V> action) {
+            if (remaining == 0) {
+                return false;
+            }
+            action.accept(V.of(x.clone()));
+            if (--remaining > 0) {
+                advance();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super V> action) {
+            while (remaining > 0) {
+                action.accept(V.of(x.clone()));
+                if (--remaining > 0) {
+                    advance();
+                }
+            }
+        }
+
+        private void advance() {
+            for (int i = x.length - 1; i >= 0; i--) {
+                if (x[i] < high[i]) {
+                    x[i]++;
+                    return;
+                }
+                x[i] = low[i];
+            }
+        }
+
+        @Override
+        public Spliterator<V> trySplit() {
+            if (remaining < 2 || remaining != volume(low, high)) {
+                return null;
+            }
+            int axis = 0;
+            while (low[axis] == high[axis]) {
+                axis++;
+            }
+            long mid = low[axis] + (high[axis] - low[axis]) / 2;
+            long[] prefixHigh = high.clone();
+            prefixHigh[axis] = mid;
+            RangeSpliterator prefix = new RangeSpliterator(low.clone(), prefixHigh);
+            low[axis] = mid + 1;
+            x[axis] = mid + 1;
+            remaining = volume(low, high);
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
     private static long coord(int pos, long[] x) {
         checkBounds(pos, x);
         return x[pos - 1];
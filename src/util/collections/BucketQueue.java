@@ -0,0 +1,63 @@
+package util.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Dial's queue: priorities never drop below the last polled one and lie within maxWeight of it
+public final class BucketQueue implements LongPriorityQueue {
+    private final long[][] buckets;
+    private final int[] sizes;
+    private long current;
+    private int size;
+
+    public BucketQueue(int maxWeight) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Max weight must be positive: maxWeight = " + maxWeight);
+        }
+        buckets = new long[maxWeight + 1][8];
+        sizes = new int[maxWeight + 1];
+    }
+
+    @Override
+    public void push(long value, long priority) {
+        if (priority < current || priority - current >= buckets.length) {
+            throw new IllegalArgumentException("Priority must be within " + (buckets.length - 1) + " of " + current + ": priority = " + priority);
+        }
+        int bucket = (int) (priority % buckets.length);
+        if (sizes[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], 2 * sizes[bucket]);
+        }
+        buckets[bucket][sizes[bucket]++] = value;
+        size++;
+    }
+
+    @Override
+    public long peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+        while (sizes[(int) (current % buckets.length)] == 0) {
+            current++;
+        }
+        return current;
+    }
+
+    @Override
+    public long poll() {
+        int bucket = (int) (peekPriority() % buckets.length);
+        size--;
+        return buckets[bucket][--sizes[bucket]];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(sizes, 0);
+        size = 0;
+        current = 0;
+    }
+}
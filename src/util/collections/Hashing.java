@@ -0,0 +1,39 @@
+package util.collections;
+
+final class Hashing {
+    private static final int MIN_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Hashing() {
+    }
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    static int capacity(int expectedSize, float loadFactor) {
+        long required = (long) Math.ceil(expectedSize / (double) loadFactor) + 1;
+        if (required > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size is too large: " + expectedSize);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) required - 1) << 1);
+    }
+
+    static int resizeAt(int capacity, float loadFactor) {
+        return Math.min(capacity - 1, (int) Math.ceil(capacity * loadFactor));
+    }
+
+    static int grow(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Hash table is full: capacity = " + capacity);
+        }
+        return capacity << 1;
+    }
+}
@@ -0,0 +1,129 @@
+package util.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public final class IntArrayList {
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(10);
+    }
+
+    public IntArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        elements = new int[capacity];
+    }
+
+    public static IntArrayList of(int... values) {
+        IntArrayList list = new IntArrayList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public void addAll(int... values) {
+        if (size + values.length > elements.length) {
+            grow(size + values.length);
+        }
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    public int get(int index) {
+        return elements[Objects.checkIndex(index, size)];
+    }
+
+    public void set(int index, int value) {
+        elements[Objects.checkIndex(index, size)] = value;
+    }
+
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return elements[--size];
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, elements.length + (elements.length >> 1) + 1);
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof IntArrayList other
+                && Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + elements[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return stream().mapToObj(Integer::toString)
+                       .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,200 @@
+package util.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+public final class IntIntMap {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int assigned;
+    private int resizeAt;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public IntIntMap() {
+        this(8);
+    }
+
+    public IntIntMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        allocate(Hashing.capacity(expectedSize, LOAD_FACTOR));
+    }
+
+    public int get(int key) {
+        if (key == 0) {
+            if (hasZeroKey) {
+                return zeroValue;
+            }
+        } else {
+            int slot = slot(key);
+            if (slot >= 0) {
+                return values[slot];
+            }
+        }
+        throw new NoSuchElementException("Key not found: " + key);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int slot = slot(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : slot(key) >= 0;
+    }
+
+    public void put(int key, int value) {
+        if (key == 0) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int slot = slot(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(-slot - 1, key, value);
+        }
+    }
+
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            zeroValue = hasZeroKey ? zeroValue + delta : delta;
+            hasZeroKey = true;
+            return zeroValue;
+        }
+        int slot = slot(key);
+        if (slot >= 0) {
+            return values[slot] += delta;
+        }
+        insert(-slot - 1, key, delta);
+        return delta;
+    }
+
+    public boolean remove(int key) {
+        if (key == 0) {
+            boolean removed = hasZeroKey;
+            hasZeroKey = false;
+            zeroValue = 0;
+            return removed;
+        }
+        int slot = slot(key);
+        if (slot < 0) {
+            return false;
+        }
+        shiftConflictingKeys(slot);
+        assigned--;
+        return true;
+    }
+
+    public int size() {
+        return assigned + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        assigned = 0;
+        hasZeroKey = false;
+        zeroValue = 0;
+    }
+
+    public void forEach(IntIntConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface IntIntConsumer {
+        void accept(int key, int value);
+    }
+
+    private int slot(int key) {
+        int slot = Hashing.mix(key) & mask;
+        int existing;
+        while ((existing = keys[slot]) != 0) {
+            if (existing == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    private void insert(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++assigned >= resizeAt) {
+            rehash(Hashing.grow(keys.length));
+        }
+    }
+
+    private void shiftConflictingKeys(int gap) {
+        int distance = 0;
+        while (true) {
+            int slot = (gap + ++distance) & mask;
+            int existing = keys[slot];
+            if (existing == 0) {
+                break;
+            }
+            int shift = (slot - Hashing.mix(existing)) & mask;
+            if (shift >= distance) {
+                keys[gap] = existing;
+                values[gap] = values[slot];
+                gap = slot;
+                distance = 0;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = Hashing.resizeAt(capacity, LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int slot = Hashing.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach((key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package util.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public final class LongMinHeap implements LongPriorityQueue {
+    private long[] priorities;
+    private long[] values;
+    private int size;
+
+    public LongMinHeap() {
+        this(16);
+    }
+
+    public LongMinHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        priorities = new long[Math.max(capacity, 1)];
+        values = new long[priorities.length];
+    }
+
+    @Override
+    public void push(long value, long priority) {
+        if (size == priorities.length) {
+            int capacity = size + (size >> 1) + 1;
+            priorities = Arrays.copyOf(priorities, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        int pos = size++;
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            priorities[pos] = priorities[parent];
+            values[pos] = values[parent];
+            pos = parent;
+        }
+        priorities[pos] = priority;
+        values[pos] = value;
+    }
+
+    @Override
+    public long peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return priorities[0];
+    }
+
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return values[0];
+    }
+
+    @Override
+    public long poll() {
+        long top = peek();
+        long priority = priorities[--size];
+        long value = values[size];
+        int pos = 0;
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && priorities[child + 1] < priorities[child]) {
+                child++;
+            }
+            if (priority <= priorities[child]) {
+                break;
+            }
+            priorities[pos] = priorities[child];
+            values[pos] = values[child];
+            pos = child;
+        }
+        priorities[pos] = priority;
+        values[pos] = value;
+        return top;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,17 @@
+package util.collections;
+
+public interface LongPriorityQueue {
+    void push(long value, long priority);
+
+    long peekPriority();
+
+    long poll();
+
+    int size();
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    void clear();
+}
@@ -0,0 +1,197 @@
+package util.collections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+public final class LongSet {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private int mask;
+    private int assigned;
+    private int resizeAt;
+
+    private boolean hasZeroKey;
+
+    public LongSet() {
+        this(8);
+    }
+
+    public LongSet(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        allocate(Hashing.capacity(expectedSize, LOAD_FACTOR));
+    }
+
+    public static LongSet of(long... keys) {
+        LongSet set = new LongSet(keys.length);
+        for (long key : keys) {
+            set.add(key);
+        }
+        return set;
+    }
+
+    public boolean contains(long key) {
+        return key == 0 ? hasZeroKey : slot(key) >= 0;
+    }
+
+    public boolean add(long key) {
+        if (key == 0) {
+            boolean added = !hasZeroKey;
+            hasZeroKey = true;
+            return added;
+        }
+        int slot = slot(key);
+        if (slot >= 0) {
+            return false;
+        }
+        keys[-slot - 1] = key;
+        if (++assigned >= resizeAt) {
+            rehash(Hashing.grow(keys.length));
+        }
+        return true;
+    }
+
+    public boolean remove(long key) {
+        if (key == 0) {
+            boolean removed = hasZeroKey;
+            hasZeroKey = false;
+            return removed;
+        }
+        int slot = slot(key);
+        if (slot < 0) {
+            return false;
+        }
+        shiftConflictingKeys(slot);
+        assigned--;
+        return true;
+    }
+
+    public int size() {
+        return assigned + (hasZeroKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        assigned = 0;
+        hasZeroKey = false;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (hasZeroKey) {
+            action.accept(0);
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public long[] toArray() {
+        long[] array = new long[size()];
+        int i = 0;
+        if (hasZeroKey) {
+            array[i++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                array[i++] = key;
+            }
+        }
+        return array;
+    }
+
+    public LongStream stream() {
+        return LongStream.of(toArray());
+    }
+
+    private int slot(long key) {
+        int slot = Hashing.mix(key) & mask;
+        long existing;
+        while ((existing = keys[slot]) != 0) {
+            if (existing == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    private void shiftConflictingKeys(int gap) {
+        int distance = 0;
+        while (true) {
+            int slot = (gap + ++distance) & mask;
+            long existing = keys[slot];
+            if (existing == 0) {
+                break;
+            }
+            int shift = (slot - Hashing.mix(existing)) & mask;
+            if (shift >= distance) {
+                keys[gap] = existing;
+                gap = slot;
+                distance = 0;
+            }
+        }
+        keys[gap] = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = Hashing.resizeAt(capacity, LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        allocate(capacity);
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int slot = Hashing.mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongSet other) || size() != other.size() || hasZeroKey != other.hasZeroKey) {
+            return false;
+        }
+        for (long key : keys) {
+            if (key != 0 && !other.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (long key : keys) {
+            hash += Long.hashCode(key);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return stream().sorted()
+                       .mapToObj(Long::toString)
+                       .collect(Collectors.joining(", ", "{", "}"));
+    }
+}
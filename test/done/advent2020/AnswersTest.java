@@ -0,0 +1,154 @@
+package done.advent2020;
+
+import org.junit.jupiter.api.Test;
+import util.Budget;
+
+import static util.Answers.assertPrints;
+
+public class AnswersTest {
+    private static final String[] NO_ARGS = {};
+
+    @Test
+    public void testAdapterArray() {
+        assertPrints(Budget.of(1_000, 16), AdapterArray.class, () -> AdapterArray.main(NO_ARGS),
+                     "Result: 12089663946752");
+    }
+
+    @Test
+    public void testAllergenAssesment() {
+        assertPrints(Budget.of(1_000, 16), AllergenAssesment.class, () -> AllergenAssesment.main(NO_ARGS),
+                     "Result: 1829", "mxkh,gkcqxs,bvh,sp,rgc,krjn,bpbdlmg,tdbcfb");
+    }
+
+    @Test
+    public void testComboBreaker() {
+        assertPrints(Budget.of(3_000, 16), ComboBreaker.class, () -> ComboBreaker.main(NO_ARGS),
+                     "Card's encryption key: 12285001");
+    }
+
+    @Test
+    public void testConwayCubes() {
+        assertPrints(Budget.of(1_000, 16), ConwayCubes.class, () -> ConwayCubes.main(NO_ARGS),
+                     "Result: 2236");
+    }
+
+    @Test
+    public void testCrabCombat() {
+        assertPrints(Budget.of(6_000, 2_500), CrabCombat.class, () -> CrabCombat.main(NO_ARGS),
+                     "Result: 34771");
+    }
+
+    @Test
+    public void testCrabCups() {
+        assertPrints(Budget.of(30_000, 64), CrabCups.class, () -> CrabCups.main(NO_ARGS),
+                     "final: 934001 * 159792 = 149245887792");
+    }
+
+    @Test
+    public void testCustomCustoms() {
+        assertPrints(Budget.of(1_000, 16), CustomCustoms.class, () -> CustomCustoms.main(NO_ARGS),
+                     "Result: 3435");
+    }
+
+    @Test
+    public void testDockingData() {
+        assertPrints(Budget.of(2_000, 160), DockingData.class, () -> DockingData.main(NO_ARGS),
+                     "Result: 3974538275659");
+    }
+
+    @Test
+    public void testEncodingError() {
+        assertPrints(Budget.of(1_000, 16), EncodingError.class, () -> EncodingError.main(NO_ARGS),
+                     "Result: 28509180");
+    }
+
+    @Test
+    public void testHandyHaversacks() {
+        assertPrints(Budget.of(1_000, 16), HandyHaversacks.class, () -> HandyHaversacks.main(NO_ARGS),
+                     "Result: 1488");
+    }
+
+    @Test
+    public void testInfiniteLoop() {
+        assertPrints(Budget.of(1_000, 16), InfiniteLoop.class, () -> InfiniteLoop.main(NO_ARGS),
+                     "Result: 1260");
+    }
+
+    @Test
+    public void testJurassicJigsaw() {
+        assertPrints(Budget.of(1_000, 16), JurassicJigsaw.class, () -> JurassicJigsaw.main(NO_ARGS),
+                     "Result: 1993");
+    }
+
+    @Test
+    public void testLobbyLayout() {
+        assertPrints(Budget.of(1_000, 16), LobbyLayout.class, () -> LobbyLayout.main(NO_ARGS),
+                     "Result: 3627");
+    }
+
+    @Test
+    public void testMonsterMessage() {
+        assertPrints(Budget.of(3_000, 256), MonsterMessage.class, () -> MonsterMessage.main(NO_ARGS),
+                     "Result: 372");
+    }
+
+    @Test
+    public void testOperationOrder() {
+        assertPrints(Budget.of(1_000, 16), OperationOrder.class, () -> OperationOrder.main(NO_ARGS),
+                     "Result: 43423343619505");
+    }
+
+    @Test
+    public void testPassports() {
+        assertPrints(Budget.of(1_000, 16), Passports.class, () -> Passports.main(NO_ARGS),
+                     "Result: 150");
+    }
+
+    @Test
+    public void testPasswordPolicy() {
+        assertPrints(Budget.of(1_000, 16), PasswordPolicy.class, () -> PasswordPolicy.main(NO_ARGS),
+                     "Result: 335");
+    }
+
+    @Test
+    public void testRainRisk() {
+        assertPrints(Budget.of(1_000, 16), RainRisk.class, () -> RainRisk.main(NO_ARGS),
+                     "Result: 41212");
+    }
+
+    @Test
+    public void testRambuctiousRecitation() {
+        assertPrints(Budget.of(12_000, 512), RambuctiousRecitation.class, () -> RambuctiousRecitation.main(NO_ARGS),
+                     "Result: 1505722");
+    }
+
+    @Test
+    public void testSeatID() {
+        assertPrints(Budget.of(1_000, 16), SeatID.class, () -> SeatID.main(NO_ARGS),
+                     "Result: 717");
+    }
+
+    @Test
+    public void testSeatingSystem() {
+        assertPrints(Budget.of(1_000, 16), SeatingSystem.class, () -> SeatingSystem.main(NO_ARGS),
+                     "Result: 2285");
+    }
+
+    @Test
+    public void testShuttleSearch() {
+        assertPrints(Budget.of(1_000, 16), ShuttleSearch.class, () -> ShuttleSearch.main(NO_ARGS),
+                     "Result: 741745043105674");
+    }
+
+    @Test
+    public void testSum2020() {
+        assertPrints(Budget.of(1_000, 16), Sum2020.class, () -> Sum2020.main(NO_ARGS),
+                     "Result: 92643264");
+    }
+
+    @Test
+    public void testTrees() {
+        assertPrints(Budget.of(1_000, 16), Trees.class, () -> Trees.main(NO_ARGS),
+                     "Result: 1478615040");
+    }
+}
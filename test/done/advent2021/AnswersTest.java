@@ -0,0 +1,102 @@
+package done.advent2021;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import util.Budget;
+
+import static util.Answers.assertPrints;
+
+public class AnswersTest {
+    private static final String[] NO_ARGS = {};
+
+    @Test
+    public void testAmphipod() {
+        assertPrints(Budget.of(2_000, 32), Amphipod.class, () -> Amphipod.main(NO_ARGS),
+                     "Result: 50190");
+    }
+
+    @Test
+    public void testArithmeticLogicUnit() {
+        assertPrints(Budget.of(40_000, 8_192), ArithmeticLogicUnit.class, () -> ArithmeticLogicUnit.main(NO_ARGS),
+                     "27141191213911", "99691891979938");
+    }
+
+    @Test
+    @Tag("slow")
+    public void testBeaconScanner() {
+        assertPrints(Budget.of(400_000, 120_000), BeaconScanner.class, () -> BeaconScanner.main(NO_ARGS),
+                     "Result: 400", "Result2: 12168");
+    }
+
+    @Test
+    public void testChiton() {
+        assertPrints(Budget.of(1_000, 16), Chiton.class, () -> Chiton.main(NO_ARGS),
+                     "Result: 2800");
+    }
+
+    @Test
+    public void testDiracDice() {
+        assertPrints(Budget.of(1_000, 16), DiracDice.class, () -> DiracDice.main(NO_ARGS),
+                     "Result: 921585", "Result2: 911090395997650");
+    }
+
+    @Test
+    public void testExtendedPolymerization() {
+        assertPrints(Budget.of(1_000, 16), ExtendedPolymerization.class, () -> ExtendedPolymerization.main(NO_ARGS),
+                     "Result: 2984946368465");
+    }
+
+    @Test
+    public void testGientSquid() {
+        assertPrints(Budget.of(1_000, 128), GientSquid.class, () -> GientSquid.main(NO_ARGS),
+                     "Result: 9020");
+    }
+
+    @Test
+    public void testPacketDecoder() {
+        assertPrints(Budget.of(1_000, 16), PacketDecoder.class, () -> PacketDecoder.main(NO_ARGS),
+                     "Result: 158135423448");
+    }
+
+    @Test
+    public void testPassagePathing() {
+        assertPrints(Budget.of(1_000, 16), PassagePathing.class, () -> PassagePathing.main(NO_ARGS),
+                     "Result: 4378", "Result2: 133621");
+    }
+
+    @Test
+    public void testReactorReboot() {
+        assertPrints(Budget.of(3_000, 384), ReactorReboot.class, () -> ReactorReboot.main(NO_ARGS),
+                     "Result: 1263804707062415");
+    }
+
+    @Test
+    public void testSeaCucumber() {
+        assertPrints(Budget.of(3_000, 160), SeaCucumber.class, () -> SeaCucumber.main(NO_ARGS),
+                     "Result: 509");
+    }
+
+    @Test
+    public void testSnailfish() {
+        assertPrints(Budget.of(2_000, 64), Snailfish.class, () -> Snailfish.main(NO_ARGS),
+                     "Result 1: 4184", "Result 2: 2891");
+    }
+
+    @Test
+    public void testTransparentOrigami() {
+        assertPrints(Budget.of(1_000, 16), TransparentOrigami.class, () -> TransparentOrigami.main(NO_ARGS),
+                     "Result: 93");
+    }
+
+    @Test
+    public void testTrenchMap() {
+        assertPrints(Budget.of(2_000, 16), TrenchMap.class, () -> TrenchMap.main(NO_ARGS),
+                     "Result: 16605");
+    }
+
+    @Test
+    public void testTrickShot() {
+        assertPrints(Budget.of(1_000, 48), TrickShot.class, () -> TrickShot.main(NO_ARGS),
+                     "Result: 3773");
+    }
+}
@@ -0,0 +1,80 @@
+package done.advent2022;
+
+import org.junit.jupiter.api.Test;
+import util.Budget;
+
+import static java.lang.System.lineSeparator;
+import static util.Answers.assertAnswers;
+import static util.Answers.assertPrints;
+
+public class AnswersTest {
+    private static final String[] NO_ARGS = {};
+
+    @Test
+    public void testBeaconExclusionZone() {
+        assertAnswers(Budget.of(2_000, 16), new BeaconExclusionZone(), 4582667L, 10961118625406L);
+    }
+
+    @Test
+    public void testCampCleanup() {
+        assertAnswers(Budget.of(1_000, 16), new CampCleanup(), 518L, 909L);
+    }
+
+    @Test
+    public void testCathodeRayTube() {
+        assertAnswers(Budget.of(1_000, 16), new CathodeRayTube(), 15880,
+                      String.join(lineSeparator(),
+                                  "###..#.....##..####.#..#..##..####..##..",
+                                  "#..#.#....#..#.#....#.#..#..#....#.#..#.",
+                                  "#..#.#....#....###..##...#..#...#..#....",
+                                  "###..#....#.##.#....#.#..####..#...#.##.",
+                                  "#....#....#..#.#....#.#..#..#.#....#..#.",
+                                  "#....####..###.#....#..#.#..#.####..###."));
+    }
+
+    @Test
+    public void testHillClimbingAlgorithm() {
+        assertAnswers(Budget.of(1_000, 16), new HillClimbingAlgorithm(), 456, 454);
+    }
+
+    @Test
+    public void testMonkeyInTheMiddle() {
+        assertPrints(Budget.of(2_000, 160), MonkeyInTheMiddle.class, () -> MonkeyInTheMiddle.main(NO_ARGS),
+                     "Result: 14561971968");
+    }
+
+    @Test
+    public void testMonkeyMath() {
+        assertPrints(Budget.of(1_000, 16), MonkeyMath.class, () -> MonkeyMath.main(NO_ARGS),
+                     "Result2: 3343167719435");
+    }
+
+    @Test
+    public void testPyroclasticFlow() {
+        assertAnswers(Budget.of(1_000, 48), new PyroclasticFlow(), 3151L, 1560919540245L);
+    }
+
+    @Test
+    public void testRegolithReservoir() {
+        assertPrints(Budget.of(2_000, 640), RegolithReservoir.class, () -> RegolithReservoir.main(NO_ARGS),
+                     "Result: 29044");
+    }
+
+    @Test
+    public void testRopeBridge() {
+        assertPrints(Budget.of(1_000, 16), RopeBridge.class, () -> RopeBridge.main(NO_ARGS),
+                     "Result: 2602");
+    }
+
+    @Test
+    public void testSupplyStacks() {
+        assertPrints(Budget.of(1_000, 16), SupplyStacks.class, () -> SupplyStacks.main(NO_ARGS),
+                     "Result: CDTQZHBRS");
+    }
+
+    @Test
+    public void testTreetopTreeHouse() {
+        assertPrints(Budget.of(1_000, 16), TreetopTreeHouse.class, () -> TreetopTreeHouse.main(NO_ARGS),
+                     "Result: 21", "Result2: 8");
+    }
+}
@@ -0,0 +1,80 @@
+package done.advent2022;
+
+import done.advent2022.BeaconExclusionZone.Beacons;
+import done.advent2022.BeaconExclusionZone.Coverage;
+import done.advent2022.BeaconExclusionZone.Point;
+import done.advent2022.BeaconExclusionZone.Sensor;
+import org.junit.jupiter.api.Test;
+import util.LineSource;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static done.advent2022.BeaconExclusionZone.INPUT1;
+import static done.advent2022.BeaconExclusionZone.TARGET_ROW1;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeaconExclusionZoneTest {
+
+    @Test
+    public void testDistressBeacon() {
+        Beacons example = beacons(INPUT1);
+        assertEquals(Optional.of(new Point(14, 11)), example.distressBeacon(0, 20));
+        assertEquals(Optional.of(new Point(14, 11)), example.coverage().sweep(0, 20));
+        assertEquals(26, example.ranges(TARGET_ROW1).rangesSize() - 1);
+
+        // a corner point is bounded by the square, not by two sensors, so only the sweep finds it
+        Beacons corner = beacons("""
+                Sensor at x=5, y=5: closest beacon is at x=5, y=14
+                Sensor at x=10, y=10: closest beacon is at x=10, y=11
+                Sensor at x=0, y=10: closest beacon is at x=0, y=11
+                Sensor at x=10, y=0: closest beacon is at x=11, y=0
+                """);
+        assertEquals(Optional.empty(), corner.coverage().perimeterSearch(0, 10));
+        assertEquals(Optional.of(new Point(0, 0)), corner.distressBeacon(0, 10));
+        assertEquals(Optional.empty(), corner.distressBeacon(1, 10));
+    }
+
+    @Test
+    public void testDistressBeaconAgainstBruteForce() {
+        Random random = new Random(15);
+        for (int round = 0; round < 2_000; round++) {
+            Beacons beacons = new Beacons();
+            for (int i = random.nextInt(1, 12); i > 0; i--) {
+                Point sensor = new Point(random.nextInt(-5, 26), random.nextInt(-5, 26));
+                Point beacon = new Point(sensor.x() + random.nextInt(-8, 9), sensor.y() + random.nextInt(-8, 9));
+                beacons.addSensor(new Sensor(sensor, beacon));
+            }
+            Coverage coverage = beacons.coverage();
+            boolean uncovered = IntStream.rangeClosed(0, 20)
+                                         .anyMatch(y -> IntStream.rangeClosed(0, 20).anyMatch(x -> !coverage.covers(x, y)));
+            Optional<Point> found = beacons.distressBeacon(0, 20);
+            assertEquals(uncovered, found.isPresent());
+            found.ifPresent(p -> {
+                assertTrue(p.x() >= 0 && p.x() <= 20 && p.y() >= 0 && p.y() <= 20);
+                assertFalse(coverage.covers(p.x(), p.y()));
+            });
+        }
+    }
+
+    @Test
+    public void testCoveredRows() {
+        Coverage coverage = beacons(INPUT1).coverage();
+        int[] rows = IntStream.range(0, 4_096).map(i -> i % 50 - 15).toArray();
+        long[] expected = IntStream.of(rows)
+                                   .mapToLong(y -> LongStream.rangeClosed(-50, 50).filter(x -> coverage.covers(x, y)).count())
+                                   .toArray();
+        assertArrayEquals(expected, coverage.covered(rows));
+        assertArrayEquals(Arrays.copyOf(expected, 50), coverage.covered(Arrays.copyOf(rows, 50)));
+    }
+
+    private static Beacons beacons(String input) {
+        return new BeaconExclusionZone().parse(LineSource.of(input));
+    }
+}
@@ -0,0 +1,50 @@
+package done.advent2022;
+
+import done.advent2022.CathodeRayTube.Command;
+import done.advent2022.CathodeRayTube.Timeline;
+import org.junit.jupiter.api.Test;
+import util.LineSource;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static done.advent2022.CathodeRayTube.INPUT1;
+import static done.advent2022.CathodeRayTube.INPUT2;
+import static java.lang.System.lineSeparator;
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CathodeRayTubeTest {
+
+    @Test
+    public void test() {
+        CathodeRayTube puzzle = new CathodeRayTube();
+        Timeline small = Timeline.compile(puzzle.parse(LineSource.of(INPUT1)));
+        assertEquals(5, small.cycles());
+        assertArrayEquals(new int[]{1, 1, 1, 4, 4}, IntStream.rangeClosed(1, 5).map(small::x).toArray());
+        assertEquals(-1, small.finalX());
+
+        Command[] program = puzzle.parse(LineSource.of(INPUT2));
+        assertEquals(13140, (int) puzzle.part1(program));
+        assertEquals(String.join(lineSeparator(),
+                                 "##..##..##..##..##..##..##..##..##..##..",
+                                 "###...###...###...###...###...###...###.",
+                                 "####....####....####....####....####....",
+                                 "#####.....#####.....#####.....#####.....",
+                                 "######......######......######......####",
+                                 "#######.......#######.......#######....."),
+                     puzzle.part2(program));
+
+        String[] narrow = Timeline.compile(program).render(7).split(lineSeparator());
+        assertEquals(35, narrow.length);
+        assertEquals(2, narrow[34].length());
+
+        Command[] longer = Stream.generate(() -> program).limit(10).flatMap(Stream::of).toArray(Command[]::new);
+        Timeline timeline = Timeline.compile(longer);
+        assertEquals(IntStream.rangeClosed(1, timeline.cycles())
+                              .mapToObj(cycle -> Math.abs(timeline.x(cycle)) <= 1 ? "#" : ".")
+                              .collect(joining(lineSeparator())),
+                     timeline.render(1));
+    }
+}
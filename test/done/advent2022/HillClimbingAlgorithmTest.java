@@ -0,0 +1,35 @@
+package done.advent2022;
+
+import done.advent2022.HillClimbingAlgorithm.HeightMap;
+import org.junit.jupiter.api.Test;
+import util.LineSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static done.advent2022.HillClimbingAlgorithm.INPUT1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HillClimbingAlgorithmTest {
+
+    @Test
+    public void test() {
+        HillClimbingAlgorithm puzzle = new HillClimbingAlgorithm();
+        HeightMap map = puzzle.parse(LineSource.of(INPUT1));
+        int[] distances = map.distances();
+        assertEquals(31, distances[map.start()]);
+        assertEquals(29, map.fromBottom(distances));
+        assertEquals(31, (int) puzzle.part1(map));
+        int[] route = map.route(distances, map.start());
+        assertEquals(32, route.length);
+        assertEquals(map.end(), route[route.length - 1]);
+
+        LineSource example = LineSource.of(INPUT1);
+        List<Integer> answers = Stream.of(example, puzzle.input(), example, puzzle.input())
+                                      .parallel()
+                                      .map(puzzle::parse)
+                                      .map(puzzle::part2)
+                                      .toList();
+        assertEquals(List.of(29, 454, 29, 454), answers);
+    }
+}
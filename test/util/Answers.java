@@ -0,0 +1,42 @@
+package util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class Answers {
+    private Answers() {
+    }
+
+    public static <T> void assertAnswers(Budget budget, Puzzle<T> puzzle, Object part1, Object part2) {
+        LineSource input = puzzle.input();
+        List<Object> answers = budget.check(puzzle.name(), () -> List.of(puzzle.part1(puzzle.parse(input)),
+                                                                       puzzle.part2(puzzle.parse(input))));
+        assertEquals(part1, answers.get(0));
+        assertEquals(part2, answers.get(1));
+    }
+
+    // solvers without a Puzzle implementation only report their answers from main
+    public static void assertPrints(Budget budget, Class<?> solver, Runnable main, String... lines) {
+        List<String> printed = budget.check(solver.getSimpleName(), () -> capture(main)).lines().toList();
+        for (String line : lines) {
+            assertTrue(printed.contains(line), solver.getSimpleName() + " did not print: " + line);
+        }
+    }
+
+    private static String capture(Runnable action) {
+        PrintStream out = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer, true, UTF_8));
+        try {
+            action.run();
+        } finally {
+            System.setOut(out);
+        }
+        return buffer.toString(UTF_8);
+    }
+}
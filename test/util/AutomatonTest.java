@@ -0,0 +1,49 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AutomatonTest {
+
+    @Test
+    public void test() {
+        Automaton.Rule life = (grid, idx) -> {
+            int alive = 0;
+            for (int dir = 0; dir < Grid2D.DIRECTIONS; dir++) {
+                int neighbour = grid.neighbour(idx, dir);
+                if (neighbour >= 0 && grid.get(neighbour) == '#') {
+                    alive++;
+                }
+            }
+            return alive == 3 || alive == 2 && grid.get(idx) == '#' ? (byte) '#' : (byte) '.';
+        };
+
+        List<String> glider = List.of(".#......", "..#.....", "###.....", "........", "........", "........");
+        Grid2D torus = Grid2D.toroidal(8, 6).load(glider);
+        Automaton automaton = Automaton.of(torus.copy(), life);
+        automaton.run(4);
+        assertEquals('#', automaton.grid().get(3, 3));
+        assertEquals(5, automaton.grid().count((byte) '#'));
+        automaton.run(4 * 24 - 4);
+        assertEquals(torus, automaton.grid());
+        assertEquals(96, automaton.generation());
+
+        Random random = new Random(42);
+        Grid2D soup = Grid2D.of(200, 150);
+        soup.forEach(idx -> soup.set(idx, random.nextInt(3) == 0 ? (byte) '#' : (byte) '.'));
+        Automaton full = Automaton.of(soup.copy(), life).frontier(false);
+        Automaton frontier = Automaton.of(soup.copy(), life);
+        Automaton parallel = Automaton.of(soup.copy(), life).parallel(true);
+        for (int gen = 0; gen < 40; gen++) {
+            int changed = full.step();
+            assertEquals(changed, frontier.step());
+            assertEquals(changed, parallel.step());
+        }
+        assertEquals(full.grid(), frontier.grid());
+        assertEquals(full.grid(), parallel.grid());
+    }
+}
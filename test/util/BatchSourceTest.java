@@ -0,0 +1,32 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchSourceTest {
+
+    @Test
+    public void test() {
+        assertEquals(List.of("a b", "c"), BatchSource.batchLines("a\nb\n\nc\n").toList());
+        assertEquals(List.of("a;b", "c"), BatchSource.batch("a\r\nb\r\n \r\nc").withDelimiter(';').lines().toList());
+        assertEquals(List.of("a"), BatchSource.batchLines("a\n\n\nb\n").toList());
+        assertEquals(List.of(), BatchSource.batchLines("\na\n").toList());
+
+        Random random = new Random(7);
+        String[] lines = {"x", "y z", "w", "v", "u", "", " "};
+        for (int round = 0; round < 500; round++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = random.nextInt(200); i > 0; i--) {
+                text.append(lines[random.nextInt(lines.length)]).append('\n');
+            }
+            List<String> expected = BatchSupplier.batchLines(new Scanner(text.toString())).toList();
+            assertEquals(expected, BatchSource.batchLines(text.toString()).toList());
+            assertEquals(expected, BatchSource.batchLines(text.toString()).parallel().toList());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+import util.VectorAlgebra.R;
+import util.VectorAlgebra.V;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoxSetTest {
+
+    @Test
+    public void test() {
+        BoxSet boxes = new BoxSet(3)
+                .add(R.of(V.of(10, 10, 10), V.of(12, 12, 12)))
+                .add(R.of(V.of(11, 11, 11), V.of(13, 13, 13)))
+                .remove(R.of(V.of(9, 9, 9), V.of(11, 11, 11)))
+                .add(R.of(V.of(10, 10, 10), V.of(10, 10, 10)));
+        assertEquals(39, boxes.volume());
+        assertTrue(boxes.contains(V.of(10, 10, 10)));
+        assertFalse(boxes.contains(V.of(11, 11, 11)));
+        assertEquals(8, boxes.intersect(R.of(V.of(12, 12, 12), V.of(20, 20, 20))).volume());
+
+        boxes.remove(R.of(V.of(0, 0, 0), V.of(20, 20, 20)));
+        assertTrue(boxes.isEmpty());
+        assertEquals(new BoxSet(3), boxes);
+    }
+}
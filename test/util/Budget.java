@@ -0,0 +1,38 @@
+package util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Wall clock and bytes allocated by every live thread, as PuzzleRunner.allocations() counts them;
+// -Dbudget.scale=3 relaxes every budget on slower machines.
+public record Budget(Duration time, long bytes) {
+    private static final double SCALE = Double.parseDouble(System.getProperty("budget.scale", "1"));
+    private static final long MEGABYTE = 1 << 20;
+
+    public Budget {
+        if (time.isNegative() || time.isZero() || bytes <= 0) {
+            throw new IllegalArgumentException("Budget must be positive: time = " + time + ", bytes = " + bytes);
+        }
+    }
+
+    public static Budget of(long millis, long megabytes) {
+        return new Budget(Duration.ofMillis(millis), megabytes * MEGABYTE);
+    }
+
+    public <T> T check(String name, Supplier<T> action) {
+        Map<Long, Long> allocated = PuzzleRunner.allocations();
+        long start = System.nanoTime();
+        T result = action.get();
+        long nanos = System.nanoTime() - start;
+        long used = PuzzleRunner.allocatedSince(allocated);
+        if (nanos > SCALE * time.toNanos() || used > SCALE * bytes) {
+            fail(String.format("%s is over budget: took %d ms of %d ms, allocated %d MB of %d MB",
+                               name, nanos / 1_000_000, (long) (SCALE * time.toMillis()),
+                               used / MEGABYTE, (long) (SCALE * bytes / MEGABYTE)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.LongUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CycleDetectorTest {
+
+    @Test
+    public void test() {
+        LongUnaryOperator next = x -> (x * x + 7) % 1_009;
+        CycleDetector<Long> cycle = new CycleDetector<>();
+        long sum = 0;
+        for (long x = 3; !cycle.record(x, sum); x = next.applyAsLong(x)) {
+            sum += x;
+        }
+
+        long expected = 0;
+        long x = 3;
+        for (int step = 0; step <= 10_000; step++) {
+            assertEquals(expected, cycle.metric(step));
+            expected += x;
+            x = next.applyAsLong(x);
+        }
+        assertEquals(cycle.metric(cycle.offset()) + cycle.increase(), cycle.metric(cycle.offset() + cycle.period()));
+    }
+}
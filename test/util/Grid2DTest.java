@@ -0,0 +1,38 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.lang.System.lineSeparator;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Grid2DTest {
+
+    @Test
+    public void test() {
+        Grid2D grid = Grid2D.padded(3, 2, 1, (byte) '#').load(List.of("abc", "def"));
+        assertEquals("abc" + lineSeparator() + "def", grid.toString());
+        assertEquals(5, grid.stride());
+        assertEquals('e', grid.get(1, 1));
+        assertEquals('#', grid.get(grid.neighbour(grid.index(0, 0), Grid2D.NW)));
+        assertEquals(1, grid.x(grid.index(1, 0)));
+        assertEquals(1, grid.y(grid.index(0, 1)));
+
+        StringBuilder around = new StringBuilder();
+        grid.forEachNeighbour(grid.index(1, 0), idx -> around.append((char) grid.get(idx)));
+        assertEquals("##cfeda#", around.toString());
+
+        Grid2D plain = Grid2D.parse(List.of("abc", "def"));
+        StringBuilder corner = new StringBuilder();
+        plain.forEachNeighbour(plain.index(0, 0), idx -> corner.append((char) plain.get(idx)));
+        assertEquals("bed", corner.toString());
+
+        Grid2D torus = Grid2D.toroidal(3, 2).load(List.of("abc", "def"));
+        StringBuilder wrapped = new StringBuilder();
+        torus.forEachNeighbour4(torus.index(0, 0), idx -> wrapped.append((char) torus.get(idx)));
+        assertEquals("dbdc", wrapped.toString());
+        assertEquals('f', torus.get(-1, -1));
+        assertEquals(1, torus.count((byte) 'a'));
+    }
+}
@@ -0,0 +1,34 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntervalSetTest {
+
+    @Test
+    public void test() {
+        IntervalSet set = new IntervalSet().add(1, 3).add(10, 12).add(4, 5).add(20, 30);
+        assertEquals("{[1..5], [10..12], [20..30]}", set.toString());
+        assertEquals(5 + 3 + 11, set.size());
+
+        set.add(6, 21);
+        assertEquals("{[1..30]}", set.toString());
+
+        set.remove(5, 7).remove(12, 12).remove(29, 40);
+        assertEquals("{[1..4], [8..11], [13..28]}", set.toString());
+        assertEquals(4 + 4 + 16, set.size());
+        assertTrue(set.contains(8));
+        assertFalse(set.contains(12));
+        assertEquals(12, set.nextAbsent(8));
+        assertEquals(29, set.nextAbsent(13));
+
+        IntervalSet other = IntervalSet.of(3, 9).add(20, 40);
+        assertEquals("{[3..4], [8..9], [20..28]}", set.intersect(other).toString());
+        assertEquals("{[1..2], [10..11], [13..19]}", set.subtract(other).toString());
+        assertEquals("{[1..11], [13..40]}", set.union(other).toString());
+        assertEquals("{[10..11], [13..15]}", set.intersect(10, 15).toString());
+    }
+}
@@ -0,0 +1,27 @@
+package util;
+
+import done.advent2021.TrenchMap;
+import done.advent2022.CampCleanup;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainPuzzleTest {
+
+    @Test
+    public void test() {
+        PrintStream console = System.out;
+        MainPuzzle trenchMap = new MainPuzzle(TrenchMap.class);
+        assertEquals("Result: 16605", trenchMap.run());
+        assertSame(console, System.out);
+        assertEquals("Result: 16605", trenchMap.run());
+
+        assertTrue(MainPuzzle.catalog(List.of("TrenchMap")).contains(trenchMap));
+        assertTrue(MainPuzzle.catalog().stream().noneMatch(p -> p.type() == CampCleanup.class));
+    }
+}
@@ -0,0 +1,35 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MemoTest {
+
+    @Test
+    public void test() {
+        Memo memo = new Memo(256);
+        LongUnaryOperator[] fib = new LongUnaryOperator[1];
+        fib[0] = n -> n < 2 ? n : memo.get(n - 1, fib[0]) + memo.get(n - 2, fib[0]);
+        assertEquals(2_880_067_194_370_816_120L, memo.get(90, fib[0]));
+        assertEquals(91L, memo.misses());
+        assertEquals(88L, memo.hits());
+
+        Memo small = new Memo(8);
+        AtomicInteger computed = new AtomicInteger();
+        LongStream.range(0, 100).forEach(key -> small.get(key, k -> computed.incrementAndGet()));
+        assertEquals(8, small.capacity());
+        assertEquals(92L, small.evictions());
+        assertEquals(100L, small.get(99, k -> -1));
+        assertEquals(1L, small.hits());
+
+        Memo shared = Memo.concurrent(1 << 12);
+        long sum = LongStream.range(0, 10_000).parallel().map(key -> shared.get(key % 1_000, k -> 2 * k)).sum();
+        assertEquals(10 * 999_000L, sum);
+        assertEquals(10_000L, shared.hits() + shared.misses());
+    }
+}
@@ -0,0 +1,42 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParseTest {
+
+    @Test
+    public void test() {
+        assertEquals(-42, Parse.parseInt("-42"));
+        assertEquals(9_007_199_254_740_993L, Parse.parseLong("x9007199254740993", 1, 17));
+
+        int[] values = new int[8];
+        assertEquals(4, Parse.ints("2-4,6-8", values));
+        assertEquals(List.of(2, 4, 6, 8), IntStream.of(values).limit(4).boxed().toList());
+        assertEquals(4, Parse.ints("Sensor at x=-2, y=15: beacon at x=-3, y=-4", values));
+        assertEquals(List.of(-2, 15, -3, -4), IntStream.of(values).limit(4).boxed().toList());
+
+        Parse.Cursor cursor = Parse.cursor("move 18 from 7 to 1");
+        assertEquals(18, cursor.nextInt());
+        assertEquals(7, cursor.nextInt());
+        assertTrue(cursor.hasNext());
+        assertEquals(1, cursor.nextInt());
+        assertFalse(cursor.hasNext());
+
+        ByteBuffer bytes = ByteBuffer.wrap("12 -345\n6".getBytes());
+        assertEquals(-345L, Parse.parseLong(bytes, 3, 7));
+        cursor.reset(bytes, 0, bytes.limit());
+        assertEquals(List.of(12L, -345L, 6L), List.of(cursor.nextLong(), cursor.nextLong(), cursor.nextLong()));
+
+        assertEquals(-5, Parse.cursor(ByteBuffer.wrap("12-5 7".getBytes()), 2, 6).nextInt());
+        Parse.Cursor range = Parse.cursor(ByteBuffer.wrap("x 3-4".getBytes()), 2, 5);
+        assertEquals(List.of(3, 4), List.of(range.nextInt(), range.nextInt()));
+    }
+}
@@ -0,0 +1,39 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+import util.SparseAutomaton.Neighbourhood;
+import util.VectorAlgebra.Packing;
+import util.collections.LongSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SparseAutomatonTest {
+
+    @Test
+    public void test() {
+        Packing packing = Packing.of(2);
+        SparseAutomaton life = new SparseAutomaton(Neighbourhood.moore(packing),
+                                                   (alive, neighbours) -> neighbours == 3 || alive && neighbours == 2);
+        LongSet glider = LongSet.of(packing.pack(1, 0), packing.pack(2, 1), packing.pack(0, 2), packing.pack(1, 2), packing.pack(2, 2));
+        glider.forEach(life::add);
+        life.run(40);
+        long shift = packing.offset(10, 10);
+        assertEquals(glider.size(), life.size());
+        glider.forEach(cell -> assertTrue(life.contains(cell + shift)));
+
+        assertEquals(8, Neighbourhood.moore(packing).offsets().length);
+        assertEquals(80, Neighbourhood.moore(Packing.of(4)).offsets().length);
+        assertEquals(6, Neighbourhood.vonNeumann(Packing.of(3)).offsets().length);
+
+        SparseAutomaton hex = new SparseAutomaton(Neighbourhood.hexAxial(packing), (black, neighbours) -> neighbours == 2);
+        assertTrue(hex.flip(packing.pack(0, 0)));
+        assertTrue(hex.flip(packing.pack(2, 0)));
+        assertFalse(hex.flip(packing.pack(2, 0)));
+        hex.add(packing.pack(2, 0));
+        assertEquals(3, hex.step());
+        assertEquals(1, hex.size());
+        assertTrue(hex.contains(packing.pack(1, 0)));
+    }
+}
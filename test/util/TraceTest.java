@@ -0,0 +1,34 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TraceTest {
+
+    @Test
+    public void test() {
+        Trace.Buffer buffer = new Trace.Buffer(4);
+        Trace off = new Trace("off", Trace.Level.OFF, buffer);
+        off.info(() -> {
+            throw new AssertionError("Disabled trace must not build its message");
+        });
+        Trace debug = new Trace("test", Trace.Level.DEBUG, buffer);
+        assertTrue(debug.enabled(Trace.Level.INFO));
+        assertFalse(debug.enabled(Trace.Level.TRACE));
+        debug.trace(() -> "hidden");
+        for (int i = 0; i < 6; i++) {
+            int n = i;
+            debug.debug(() -> "entry " + n);
+        }
+        List<String> entries = new ArrayList<>();
+        buffer.forEach(entries::add);
+        assertEquals(6, buffer.written());
+        assertEquals(List.of("test DEBUG: entry 2", "test DEBUG: entry 3", "test DEBUG: entry 4", "test DEBUG: entry 5"), entries);
+    }
+}
@@ -0,0 +1,46 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+import util.Utils.LongPair;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static util.Utils.zip;
+
+public class UtilsTest {
+
+    @Test
+    public void testZip() {
+        List<LongPair> expected = LongStream.range(0, 777).mapToObj(n -> new LongPair(n, 2 * n)).toList();
+
+        assertEquals(expected, zip(LongStream.range(0, 777).parallel(),
+                                   LongStream.range(0, 777).map(n -> 2 * n),
+                                   LongPair::new).toList());
+        assertEquals(expected, zip(LongStream.range(0, 1000).parallel(),
+                                   LongStream.range(0, 777).map(n -> 2 * n),
+                                   LongPair::new).toList());
+        assertEquals(expected, zip(LongStream.range(0, 1000).parallel(),
+                                   LongStream.range(0, 777).parallel().map(n -> 2 * n),
+                                   LongPair::new).toList());
+        assertEquals(expected, zip(LongStream.range(0, 1000).boxed().toList().stream().parallel(),
+                                   LongStream.range(0, 777).boxed().toList().stream().parallel(),
+                                   (a, b) -> new LongPair(a, 2 * b)).toList());
+        assertEquals(expected, zip(LongStream.range(0, 777).toArray(),
+                                   LongStream.range(0, 1000).map(n -> 2 * n).toArray(),
+                                   LongPair::new).parallel().toList());
+
+        assertTrue(zip(Stream.of("a", "b", "c"), Stream.of(1, 2), (a, b) -> a + b)
+                           .spliterator()
+                           .hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(2, zip(Stream.of("a", "b", "c"), Stream.of(1, 2), (a, b) -> a + b).count());
+        assertNull(zip(Stream.of("a", "b", "c").parallel(), Stream.of(1, 2, 3).map(n -> n + 1), (a, b) -> a + b)
+                           .spliterator()
+                           .trySplit());
+    }
+}
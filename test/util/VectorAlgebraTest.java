@@ -0,0 +1,58 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+import util.VectorAlgebra.Cursor;
+import util.VectorAlgebra.Packing;
+import util.VectorAlgebra.R;
+import util.VectorAlgebra.R1;
+import util.VectorAlgebra.V;
+
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class VectorAlgebraTest {
+
+    @Test
+    public void testProduct() {
+        assertArrayEquals(R.of(V.of(1, -1), V.of(2, 0)).members().toArray(V[]::new),
+                          new R1(1, 2).product(new R1(-1, 0)).members().toArray(V[]::new));
+    }
+
+    @Test
+    public void testPacking() {
+        Packing packing = Packing.of(4);
+        long packed = packing.pack(-3, 0, 7, -32768);
+        assertArrayEquals(new long[]{-3, 0, 7, -32768}, packing.unpack(packed).coords().toArray());
+        assertEquals(packing.pack(-2, -1, 7, -32767), packed + packing.offset(1, -1, 0, 1));
+        assertEquals(V.of(5), Packing.of(1).unpack(Packing.of(1).pack(5)));
+
+        R range = R.of(V.of(-1, 0, -1), V.of(1, 2, 0));
+        LongStream.Builder points = LongStream.builder();
+        range.forEachPoint(points);
+        assertArrayEquals(range.members().map(Packing.of(3)::pack).toArray(Long[]::new),
+                          points.build().boxed().toArray(Long[]::new));
+
+        Cursor cursor = R.of(V.of(0, 0), V.of(1, 1)).cursor(Packing.of(2));
+        int count = 0;
+        while (cursor.next()) {
+            count++;
+        }
+        assertEquals(4, count);
+        assertEquals(80, Packing.of(4).offsets(R.of(V.of(-1, -1, -1, -1), V.of(1, 1, 1, 1))).length - 1);
+    }
+
+    @Test
+    public void testParallelMembers() {
+        R range = R.of(V.of(0, -20, -7), V.of(0, 20, 7));
+        Spliterator<V> spliterator = range.spliterator();
+        assertEquals(41 * 15, spliterator.getExactSizeIfKnown());
+        assertEquals(21 * 15, spliterator.trySplit().getExactSizeIfKnown());
+        assertEquals(20 * 15, spliterator.getExactSizeIfKnown());
+
+        assertArrayEquals(range.members().toArray(V[]::new), range.members().parallel().toArray(V[]::new));
+        assertEquals(41 * 15, range.members().parallel().distinct().count());
+    }
+}
@@ -0,0 +1,39 @@
+package util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BucketQueueTest {
+
+    @Test
+    public void test() {
+        BucketQueue buckets = new BucketQueue(9);
+        LongMinHeap heap = new LongMinHeap();
+        Random random = new Random(42);
+        long base = 0;
+        buckets.push(0, 0);
+        heap.push(0, 0);
+        while (!heap.isEmpty() && heap.size() < 10_000) {
+            base = heap.peekPriority();
+            assertEquals(base, buckets.peekPriority());
+            heap.poll();
+            buckets.poll();
+            for (int i = random.nextInt(4); i > 0; i--) {
+                long priority = base + random.nextInt(10);
+                heap.push(priority, priority);
+                buckets.push(priority, priority);
+            }
+            assertEquals(heap.size(), buckets.size());
+        }
+        assertThrows(IllegalArgumentException.class, () -> buckets.push(1, buckets.peekPriority() + 10));
+        buckets.clear();
+        assertTrue(buckets.isEmpty());
+        assertThrows(NoSuchElementException.class, buckets::poll);
+    }
+}
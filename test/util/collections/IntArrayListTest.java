@@ -0,0 +1,41 @@
+package util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntArrayListTest {
+
+    @Test
+    public void test() {
+        IntArrayList list = new IntArrayList(0);
+        for (int i = 0; i < 100; i++) {
+            list.add(99 - i);
+        }
+        list.addAll(200, 100);
+        assertEquals(102, list.size());
+        assertEquals(99, list.get(0));
+        assertEquals(100, list.removeLast());
+        assertEquals(200, list.removeLast());
+
+        list.sort();
+        assertArrayEquals(IntStream.range(0, 100).toArray(), list.toArray());
+        assertEquals(42, list.indexOf(42));
+        assertEquals(4950, list.stream().sum());
+
+        list.set(0, -1);
+        assertEquals("[-1, 1, 2]", IntArrayList.of(-1, 1, 2).toString());
+        assertEquals(IntArrayList.of(-1, 1, 2), IntArrayList.of(list.get(0), list.get(1), list.get(2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertThrows(NoSuchElementException.class, list::removeLast);
+    }
+}
@@ -0,0 +1,44 @@
+package util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntIntMapTest {
+
+    @Test
+    public void test() {
+        IntIntMap map = new IntIntMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000) - 1_000;
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    map.put(key, i);
+                    expected.put(key, i);
+                }
+                case 1 -> assertEquals(expected.remove(key) != null, map.remove(key));
+                default -> assertEquals(expected.merge(key, 7, Integer::sum).intValue(), map.addTo(key, 7));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value.intValue(), map.get(key)));
+        map.forEach((key, value) -> assertEquals(expected.get(key).intValue(), value));
+
+        assertEquals(-1, map.getOrDefault(5_000, -1));
+        assertThrows(NoSuchElementException.class, () -> map.get(5_000));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+    }
+}
@@ -0,0 +1,36 @@
+package util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongMinHeapTest {
+
+    @Test
+    public void test() {
+        LongMinHeap heap = new LongMinHeap(0);
+        PriorityQueue<long[]> expected = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                long priority = random.nextInt(1_000) - 500;
+                heap.push(priority * 7, priority);
+                expected.add(new long[]{priority});
+            } else {
+                long priority = expected.poll()[0];
+                assertEquals(priority, heap.peekPriority());
+                assertEquals(priority * 7, heap.poll());
+            }
+            assertEquals(expected.size(), heap.size());
+        }
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertThrows(NoSuchElementException.class, heap::poll);
+    }
+}
@@ -0,0 +1,39 @@
+package util.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LongSetTest {
+
+    @Test
+    public void test() {
+        LongSet set = new LongSet();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = (random.nextInt(2_000) - 1_000) * 0x1_0000_0001L;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), set.add(key));
+            } else {
+                assertEquals(expected.remove(key), set.remove(key));
+            }
+        }
+        assertEquals(expected.size(), set.size());
+        expected.forEach(key -> assertTrue(set.contains(key)));
+        set.forEach(key -> assertTrue(expected.contains(key)));
+        assertEquals(LongSet.of(set.toArray()), set);
+
+        assertEquals("{-1, 0, 3}", LongSet.of(3, 0, -1, 3).toString());
+
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+    }
+}